@@ -0,0 +1,41 @@
+// Writes .br and .gz next to every compressible file in build/, so the backend can serve
+// precompressed variants without compressing on each request.
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const BUILD_DIR = path.join(__dirname, '..', 'build');
+const COMPRESSIBLE = /\.(html|js|css|json|map|svg|txt|xml|ico|webmanifest)$/;
+const MIN_BYTES = 1024;
+
+function walk(dir) {
+  return fs.readdirSync(dir, { withFileTypes: true }).flatMap((entry) => {
+    const fullPath = path.join(dir, entry.name);
+    return entry.isDirectory() ? walk(fullPath) : [fullPath];
+  });
+}
+
+let written = 0;
+for (const file of walk(BUILD_DIR)) {
+  if (!COMPRESSIBLE.test(file)) continue;
+  const content = fs.readFileSync(file);
+  if (content.length < MIN_BYTES) continue;
+
+  const brotli = zlib.brotliCompressSync(content, {
+    params: {
+      [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+      [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length,
+    },
+  });
+  const gzip = zlib.gzipSync(content, { level: zlib.constants.Z_BEST_COMPRESSION });
+
+  if (brotli.length < content.length) {
+    fs.writeFileSync(`${file}.br`, brotli);
+    written++;
+  }
+  if (gzip.length < content.length) {
+    fs.writeFileSync(`${file}.gz`, gzip);
+    written++;
+  }
+}
+console.log(`Precompressed ${written} variants in ${BUILD_DIR}`);
@@ -0,0 +1,68 @@
+package com.fitnessapp.benchmark;
+
+import com.fitnessapp.FitnessAppApplication;
+import com.fitnessapp.entity.Exercise;
+import com.fitnessapp.enums.ExerciseCategory;
+import com.fitnessapp.service.ExerciseService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The exercise browse/filter path behind GET /api/exercises, against the seeded catalog in an in-memory H2 database
+ * (the {@code test} profile). Category filters are served from the "exercises" cache after the first call; name
+ * search always reaches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExerciseFilterBenchmark {
+
+    private final Pageable firstPage = PageRequest.of(0, 20);
+
+    private ConfigurableApplicationContext context;
+    private ExerciseService exerciseService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(FitnessAppApplication.class)
+                .profiles("test")
+                .properties(
+                        "EMAIL_FROM=benchmark@example.com",
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.fitnessapp=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+        exerciseService = context.getBean(ExerciseService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Exercise> allActive() {
+        return exerciseService.getAllActiveExercises(firstPage);
+    }
+
+    @Benchmark
+    public Page<Exercise> byCategory() {
+        return exerciseService.getExercisesByCategory(ExerciseCategory.STRENGTH, firstPage);
+    }
+
+    @Benchmark
+    public Page<Exercise> searchByName() {
+        return exerciseService.searchExercises("press", firstPage);
+    }
+}
@@ -0,0 +1,111 @@
+package com.fitnessapp.benchmark;
+
+import com.fitnessapp.entity.Exercise;
+import com.fitnessapp.entity.ExerciseSet;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.Workout;
+import com.fitnessapp.entity.WorkoutExercise;
+import com.fitnessapp.enums.ExerciseCategory;
+import com.fitnessapp.enums.ExerciseDifficulty;
+import com.fitnessapp.enums.ExerciseEquipment;
+import com.fitnessapp.enums.MuscleGroup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Detached entity graphs shaped like a real training history, so serialization benchmarks exercise the same
+ * properties and back-references as the API responses.
+ */
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("benchmark_user");
+        user.setEmail("benchmark@example.com");
+        user.setPassword("$2a$10$abcdefghijklmnopqrstuvABCDEFGHIJKLMNOPQRSTUVWXYZ01234");
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        return user;
+    }
+
+    static List<Workout> workouts(User user, int count, int exercisesPerWorkout, int setsPerExercise) {
+        List<Exercise> catalog = new ArrayList<>();
+        for (int i = 0; i < exercisesPerWorkout; i++) {
+            catalog.add(exercise(i + 1L));
+        }
+
+        List<Workout> workouts = new ArrayList<>(count);
+        long setId = 1;
+        for (int w = 0; w < count; w++) {
+            LocalDateTime start = LocalDateTime.of(2025, 1, 1, 7, 0).plusDays(w);
+            Workout workout = new Workout();
+            workout.setId(w + 1L);
+            workout.setName("Workout " + (w + 1));
+            workout.setDescription("Upper/lower split, week " + (w / 4 + 1));
+            workout.setUser(user);
+            workout.setStatus(Workout.Status.COMPLETED);
+            workout.setScheduledDate(start);
+            workout.setStartedAt(start);
+            workout.setCompletedAt(start.plusMinutes(55));
+            workout.setDurationMinutes(55);
+            workout.setCaloriesBurned(420);
+            workout.setVersion(3L);
+
+            List<WorkoutExercise> exercises = new ArrayList<>(exercisesPerWorkout);
+            for (int e = 0; e < exercisesPerWorkout; e++) {
+                WorkoutExercise workoutExercise = new WorkoutExercise();
+                workoutExercise.setId((long) w * exercisesPerWorkout + e + 1);
+                workoutExercise.setWorkout(workout);
+                workoutExercise.setExercise(catalog.get(e));
+                workoutExercise.setOrderIndex(e);
+                workoutExercise.setPlannedSets(setsPerExercise);
+                workoutExercise.setPlannedReps(8);
+                workoutExercise.setPlannedWeight(60.0 + e * 5);
+                workoutExercise.setRestTimeSeconds(90);
+                workoutExercise.setStatus(WorkoutExercise.Status.COMPLETED);
+                workoutExercise.setCompletedSets(setsPerExercise);
+
+                List<ExerciseSet> sets = new ArrayList<>(setsPerExercise);
+                for (int s = 0; s < setsPerExercise; s++) {
+                    ExerciseSet set = new ExerciseSet();
+                    set.setId(setId++);
+                    set.setWorkoutExercise(workoutExercise);
+                    set.setSetNumber(s + 1);
+                    set.setActualReps(8 - s % 3);
+                    set.setActualWeight(60.0 + e * 5 + s * 2.5);
+                    set.setRpeScore(7 + s % 3);
+                    set.setRestTimeSeconds(90);
+                    set.setStatus(ExerciseSet.Status.COMPLETED);
+                    set.setStartedAt(start.plusMinutes(e * 10L + s * 2L));
+                    set.setCompletedAt(start.plusMinutes(e * 10L + s * 2L + 1));
+                    sets.add(set);
+                }
+                workoutExercise.setActualSets(sets);
+                exercises.add(workoutExercise);
+            }
+            workout.setExercises(exercises);
+            workouts.add(workout);
+        }
+        return workouts;
+    }
+
+    private static Exercise exercise(long id) {
+        Exercise exercise = new Exercise();
+        exercise.setId(id);
+        exercise.setName("Exercise " + id);
+        exercise.setDescription("Compound movement number " + id);
+        exercise.setCategory(ExerciseCategory.values()[(int) (id % ExerciseCategory.values().length)]);
+        exercise.setEquipment(ExerciseEquipment.values()[(int) (id % ExerciseEquipment.values().length)]);
+        exercise.setDifficulty(ExerciseDifficulty.values()[(int) (id % ExerciseDifficulty.values().length)]);
+        exercise.setPrimaryMuscles(List.of(MuscleGroup.values()[(int) (id % MuscleGroup.values().length)]));
+        exercise.setSecondaryMuscles(List.of());
+        exercise.setInstructions("Brace, control the eccentric, drive up.");
+        return exercise;
+    }
+}
@@ -0,0 +1,111 @@
+package com.fitnessapp.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fitnessapp.config.JacksonConfig;
+import com.fitnessapp.dto.WorkoutExerciseDTO;
+import com.fitnessapp.entity.ExerciseSet;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.Workout;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response serialization with the mappers from {@link JacksonConfig}: a page of workout history as served by
+ * GET /api/workouts, the export-data document, a set log, and the same workout graph as entity-free DTOs.
+ * The gzip and CBOR variants show the cost side of the smaller payloads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "200"})
+    public int workouts;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper dtoObjectMapper;
+    private ObjectMapper cborObjectMapper;
+
+    private PageImpl<Workout> workoutPage;
+    private Map<String, Object> exportData;
+    private List<ExerciseSet> sets;
+    private List<WorkoutExerciseDTO> workoutExerciseDtos;
+    private ObjectWriter dtoListWriter;
+
+    @Setup
+    public void setUp() {
+        JacksonConfig jacksonConfig = new JacksonConfig();
+        objectMapper = jacksonConfig.objectMapper();
+        dtoObjectMapper = jacksonConfig.dtoObjectMapper();
+        cborObjectMapper = jacksonConfig.cborObjectMapper();
+
+        User user = Fixtures.user();
+        List<Workout> history = Fixtures.workouts(user, workouts, 6, 4);
+        workoutPage = new PageImpl<>(history, PageRequest.of(0, workouts), workouts * 5L);
+        sets = history.get(0).getExercises().get(0).getActualSets();
+        workoutExerciseDtos = history.stream()
+                .flatMap(workout -> workout.getExercises().stream())
+                .map(WorkoutExerciseDTO::fromEntity)
+                .toList();
+        dtoListWriter = dtoObjectMapper.writerFor(
+                dtoObjectMapper.getTypeFactory().constructCollectionType(List.class, WorkoutExerciseDTO.class));
+
+        exportData = new HashMap<>();
+        exportData.put("profile", Map.of("username", user.getUsername(), "email", user.getEmail()));
+        exportData.put("workouts", history);
+        exportData.put("metadata", Map.of("exportDate", LocalDateTime.of(2025, 6, 1, 12, 0), "version", "1.0"));
+    }
+
+    @Benchmark
+    public byte[] workoutPageJson() throws IOException {
+        return objectMapper.writeValueAsBytes(workoutPage);
+    }
+
+    @Benchmark
+    public byte[] workoutPageJsonGzip() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            objectMapper.writeValue(gzip, workoutPage);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] workoutPageCbor() throws IOException {
+        return cborObjectMapper.writeValueAsBytes(workoutPage);
+    }
+
+    @Benchmark
+    public byte[] exportDataJson() throws IOException {
+        return objectMapper.writeValueAsBytes(exportData);
+    }
+
+    @Benchmark
+    public byte[] exerciseSetsJson() throws IOException {
+        return objectMapper.writeValueAsBytes(sets);
+    }
+
+    @Benchmark
+    public byte[] workoutExerciseDtosWithHibernateModule() throws IOException {
+        return objectMapper.writeValueAsBytes(workoutExerciseDtos);
+    }
+
+    @Benchmark
+    public byte[] workoutExerciseDtosWithDtoMapper() throws IOException {
+        return dtoListWriter.writeValueAsBytes(workoutExerciseDtos);
+    }
+}
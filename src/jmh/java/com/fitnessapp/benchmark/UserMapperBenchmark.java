@@ -0,0 +1,30 @@
+package com.fitnessapp.benchmark;
+
+import com.fitnessapp.dto.mapper.UserMapper;
+import com.fitnessapp.dto.response.user.UserResponse;
+import com.fitnessapp.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMapperBenchmark {
+
+    private final UserMapper userMapper = new UserMapper();
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = Fixtures.user();
+    }
+
+    @Benchmark
+    public UserResponse userToUserResponse() {
+        return userMapper.userToUserResponse(user);
+    }
+}
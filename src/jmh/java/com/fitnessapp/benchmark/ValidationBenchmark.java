@@ -0,0 +1,58 @@
+package com.fitnessapp.benchmark;
+
+import com.fitnessapp.dto.request.auth.RegisterRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordValidator and UsernameValidator through Hibernate Validator, the way registration and password changes
+ * reach them. A rejected password builds one violation per failed rule, so both outcomes are measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> validPassword() {
+        return validator.validateValue(RegisterRequest.class, "password", "Str0ng!Passw0rd");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> weakPassword() {
+        return validator.validateValue(RegisterRequest.class, "password", "password");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> validUsername() {
+        return validator.validateValue(RegisterRequest.class, "username", "benchmark_user");
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<RegisterRequest>> invalidUsername() {
+        return validator.validateValue(RegisterRequest.class, "username", "__bad name__");
+    }
+}
@@ -0,0 +1,78 @@
+package com.fitnessapp.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches the HikariCP pools of the app under test while the load runs. Hikari's own meters give the time spent
+ * waiting for a connection (acquire) and holding one (usage); the peaks of connections in use and of threads waiting
+ * are sampled here, since the gauges only show the current value.
+ */
+class ConnectionPoolStats implements AutoCloseable {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, double[]> peaks = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("loadtest-pool-sampler").factory());
+
+    ConnectionPoolStats(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        sampler.scheduleAtFixedRate(this::sample, 0, 50, TimeUnit.MILLISECONDS);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%nConnection pools (wait = getConnection, held = connection checked out; p99 is a bucket bound)%n");
+        out.printf("%-10s %5s %11s %11s %11s %11s %11s %11s %8s%n",
+                "Pool", "Size", "Peak in use", "Peak queued", "Wait mean", "Wait p99", "Held mean", "Held p99", "Timeouts");
+        for (Timer acquire : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+            String pool = acquire.getId().getTag("pool");
+            Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", pool).timer();
+            Gauge max = meterRegistry.find("hikaricp.connections.max").tag("pool", pool).gauge();
+            Counter timeouts = meterRegistry.find("hikaricp.connections.timeout").tag("pool", pool).counter();
+            double[] peak = peaks.getOrDefault(pool, new double[2]);
+            out.printf("%-10s %5.0f %11.0f %11.0f %8.2f ms %8.2f ms %8.2f ms %8.2f ms %8.0f%n",
+                    pool, max != null ? max.value() : Double.NaN, peak[0], peak[1],
+                    acquire.mean(TimeUnit.MILLISECONDS), bucketPercentileMillis(acquire.takeSnapshot(), 0.99),
+                    usage != null ? usage.mean(TimeUnit.MILLISECONDS) : Double.NaN,
+                    usage != null ? bucketPercentileMillis(usage.takeSnapshot(), 0.99) : Double.NaN,
+                    timeouts != null ? timeouts.count() : 0);
+        }
+    }
+
+    @Override
+    public void close() {
+        sampler.shutdownNow();
+    }
+
+    private void sample() {
+        for (Gauge active : meterRegistry.find("hikaricp.connections.active").gauges()) {
+            String pool = active.getId().getTag("pool");
+            Gauge pending = meterRegistry.find("hikaricp.connections.pending").tag("pool", pool).gauge();
+            double[] peak = peaks.computeIfAbsent(pool, p -> new double[2]);
+            peak[0] = Math.max(peak[0], active.value());
+            peak[1] = Math.max(peak[1], pending != null ? pending.value() : 0);
+        }
+    }
+
+    // Upper bound of the first histogram bucket holding the percentile (buckets come from percentiles-histogram)
+    private static double bucketPercentileMillis(HistogramSnapshot snapshot, double percentile) {
+        double target = snapshot.count() * percentile;
+        for (CountAtBucket bucket : snapshot.histogramCounts()) {
+            if (bucket.count() >= target) {
+                return bucket.bucket(TimeUnit.MILLISECONDS);
+            }
+        }
+        return snapshot.max(TimeUnit.MILLISECONDS);
+    }
+}
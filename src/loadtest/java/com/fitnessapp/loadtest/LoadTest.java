@@ -0,0 +1,193 @@
+package com.fitnessapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnessapp.FitnessAppApplication;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the application in-process on an in-memory H2 database (PostgreSQL mode) and drives it with
+ * {@link VirtualUser}s over real HTTP, each on its own virtual thread, started evenly across the ramp-up.
+ *
+ * Prints throughput, latency percentiles and JDBC statements per request for every endpoint, and how the connection
+ * pool held up, and writes the same tables plus each endpoint's full HdrHistogram percentile distribution to
+ * {@code report.txt} in the report directory. Run through the {@code loadtest} Maven profile.
+ *
+ * {@code -Dloadtest.db-url} (with {@code loadtest.db-username} and {@code loadtest.db-password}) points the app at a
+ * PostgreSQL database instead, for pool sizing runs. Use a scratch database: the exercise seed data is reset.
+ */
+public class LoadTest {
+
+    record Settings(int users, int workouts, int exercises, int sets, long thinkTimeMillis, long rampUpSeconds,
+                    Path reportDir, String dbUrl, String dbUsername, String dbPassword) {
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    Integer.getInteger("loadtest.users", 20),
+                    Integer.getInteger("loadtest.workouts", 3),
+                    Integer.getInteger("loadtest.exercises", 4),
+                    Integer.getInteger("loadtest.sets", 3),
+                    Long.getLong("loadtest.think-time-ms", 250),
+                    Long.getLong("loadtest.ramp-up-seconds", 5),
+                    Path.of(System.getProperty("loadtest.report-dir", "target/loadtest")),
+                    System.getProperty("loadtest.db-url", ""),
+                    System.getProperty("loadtest.db-username", ""),
+                    System.getProperty("loadtest.db-password", ""));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--jwt.secret=load-test-secret-key-that-is-long-enough-for-hmac-sha256",
+                "--EMAIL_FROM=loadtest@example.com",
+                "--LOG_LEVEL=WARN",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.web.servlet.DispatcherServlet=WARN",
+                "--logging.level.org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver=WARN"));
+        if (settings.dbUrl().isEmpty()) {
+            arguments.addAll(List.of(
+                    "--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1",
+                    "--spring.datasource.driver-class-name=org.h2.Driver",
+                    "--spring.datasource.username=sa",
+                    "--spring.datasource.password=",
+                    "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                    "--spring.jpa.hibernate.ddl-auto=create-drop"));
+        } else {
+            arguments.addAll(List.of(
+                    "--spring.datasource.url=" + settings.dbUrl(),
+                    "--spring.datasource.username=" + settings.dbUsername(),
+                    "--spring.datasource.password=" + settings.dbPassword()));
+        }
+        ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(FitnessAppApplication.class, StatementCounter.class)
+                        .run(arguments.toArray(String[]::new));
+        try {
+            URI baseUri = URI.create("http://localhost:" + context.getWebServer().getPort());
+            run(settings, baseUri, context.getBean(StatementCounter.class), context.getBean(MeterRegistry.class));
+        } finally {
+            context.close();
+        }
+    }
+
+    private static void run(Settings settings, URI baseUri, StatementCounter statementCounter,
+                            MeterRegistry meterRegistry) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             ConnectionPoolStats poolStats = new ConnectionPoolStats(meterRegistry)) {
+            // Plain HTTP/1.1 like the browser-facing connector; skips the h2c upgrade attempt on every new connection
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            List<Long> exerciseIds = exerciseIds(httpClient, baseUri, objectMapper);
+
+            System.out.printf("Load test: %d users x %d workouts (%d exercises x %d sets), think time %d ms, ramp-up %d s%n",
+                    settings.users(), settings.workouts(), settings.exercises(), settings.sets(),
+                    settings.thinkTimeMillis(), settings.rampUpSeconds());
+
+            long rampUpStepNanos = settings.users() > 1
+                    ? TimeUnit.SECONDS.toNanos(settings.rampUpSeconds()) / (settings.users() - 1) : 0;
+            long start = System.nanoTime();
+            List<Future<?>> users = new ArrayList<>(settings.users());
+            for (int i = 0; i < settings.users(); i++) {
+                long startAt = start + i * rampUpStepNanos;
+                VirtualUser user = new VirtualUser(i + 1, settings, baseUri, httpClient, objectMapper, exerciseIds,
+                        endpoint -> stats.computeIfAbsent(endpoint, EndpointStats::new));
+                users.add(executor.submit(() -> {
+                    TimeUnit.NANOSECONDS.sleep(Math.max(0, startAt - System.nanoTime()));
+                    user.run();
+                    return null;
+                }));
+            }
+            for (Future<?> user : users) {
+                user.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+            report(settings, stats, statementCounter, poolStats, elapsedSeconds);
+        }
+    }
+
+    private static List<Long> exerciseIds(HttpClient httpClient, URI baseUri, ObjectMapper objectMapper) throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(
+                HttpRequest.newBuilder(baseUri.resolve("/api/exercises?size=100")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode exercise : objectMapper.readTree(response.body()).path("content")) {
+            ids.add(exercise.path("id").asLong());
+        }
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No exercises seeded; GET /api/exercises returned " + response.statusCode());
+        }
+        return ids;
+    }
+
+    private static void report(Settings settings, Map<String, EndpointStats> stats, StatementCounter statementCounter,
+                               ConnectionPoolStats poolStats, double elapsedSeconds) throws IOException {
+        List<EndpointStats> endpoints = stats.values().stream()
+                .sorted(Comparator.comparing(EndpointStats::endpoint))
+                .toList();
+
+        Files.createDirectories(settings.reportDir());
+        Path reportFile = settings.reportDir().resolve("report.txt");
+        try (PrintStream file = new PrintStream(Files.newOutputStream(reportFile))) {
+            for (PrintStream out : List.of(System.out, file)) {
+                printSummary(out, endpoints, statementCounter, elapsedSeconds);
+                poolStats.print(out);
+            }
+            for (EndpointStats endpoint : endpoints) {
+                file.printf("%n=== %s (latency in ms) ===%n", endpoint.endpoint());
+                endpoint.latencies().outputPercentileDistribution(file, 1000.0);
+            }
+        }
+        System.out.println("Report with full latency histograms: " + reportFile.toAbsolutePath());
+    }
+
+    private static void printSummary(PrintStream out, List<EndpointStats> endpoints, StatementCounter statementCounter,
+                                     double elapsedSeconds) {
+        long totalRequests = endpoints.stream().mapToLong(EndpointStats::requests).sum();
+        long totalErrors = endpoints.stream().mapToLong(EndpointStats::errors).sum();
+
+        out.printf("%nDuration %.1f s, %d requests, %d errors, %.1f req/s%n%n", elapsedSeconds, totalRequests, totalErrors,
+                totalRequests / elapsedSeconds);
+        out.printf("%-66s %8s %6s %8s %8s %8s %8s %8s %8s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p99 ms", "Max ms", "SQL/req");
+        for (EndpointStats endpoint : endpoints) {
+            long requests = endpoint.requests();
+            out.printf("%-66s %8d %6d %8.1f %8.2f %8.2f %8.2f %8.2f %8.1f%n",
+                    endpoint.endpoint(), requests, endpoint.errors(), requests / elapsedSeconds,
+                    endpoint.percentileMillis(50), endpoint.percentileMillis(90), endpoint.percentileMillis(99),
+                    endpoint.maxMillis(), (double) statementCounter.statements(endpoint.endpoint()) / requests);
+        }
+        out.printf("%nStatements outside requests (write-behind flushes, scheduled and async work): %d%n",
+                statementCounter.statements(StatementCounter.BACKGROUND));
+    }
+}
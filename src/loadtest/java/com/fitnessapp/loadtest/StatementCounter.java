@@ -0,0 +1,106 @@
+package com.fitnessapp.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts JDBC statements per endpoint inside the app under test. The DataSource is wrapped in a datasource-proxy, and
+ * a filter ahead of everything else (security included) opens a per-request tally that is filed under the matched
+ * handler pattern once the request completes. Statements issued outside a request (write-behind flushes, scheduled
+ * jobs, async listeners) are filed under {@link #BACKGROUND}.
+ *
+ * Registered as an extra source by {@link LoadTest}, deliberately not a {@code @Configuration} so component scanning
+ * never picks it up.
+ */
+public class StatementCounter {
+
+    public static final String BACKGROUND = "(background)";
+
+    private static final ThreadLocal<long[]> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final Map<String, LongAdder> statementsByEndpoint = new ConcurrentHashMap<>();
+
+    public long statements(String endpoint) {
+        LongAdder adder = statementsByEndpoint.get(endpoint);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Bean
+    public static BeanPostProcessor statementCountingDataSource(StatementCounter counter) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(counter.listener())
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> statementCountingFilter() {
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                    throws ServletException, IOException {
+                long[] tally = new long[1];
+                CURRENT_REQUEST.set(tally);
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    CURRENT_REQUEST.remove();
+                    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    String endpoint = request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+                    add(endpoint, tally[0]);
+                }
+            }
+        });
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private QueryExecutionListener listener() {
+        return new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                long[] tally = CURRENT_REQUEST.get();
+                if (tally != null) {
+                    tally[0] += queryInfoList.size();
+                } else {
+                    add(BACKGROUND, queryInfoList.size());
+                }
+            }
+        };
+    }
+
+    private void add(String endpoint, long statements) {
+        statementsByEndpoint.computeIfAbsent(endpoint, key -> new LongAdder()).add(statements);
+    }
+}
@@ -0,0 +1,170 @@
+package com.fitnessapp.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * One simulated athlete: registers, logs in, then trains through a number of workouts the way the app does it
+ * (create -> add exercises -> start -> per exercise: start, log and complete each set, complete -> complete workout)
+ * and checks their personal records after each session. Pauses for a jittered think time between user actions.
+ *
+ * Endpoint labels use the controllers' mapping patterns so they line up with the server-side statement counts.
+ */
+class VirtualUser implements Runnable {
+
+    private final int number;
+    private final LoadTest.Settings settings;
+    private final URI baseUri;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final List<Long> exerciseIds;
+    private final Function<String, EndpointStats> stats;
+
+    private String token;
+
+    VirtualUser(int number, LoadTest.Settings settings, URI baseUri, HttpClient httpClient, ObjectMapper objectMapper,
+                List<Long> exerciseIds, Function<String, EndpointStats> stats) {
+        this.number = number;
+        this.settings = settings;
+        this.baseUri = baseUri;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.exerciseIds = exerciseIds;
+        this.stats = stats;
+    }
+
+    @Override
+    public void run() {
+        String username = "load_user_" + number;
+        String password = "L0ad!Test" + number;
+        try {
+            call("POST", "/api/auth/register", "/api/auth/register", Map.of(
+                    "username", username,
+                    "email", username + "@example.com",
+                    "password", password,
+                    "firstName", "Load",
+                    "lastName", "User " + number));
+            think();
+            token = call("POST", "/api/auth/login", "/api/auth/login",
+                    Map.of("username", username, "password", password)).path("token").asText();
+        } catch (ScenarioException e) {
+            return;
+        }
+
+        for (int i = 0; i < settings.workouts(); i++) {
+            try {
+                think();
+                workout(i);
+                think();
+                call("GET", "/api/users/personal-records", "/api/users/personal-records", null);
+            } catch (ScenarioException e) {
+                // Already counted as an error on its endpoint; the next workout starts from scratch
+            }
+        }
+    }
+
+    private void workout(int index) {
+        long workoutId = call("POST", "/api/workouts", "/api/workouts",
+                Map.of("name", "Session " + (index + 1))).path("id").asLong();
+
+        long[] workoutExerciseIds = new long[settings.exercises()];
+        for (int e = 0; e < workoutExerciseIds.length; e++) {
+            long exerciseId = exerciseIds.get(ThreadLocalRandom.current().nextInt(exerciseIds.size()));
+            workoutExerciseIds[e] = call("POST", "/api/workouts/" + workoutId + "/exercises/" + exerciseId,
+                    "/api/workouts/{workoutId}/exercises/{exerciseId}", Map.of(
+                            "orderIndex", e,
+                            "plannedSets", settings.sets(),
+                            "plannedReps", 8,
+                            "plannedWeight", 40 + 10 * e)).path("id").asLong();
+        }
+
+        think();
+        call("POST", "/api/workouts/" + workoutId + "/start", "/api/workouts/{id}/start", null);
+
+        for (int e = 0; e < workoutExerciseIds.length; e++) {
+            long workoutExerciseId = workoutExerciseIds[e];
+            call("POST", "/api/workouts/" + workoutId + "/exercises/" + workoutExerciseId + "/start",
+                    "/api/workouts/{workoutId}/exercises/{workoutExerciseId}/start", null);
+            for (int s = 0; s < settings.sets(); s++) {
+                think();
+                long setId = call("POST", "/api/workouts/exercises/" + workoutExerciseId + "/sets",
+                        "/api/workouts/exercises/{workoutExerciseId}/sets", Map.of(
+                                "setNumber", s + 1,
+                                "actualReps", 8 - s % 3,
+                                "actualWeight", 40 + 10 * e + 2.5 * s)).path("id").asLong();
+                call("POST", "/api/workouts/sets/" + setId + "/complete", "/api/workouts/sets/{setId}/complete", null);
+            }
+            call("POST", "/api/workouts/" + workoutId + "/exercises/" + workoutExerciseId + "/complete",
+                    "/api/workouts/{workoutId}/exercises/{workoutExerciseId}/complete", null);
+        }
+
+        think();
+        call("POST", "/api/workouts/" + workoutId + "/complete", "/api/workouts/{id}/complete", null);
+    }
+
+    private JsonNode call(String method, String path, String pattern, Object body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Accept", "application/json");
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<byte[]> response;
+        long start = System.nanoTime();
+        try {
+            if (body != null) {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            } else {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            }
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats.apply(method + " " + pattern).record(System.nanoTime() - start, false);
+            throw new ScenarioException(method + " " + path + " failed: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScenarioException("Interrupted");
+        }
+
+        boolean success = response.statusCode() / 100 == 2;
+        stats.apply(method + " " + pattern).record(System.nanoTime() - start, success);
+        if (!success) {
+            throw new ScenarioException(method + " " + path + " returned " + response.statusCode());
+        }
+        try {
+            return response.body().length == 0 ? objectMapper.missingNode() : objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new ScenarioException(method + " " + path + " returned unreadable JSON: " + e.getMessage());
+        }
+    }
+
+    private void think() {
+        long mean = settings.thinkTimeMillis();
+        if (mean <= 0) {
+            return;
+        }
+        try {
+            // Uniform jitter of +/-50% keeps the users from moving in lockstep
+            Thread.sleep(ThreadLocalRandom.current().nextLong(mean / 2, mean + mean / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ScenarioException("Interrupted");
+        }
+    }
+
+    static class ScenarioException extends RuntimeException {
+        ScenarioException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
@@ -6,25 +6,49 @@ import com.fitnessapp.enums.ExerciseEquipment;
 import com.fitnessapp.enums.ExerciseDifficulty;
 import com.fitnessapp.enums.MuscleGroup;
 import com.fitnessapp.service.ExerciseService;
+import com.fitnessapp.service.ResourceVersionService;
+import com.fitnessapp.web.BinaryMediaTypes;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/exercises")
 public class ExerciseController {
 
-    private final ExerciseService exerciseService;
+    // Enum lists only change with a deploy, so their ETags are fixed for the life of the process
+    private static final String CATEGORIES_ETAG = enumETag(ExerciseCategory.values());
+    private static final String EQUIPMENT_ETAG = enumETag(ExerciseEquipment.values());
+    private static final String DIFFICULTIES_ETAG = enumETag(ExerciseDifficulty.values());
+    private static final String MUSCLE_GROUPS_ETAG = enumETag(MuscleGroup.values());
 
-    public ExerciseController(ExerciseService exerciseService) {
+    private final ExerciseService exerciseService;
+    private final ResourceVersionService resourceVersionService;
+    private final CacheControl catalogCacheControl;
+    private final CacheControl enumCacheControl;
+
+    public ExerciseController(ExerciseService exerciseService,
+                              ResourceVersionService resourceVersionService,
+                              @Value("${app.http-cache.catalog-max-age:5m}") Duration catalogMaxAge,
+                              @Value("${app.http-cache.enum-max-age:1d}") Duration enumMaxAge) {
         this.exerciseService = exerciseService;
+        this.resourceVersionService = resourceVersionService;
+        this.catalogCacheControl = CacheControl.maxAge(catalogMaxAge).cachePublic();
+        this.enumCacheControl = CacheControl.maxAge(enumMaxAge).cachePublic();
     }
 
     @GetMapping
@@ -33,7 +57,14 @@ public class ExerciseController {
             @RequestParam(required = false) ExerciseEquipment equipment,
             @RequestParam(required = false) ExerciseDifficulty difficulty,
             @RequestParam(required = false) String search,
-            Pageable pageable) {
+            Pageable pageable,
+            WebRequest webRequest) {
+
+        // Answer a matching If-None-Match before the catalog is queried or serialized
+        String etag = BinaryMediaTypes.variantETag(resourceVersionService.catalogETag(), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag, catalogCacheControl);
+        }
 
         Page<Exercise> exercises;
 
@@ -49,7 +80,7 @@ public class ExerciseController {
             exercises = exerciseService.getAllActiveExercises(pageable);
         }
 
-        return ResponseEntity.ok(exercises);
+        return ResponseEntity.ok().eTag(etag).cacheControl(catalogCacheControl).varyBy(HttpHeaders.ACCEPT).body(exercises);
     }
 
     @GetMapping("/{id}")
@@ -87,22 +118,40 @@ public class ExerciseController {
     }
 
     @GetMapping("/categories")
-    public ResponseEntity<ExerciseCategory[]> getCategories() {
-        return ResponseEntity.ok(ExerciseCategory.values());
+    public ResponseEntity<ExerciseCategory[]> getCategories(WebRequest webRequest) {
+        return enumResponse(ExerciseCategory.values(), CATEGORIES_ETAG, webRequest);
     }
 
     @GetMapping("/equipment")
-    public ResponseEntity<ExerciseEquipment[]> getEquipment() {
-        return ResponseEntity.ok(ExerciseEquipment.values());
+    public ResponseEntity<ExerciseEquipment[]> getEquipment(WebRequest webRequest) {
+        return enumResponse(ExerciseEquipment.values(), EQUIPMENT_ETAG, webRequest);
     }
 
     @GetMapping("/difficulties")
-    public ResponseEntity<ExerciseDifficulty[]> getDifficulties() {
-        return ResponseEntity.ok(ExerciseDifficulty.values());
+    public ResponseEntity<ExerciseDifficulty[]> getDifficulties(WebRequest webRequest) {
+        return enumResponse(ExerciseDifficulty.values(), DIFFICULTIES_ETAG, webRequest);
     }
 
     @GetMapping("/muscle-groups")
-    public ResponseEntity<MuscleGroup[]> getMuscleGroups() {
-        return ResponseEntity.ok(MuscleGroup.values());
+    public ResponseEntity<MuscleGroup[]> getMuscleGroups(WebRequest webRequest) {
+        return enumResponse(MuscleGroup.values(), MUSCLE_GROUPS_ETAG, webRequest);
+    }
+
+    private <T> ResponseEntity<T> enumResponse(T values, String enumETag, WebRequest webRequest) {
+        String etag = BinaryMediaTypes.variantETag(enumETag, webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified(etag, enumCacheControl);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(enumCacheControl).varyBy(HttpHeaders.ACCEPT).body(values);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT).build();
+    }
+
+    private static String enumETag(Enum<?>[] values) {
+        String names = Arrays.stream(values).map(Enum::name).collect(Collectors.joining(","));
+        return "\"" + Integer.toHexString(names.hashCode()) + "\"";
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.fitnessapp.controller;
+
+import com.fitnessapp.dto.LeaderboardEntryDTO;
+import com.fitnessapp.service.LeaderboardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/leaderboards")
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    public LeaderboardController(LeaderboardService leaderboardService) {
+        this.leaderboardService = leaderboardService;
+    }
+
+    @GetMapping("/exercises/{exerciseId}")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getOneRepMaxLeaderboard(@PathVariable Long exerciseId,
+                                                                             @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getOneRepMaxLeaderboard(exerciseId, limit));
+    }
+
+    @GetMapping("/exercises/{exerciseId}/me")
+    public ResponseEntity<LeaderboardEntryDTO> getMyOneRepMaxRank(@PathVariable Long exerciseId,
+                                                                 Authentication authentication) {
+        return leaderboardService.getOneRepMaxRank(authentication.getName(), exerciseId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/weekly-volume")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getWeeklyVolumeLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getWeeklyVolumeLeaderboard(limit));
+    }
+
+    @GetMapping("/weekly-volume/me")
+    public ResponseEntity<LeaderboardEntryDTO> getMyWeeklyVolumeRank(Authentication authentication) {
+        return leaderboardService.getWeeklyVolumeRank(authentication.getName())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/streaks")
+    public ResponseEntity<List<LeaderboardEntryDTO>> getStreakLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leaderboardService.getStreakLeaderboard(limit));
+    }
+
+    @GetMapping("/streaks/me")
+    public ResponseEntity<LeaderboardEntryDTO> getMyStreakRank(Authentication authentication) {
+        return leaderboardService.getStreakRank(authentication.getName())
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,37 @@
+package com.fitnessapp.controller;
+
+import com.fitnessapp.dto.SyncChangesDTO;
+import com.fitnessapp.dto.SyncOperationResultDTO;
+import com.fitnessapp.dto.request.sync.SyncUploadRequest;
+import com.fitnessapp.service.SyncService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping
+    public ResponseEntity<SyncChangesDTO> getChanges(@RequestParam(required = false) String since,
+                                                     Authentication authentication) {
+        String username = authentication.getName();
+        return ResponseEntity.ok(syncService.getChanges(username, since));
+    }
+
+    @PostMapping
+    public ResponseEntity<List<SyncOperationResultDTO>> applyChanges(@Valid @RequestBody SyncUploadRequest request,
+                                                                     Authentication authentication) {
+        String username = authentication.getName();
+        return ResponseEntity.ok(syncService.applyChanges(username, request));
+    }
+}
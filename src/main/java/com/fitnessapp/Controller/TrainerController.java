@@ -1,50 +1,157 @@
 package com.fitnessapp.controller;
 
-import com.fitnessapp.entity.User;
-import com.fitnessapp.service.UserService;
+import com.fitnessapp.dto.ClientDTO;
+import com.fitnessapp.dto.TemplateAssignmentDTO;
+import com.fitnessapp.dto.TrainerDashboardDTO;
+import com.fitnessapp.dto.request.program.CreateTrainingProgramRequest;
+import com.fitnessapp.dto.request.program.EnrollProgramRequest;
+import com.fitnessapp.dto.request.template.AssignTemplateRequest;
+import com.fitnessapp.dto.request.template.CreateWorkoutTemplateRequest;
+import com.fitnessapp.entity.ProgramEnrollment;
+import com.fitnessapp.entity.TrainingProgram;
+import com.fitnessapp.entity.UserProgress;
+import com.fitnessapp.entity.WorkoutTemplate;
+import com.fitnessapp.service.TrainerService;
+import com.fitnessapp.service.TrainingProgramService;
+import com.fitnessapp.service.WorkoutTemplateService;
+import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/trainer")
 @PreAuthorize("hasRole('TRAINER') or hasRole('ADMIN')")
 public class TrainerController {
 
-    private final UserService userService;
+    private final TrainerService trainerService;
+    private final WorkoutTemplateService workoutTemplateService;
+    private final TrainingProgramService trainingProgramService;
+
+    public TrainerController(TrainerService trainerService,
+                             WorkoutTemplateService workoutTemplateService,
+                             TrainingProgramService trainingProgramService) {
+        this.trainerService = trainerService;
+        this.workoutTemplateService = workoutTemplateService;
+        this.trainingProgramService = trainingProgramService;
+    }
+
+    @GetMapping("/dashboard")
+    public ResponseEntity<TrainerDashboardDTO> getDashboard(Authentication authentication) {
+        return ResponseEntity.ok(trainerService.getDashboard(authentication.getName()));
+    }
+
+    @PostMapping("/roster/{clientId}")
+    public ResponseEntity<Void> addClientToRoster(@PathVariable Long clientId, Authentication authentication) {
+        trainerService.addClient(authentication.getName(), clientId);
+        return ResponseEntity.noContent().build();
+    }
 
-    public TrainerController(UserService userService) {
-        this.userService = userService;
+    @DeleteMapping("/roster/{clientId}")
+    public ResponseEntity<Void> removeClientFromRoster(@PathVariable Long clientId, Authentication authentication) {
+        trainerService.removeClient(authentication.getName(), clientId);
+        return ResponseEntity.noContent().build();
     }
 
     @GetMapping("/clients")
-    public ResponseEntity<Page<User>> getClients(Pageable pageable) {
-        Page<User> clients = userService.getUsersByRole(User.Role.USER, pageable);
-        return ResponseEntity.ok(clients);
+    public ResponseEntity<Page<ClientDTO>> getClients(Authentication authentication, Pageable pageable) {
+        return ResponseEntity.ok(trainerService.getClients(authentication.getName(), pageable));
     }
 
     @GetMapping("/clients/{id}")
-    public ResponseEntity<User> getClientById(@PathVariable Long id) {
-        return userService.getUserById(id)
-                .filter(user -> user.getRole() == User.Role.USER)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<ClientDTO> getClientById(@PathVariable Long id, Authentication authentication) {
+        return ResponseEntity.ok(trainerService.getClient(authentication.getName(), id));
     }
 
     @PostMapping("/clients/{clientId}/workouts")
-    public ResponseEntity<String> assignWorkoutToClient(@PathVariable Long clientId,
-                                                       @RequestBody Long workoutTemplateId,
-                                                       Authentication authentication) {
-        // Future implementation: Assign workout templates to clients
-        return ResponseEntity.ok("Workout assignment feature coming soon");
+    public ResponseEntity<TemplateAssignmentDTO> assignWorkoutToClient(@PathVariable Long clientId,
+                                                                       @RequestBody Long workoutTemplateId,
+                                                                       Authentication authentication) {
+        TemplateAssignmentDTO assignment = workoutTemplateService.assignTemplate(
+                authentication.getName(), workoutTemplateId, List.of(clientId), null);
+        return ResponseEntity.status(HttpStatus.CREATED).body(assignment);
+    }
+
+    @GetMapping("/templates")
+    public ResponseEntity<List<WorkoutTemplate>> getTemplates(Authentication authentication) {
+        return ResponseEntity.ok(workoutTemplateService.getTemplates(authentication.getName()));
+    }
+
+    @PostMapping("/templates")
+    public ResponseEntity<WorkoutTemplate> createTemplate(@Valid @RequestBody CreateWorkoutTemplateRequest request,
+                                                          Authentication authentication) {
+        WorkoutTemplate template = workoutTemplateService.createTemplate(authentication.getName(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(template);
+    }
+
+    @GetMapping("/templates/{templateId}")
+    public ResponseEntity<WorkoutTemplate> getTemplate(@PathVariable Long templateId, Authentication authentication) {
+        return ResponseEntity.ok(workoutTemplateService.getTemplate(authentication.getName(), templateId));
+    }
+
+    @DeleteMapping("/templates/{templateId}")
+    public ResponseEntity<Void> deleteTemplate(@PathVariable Long templateId, Authentication authentication) {
+        workoutTemplateService.deleteTemplate(authentication.getName(), templateId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/templates/{templateId}/assignments")
+    public ResponseEntity<TemplateAssignmentDTO> assignTemplate(@PathVariable Long templateId,
+                                                                @RequestBody AssignTemplateRequest request,
+                                                                Authentication authentication) {
+        TemplateAssignmentDTO assignment = workoutTemplateService.assignTemplate(
+                authentication.getName(), templateId, request.getClientIds(), request.getScheduledDate());
+        return ResponseEntity.status(HttpStatus.CREATED).body(assignment);
+    }
+
+    @GetMapping("/programs")
+    public ResponseEntity<List<TrainingProgram>> getPrograms(Authentication authentication) {
+        return ResponseEntity.ok(trainingProgramService.getPrograms(authentication.getName()));
+    }
+
+    @PostMapping("/programs")
+    public ResponseEntity<TrainingProgram> createProgram(@Valid @RequestBody CreateTrainingProgramRequest request,
+                                                         Authentication authentication) {
+        TrainingProgram program = trainingProgramService.createProgram(authentication.getName(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(program);
+    }
+
+    @GetMapping("/programs/{programId}")
+    public ResponseEntity<TrainingProgram> getProgram(@PathVariable Long programId, Authentication authentication) {
+        return ResponseEntity.ok(trainingProgramService.getProgram(authentication.getName(), programId));
+    }
+
+    @GetMapping("/programs/{programId}/enrollments")
+    public ResponseEntity<List<ProgramEnrollment>> getEnrollments(@PathVariable Long programId,
+                                                                  Authentication authentication) {
+        return ResponseEntity.ok(trainingProgramService.getEnrollments(authentication.getName(), programId));
+    }
+
+    @PostMapping("/programs/{programId}/enrollments")
+    public ResponseEntity<List<ProgramEnrollment>> enroll(@PathVariable Long programId,
+                                                          @Valid @RequestBody EnrollProgramRequest request,
+                                                          Authentication authentication) {
+        List<ProgramEnrollment> enrollments = trainingProgramService.enroll(
+                authentication.getName(), programId, request.getClientIds(), request.getStartDate());
+        return ResponseEntity.status(HttpStatus.CREATED).body(enrollments);
+    }
+
+    @DeleteMapping("/enrollments/{enrollmentId}")
+    public ResponseEntity<ProgramEnrollment> cancelEnrollment(@PathVariable Long enrollmentId,
+                                                              Authentication authentication) {
+        return ResponseEntity.ok(trainingProgramService.cancelEnrollment(authentication.getName(), enrollmentId));
     }
 
     @GetMapping("/clients/{clientId}/progress")
-    public ResponseEntity<String> getClientProgress(@PathVariable Long clientId, Authentication authentication) {
-        // Future implementation: View client progress
-        return ResponseEntity.ok("Client progress tracking feature coming soon");
+    public ResponseEntity<Page<UserProgress>> getClientProgress(@PathVariable Long clientId,
+                                                                Authentication authentication,
+                                                                Pageable pageable) {
+        return ResponseEntity.ok(trainerService.getClientProgress(authentication.getName(), clientId, pageable));
     }
 }
\ No newline at end of file
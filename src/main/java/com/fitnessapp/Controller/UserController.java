@@ -1,11 +1,13 @@
 package com.fitnessapp.controller;
 
+import com.fitnessapp.dto.ConsistencyDTO;
 import com.fitnessapp.dto.PersonalRecordDTO;
 import com.fitnessapp.dto.mapper.UserMapper;
 import com.fitnessapp.dto.request.auth.ChangePasswordRequest;
 import com.fitnessapp.dto.response.user.UserResponse;
 import com.fitnessapp.entity.User;
 import com.fitnessapp.entity.UserProgress;
+import com.fitnessapp.service.StreakService;
 import com.fitnessapp.service.UserService;
 import com.fitnessapp.service.UserProgressService;
 import com.fitnessapp.service.WorkoutService;
@@ -27,12 +29,15 @@ public class UserController {
     private final UserProgressService userProgressService;
     private final UserMapper userMapper;
     private final WorkoutService workoutService;
+    private final StreakService streakService;
 
-    public UserController(UserService userService, UserProgressService userProgressService, UserMapper userMapper, WorkoutService workoutService) {
+    public UserController(UserService userService, UserProgressService userProgressService, UserMapper userMapper,
+                          WorkoutService workoutService, StreakService streakService) {
         this.userService = userService;
         this.userProgressService = userProgressService;
         this.userMapper = userMapper;
         this.workoutService = workoutService;
+        this.streakService = streakService;
     }
 
     @GetMapping("/profile")
@@ -97,6 +102,13 @@ public class UserController {
         return ResponseEntity.ok(records);
     }
 
+    @GetMapping("/consistency")
+    public ResponseEntity<ConsistencyDTO> getConsistency(Authentication authentication) {
+        String username = authentication.getName();
+        ConsistencyDTO consistency = streakService.getConsistency(username);
+        return ResponseEntity.ok(consistency);
+    }
+
     @PutMapping("/change-password")
     public ResponseEntity<String> changePassword(@Valid @RequestBody ChangePasswordRequest request,
                                                  Authentication authentication) {
@@ -4,16 +4,24 @@ import com.fitnessapp.dto.WorkoutExerciseDTO;
 import com.fitnessapp.entity.ExerciseSet;
 import com.fitnessapp.entity.Workout;
 import com.fitnessapp.entity.WorkoutExercise;
+import com.fitnessapp.service.ResourceVersionService;
+import com.fitnessapp.service.WorkoutEventHub;
 import com.fitnessapp.service.WorkoutService;
+import com.fitnessapp.web.BinaryMediaTypes;
 
 import java.util.stream.Collectors;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,9 +31,14 @@ import java.util.Optional;
 public class WorkoutController {
 
     private final WorkoutService workoutService;
+    private final WorkoutEventHub workoutEventHub;
+    private final ResourceVersionService resourceVersionService;
 
-    public WorkoutController(WorkoutService workoutService) {
+    public WorkoutController(WorkoutService workoutService, WorkoutEventHub workoutEventHub,
+                             ResourceVersionService resourceVersionService) {
         this.workoutService = workoutService;
+        this.workoutEventHub = workoutEventHub;
+        this.resourceVersionService = resourceVersionService;
     }
 
     @PostMapping
@@ -37,10 +50,18 @@ public class WorkoutController {
     }
 
     @GetMapping
-    public ResponseEntity<Page<Workout>> getUserWorkouts(Authentication authentication, Pageable pageable) {
-        String username = authentication.getName();
+    public ResponseEntity<Page<Workout>> getUserWorkouts(Authentication authentication, Pageable pageable,
+                                                         WebRequest webRequest) {
+        String username = authentication.getName();
+        // Private and always revalidated; an unchanged history costs a version lookup and a 304
+        String etag = BinaryMediaTypes.variantETag(resourceVersionService.userWorkoutsETag(username), webRequest);
+        CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT).build();
+        }
         Page<Workout> workouts = workoutService.getUserWorkouts(username, pageable);
-        return ResponseEntity.ok(workouts);
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT).body(workouts);
     }
 
     @GetMapping("/{id}")
@@ -61,6 +82,15 @@ public class WorkoutController {
         return ResponseEntity.ok(exerciseDTOs);
     }
 
+    // Live progress stream for the owner and their trainers; browsers resume with Last-Event-ID on reconnect
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamWorkoutEvents(@PathVariable Long id,
+                                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                          Authentication authentication) {
+        workoutService.checkCanWatchWorkout(authentication.getName(), id);
+        return workoutEventHub.subscribe(id, lastEventId);
+    }
+
     @PostMapping("/{id}/start")
     public ResponseEntity<Workout> startWorkout(@PathVariable Long id, Authentication authentication) {
         String username = authentication.getName();
@@ -0,0 +1,37 @@
+package com.fitnessapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A reference-data step that {@code DataSeedingService} has applied, so later boots skip it. The version is the
+ * primary key: two instances applying the same step at once cannot both record it.
+ */
+@Entity
+@Table(name = "data_seed_history")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DataSeed {
+
+    @Id
+    @Column(length = 32)
+    private String version;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Column(name = "applied_at", nullable = false)
+    private LocalDateTime appliedAt = LocalDateTime.now();
+
+    public static DataSeed of(String version, String description) {
+        DataSeed seed = new DataSeed();
+        seed.setVersion(version);
+        seed.setDescription(description);
+        return seed;
+    }
+}
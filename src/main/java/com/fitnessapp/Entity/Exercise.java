@@ -5,16 +5,25 @@ import com.fitnessapp.enums.ExerciseEquipment;
 import com.fitnessapp.enums.ExerciseDifficulty;
 import com.fitnessapp.enums.MuscleGroup;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fitnessapp.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+// Reference data read by every workout and changed only by trainers and admins: kept in the second-level cache, with
+// cache misses (and lazy proxies) loaded in batches
 @Entity
 @Table(name = "exercises")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.EXERCISE_REGION)
+@BatchSize(size = 50)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -44,11 +53,15 @@ public class Exercise {
 
     @ElementCollection
     @CollectionTable(name = "exercise_muscle_groups")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.EXERCISE_PRIMARY_MUSCLES_REGION)
+    @BatchSize(size = 50)
     @Enumerated(EnumType.STRING)
     private List<MuscleGroup> primaryMuscles;
 
     @ElementCollection
     @CollectionTable(name = "exercise_secondary_muscles")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.EXERCISE_SECONDARY_MUSCLES_REGION)
+    @BatchSize(size = 50)
     @Enumerated(EnumType.STRING)
     private List<MuscleGroup> secondaryMuscles;
 
@@ -1,15 +1,20 @@
 package com.fitnessapp.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "exercise_sets")
+@Table(name = "exercise_sets", indexes = {
+        @Index(name = "idx_exercise_sets_completed_at", columnList = "completed_at"),
+        @Index(name = "idx_exercise_sets_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -61,6 +66,21 @@ public class ExerciseSet {
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
+    // Lets delta-sync clients attach a set to its parent without the back reference being serialized
+    @JsonProperty(value = "workoutExerciseId", access = JsonProperty.Access.READ_ONLY)
+    public Long getWorkoutExerciseId() {
+        return workoutExercise == null ? null : workoutExercise.getId();
+    }
+
     public enum Status {
         PENDING, COMPLETED, FAILED
     }
@@ -68,10 +88,12 @@ public class ExerciseSet {
     public void completeSet() {
         this.status = Status.COMPLETED;
         this.completedAt = LocalDateTime.now();
+        this.updatedAt = this.completedAt;
     }
 
     public void failSet() {
         this.status = Status.FAILED;
         this.completedAt = LocalDateTime.now();
+        this.updatedAt = this.completedAt;
     }
 }
\ No newline at end of file
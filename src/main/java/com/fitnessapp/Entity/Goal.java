@@ -10,7 +10,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "goals")
+@Table(name = "goals", indexes = @Index(name = "idx_goals_user_updated", columnList = "user_id, updated_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,59 @@
+package com.fitnessapp.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "program_enrollments", indexes = {
+        @Index(name = "idx_program_enrollments_status_through", columnList = "status, materialized_through"),
+        @Index(name = "idx_program_enrollments_user", columnList = "user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgramEnrollment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "program_id", nullable = false)
+    @JsonIgnoreProperties({"sessions", "trainer", "hibernateLazyInitializer"})
+    private TrainingProgram program;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @JsonIgnoreProperties({"workouts", "password", "accountNonExpired", "accountNonLocked", "credentialsNonExpired", "enabled", "authorities"})
+    private User user;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    // Last day for which workouts have been generated; null until the first run
+    @Column(name = "materialized_through")
+    private LocalDate materializedThrough;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.ACTIVE;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public enum Status {
+        ACTIVE, COMPLETED, CANCELLED
+    }
+}
@@ -0,0 +1,48 @@
+package com.fitnessapp.entity;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.DayOfWeek;
+
+@Entity
+@Table(name = "program_sessions", indexes = @Index(name = "idx_program_sessions_program", columnList = "program_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgramSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "program_id", nullable = false)
+    @JsonBackReference
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private TrainingProgram program;
+
+    // 1-based program week; null repeats the session every week
+    @Column(name = "week_number")
+    private Integer weekNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_id", nullable = false)
+    @JsonIgnoreProperties({"exercises", "trainer", "hibernateLazyInitializer"})
+    private WorkoutTemplate template;
+
+    public boolean isScheduledOn(int weekIndex, DayOfWeek day) {
+        return dayOfWeek == day && (weekNumber == null || weekNumber == weekIndex + 1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.fitnessapp.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Records a deleted row so offline clients can drop it on their next delta sync.
+ * Deleting a workout or workout exercise implies its children; those get no tombstones of their own.
+ */
+@Entity
+@Table(name = "sync_tombstones", indexes = @Index(name = "idx_sync_tombstones_user_deleted", columnList = "user_id, deleted_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt = LocalDateTime.now();
+
+    public enum EntityType {
+        WORKOUT, WORKOUT_EXERCISE, EXERCISE_SET, GOAL, USER_PROGRESS
+    }
+
+    public static SyncTombstone of(User user, EntityType entityType, Long entityId) {
+        SyncTombstone tombstone = new SyncTombstone();
+        tombstone.setUser(user);
+        tombstone.setEntityType(entityType);
+        tombstone.setEntityId(entityId);
+        return tombstone;
+    }
+}
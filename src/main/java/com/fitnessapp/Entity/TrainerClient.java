@@ -0,0 +1,37 @@
+package com.fitnessapp.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "trainer_clients",
+       uniqueConstraints = @UniqueConstraint(name = "uk_trainer_clients_trainer_client", columnNames = {"trainer_id", "client_id"}),
+       indexes = @Index(name = "idx_trainer_clients_client", columnList = "client_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerClient {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trainer_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User trainer;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "client_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User client;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
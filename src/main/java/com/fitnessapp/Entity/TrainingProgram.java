@@ -0,0 +1,71 @@
+package com.fitnessapp.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonManagedReference;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Entity
+@Table(name = "training_programs", indexes = @Index(name = "idx_training_programs_trainer", columnList = "trainer_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainingProgram {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "trainer_id", nullable = false)
+    @JsonIgnoreProperties({"workouts", "password", "accountNonExpired", "accountNonLocked", "credentialsNonExpired", "enabled", "authorities"})
+    private User trainer;
+
+    @Column(name = "duration_weeks", nullable = false)
+    private Integer durationWeeks;
+
+    // Progressive overload, applied linearly per completed program week (week 1 uses the template as-is)
+    @Column(name = "weight_increase_percent_per_week")
+    private Double weightIncreasePercentPerWeek;
+
+    @Column(name = "weight_increment_per_week")
+    private Double weightIncrementPerWeek;
+
+    @Column(name = "reps_increment_per_week")
+    private Integer repsIncrementPerWeek;
+
+    @OneToMany(mappedBy = "program", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @JsonManagedReference
+    private List<ProgramSession> sessions = new ArrayList<>();
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    public double weightFactorForWeek(int weekIndex) {
+        double percent = weightIncreasePercentPerWeek != null ? weightIncreasePercentPerWeek : 0.0;
+        return 1.0 + percent / 100.0 * weekIndex;
+    }
+
+    public double weightDeltaForWeek(int weekIndex) {
+        return (weightIncrementPerWeek != null ? weightIncrementPerWeek : 0.0) * weekIndex;
+    }
+
+    public int repsDeltaForWeek(int weekIndex) {
+        return (repsIncrementPerWeek != null ? repsIncrementPerWeek : 0) * weekIndex;
+    }
+}
@@ -9,7 +9,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_progress")
+@Table(name = "user_progress", indexes = @Index(name = "idx_user_progress_user_updated", columnList = "user_id, updated_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
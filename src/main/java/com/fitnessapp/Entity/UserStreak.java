@@ -0,0 +1,151 @@
+package com.fitnessapp.entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+@Entity
+@Table(name = "user_streaks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStreak {
+
+    // Rolling window of 52 weeks; bit i of the bitmap means "active on lastActiveDate minus i days"
+    public static final int WINDOW_DAYS = 52 * 7;
+    private static final int BITMAP_BYTES = (WINDOW_DAYS + 7) / 8;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(name = "last_active_date")
+    private LocalDate lastActiveDate;
+
+    @Column(name = "current_streak", nullable = false)
+    private int currentStreak;
+
+    @Column(name = "longest_streak", nullable = false)
+    private int longestStreak;
+
+    @Column(name = "total_active_days", nullable = false)
+    private int totalActiveDays;
+
+    @JsonIgnore
+    @Column(name = "activity_bitmap", nullable = false, length = BITMAP_BYTES)
+    private byte[] activityBitmap = new byte[BITMAP_BYTES];
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // Two completions for the same user read the same bitmap; without this the later save would drop the other's day
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    /**
+     * Marks the given day as active and updates the streak counters.
+     * Returns false if the day was already recorded (or is older than the window).
+     */
+    public boolean recordActivity(LocalDate day) {
+        BitSet bits = BitSet.valueOf(activityBitmap);
+
+        if (lastActiveDate == null) {
+            bits.set(0);
+            lastActiveDate = day;
+            currentStreak = 1;
+        } else if (day.isAfter(lastActiveDate)) {
+            int shift = (int) Math.min(ChronoUnit.DAYS.between(lastActiveDate, day), WINDOW_DAYS);
+            bits = shift(bits, shift);
+            bits.set(0);
+            currentStreak = shift == 1 ? currentStreak + 1 : 1;
+            lastActiveDate = day;
+        } else {
+            // Late or repeated activity inside the window: set the bit and recount the current run
+            long offset = ChronoUnit.DAYS.between(day, lastActiveDate);
+            if (offset >= WINDOW_DAYS || bits.get((int) offset)) {
+                return false;
+            }
+            bits.set((int) offset);
+            int run = bits.nextClearBit(0);
+            currentStreak = run >= WINDOW_DAYS ? Math.max(currentStreak, run) : run;
+            longestStreak = Math.max(longestStreak, longestRun(bits));
+        }
+
+        totalActiveDays++;
+        longestStreak = Math.max(longestStreak, currentStreak);
+        activityBitmap = Arrays.copyOf(bits.toByteArray(), BITMAP_BYTES);
+        updatedAt = LocalDateTime.now();
+        return true;
+    }
+
+    /**
+     * Current streak as of the given day; a streak survives until the end of the day after the last activity.
+     */
+    public int currentStreakAsOf(LocalDate today) {
+        if (lastActiveDate == null || lastActiveDate.isBefore(today.minusDays(1))) {
+            return 0;
+        }
+        return currentStreak;
+    }
+
+    /**
+     * Active days within the window ending at the given day, oldest first.
+     */
+    public List<LocalDate> activeDaysAsOf(LocalDate today) {
+        List<LocalDate> days = new ArrayList<>();
+        if (lastActiveDate == null) {
+            return days;
+        }
+        LocalDate windowStart = today.minusDays(WINDOW_DAYS - 1);
+        BitSet bits = BitSet.valueOf(activityBitmap);
+        for (int i = bits.length() - 1; i >= 0; i = bits.previousSetBit(i - 1)) {
+            LocalDate day = lastActiveDate.minusDays(i);
+            if (!day.isBefore(windowStart) && !day.isAfter(today)) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    private static BitSet shift(BitSet bits, int days) {
+        BitSet shifted = new BitSet(WINDOW_DAYS);
+        for (int i = bits.nextSetBit(0); i >= 0 && i + days < WINDOW_DAYS; i = bits.nextSetBit(i + 1)) {
+            shifted.set(i + days);
+        }
+        return shifted;
+    }
+
+    private static int longestRun(BitSet bits) {
+        int longest = 0;
+        for (int start = bits.nextSetBit(0); start >= 0; start = bits.nextSetBit(start)) {
+            int end = bits.nextClearBit(start);
+            longest = Math.max(longest, end - start);
+            start = end;
+        }
+        return longest;
+    }
+}
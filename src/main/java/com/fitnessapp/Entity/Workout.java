@@ -2,16 +2,23 @@ package com.fitnessapp.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "workouts")
+@Table(name = "workouts", indexes = {
+        @Index(name = "idx_workouts_user_status_completed", columnList = "user_id, status, completed_at"),
+        @Index(name = "idx_workouts_assignment", columnList = "assignment_id"),
+        @Index(name = "idx_workouts_program_enrollment", columnList = "program_enrollment_id"),
+        @Index(name = "idx_workouts_user_updated", columnList = "user_id, updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -63,12 +70,29 @@ public class Workout {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    // Set when the workout was cloned from a template; the assignment id groups one bulk assign
+    @Column(name = "template_id")
+    private Long templateId;
+
+    @Column(name = "assignment_id", length = 36)
+    private String assignmentId;
+
+    @Column(name = "program_enrollment_id")
+    private Long programEnrollmentId;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // Optimistic lock for entity writes; conditional status UPDATEs bump it too
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     public enum Status {
         PLANNED, IN_PROGRESS, COMPLETED, CANCELLED, SKIPPED
     }
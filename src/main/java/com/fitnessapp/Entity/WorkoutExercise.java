@@ -2,6 +2,7 @@ package com.fitnessapp.entity;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -9,12 +10,13 @@ import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "workout_exercises")
+@Table(name = "workout_exercises", indexes = @Index(name = "idx_workout_exercises_updated_at", columnList = "updated_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -73,6 +75,11 @@ public class WorkoutExercise {
     @Column(nullable = false)
     private Status status = Status.PENDING;
 
+    // Maintained only by atomic UPDATEs in WorkoutExerciseRepository, never written from the entity
+    @ColumnDefault("0")
+    @Column(name = "completed_sets", nullable = false, insertable = false, updatable = false)
+    private int completedSets;
+
     @Column(name = "started_at")
     private LocalDateTime startedAt;
 
@@ -85,6 +92,12 @@ public class WorkoutExercise {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     public enum Status {
         PENDING, IN_PROGRESS, COMPLETED, SKIPPED
     }
@@ -0,0 +1,56 @@
+package com.fitnessapp.entity;
+
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Entity
+@Table(name = "workout_template_exercises", indexes = @Index(name = "idx_workout_template_exercises_template", columnList = "template_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkoutTemplateExercise {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_id", nullable = false)
+    @JsonBackReference
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private WorkoutTemplate template;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    @Column(name = "order_index", nullable = false)
+    private Integer orderIndex;
+
+    @Column(name = "planned_sets")
+    private Integer plannedSets;
+
+    @Column(name = "planned_reps")
+    private Integer plannedReps;
+
+    @Column(name = "planned_weight")
+    private Double plannedWeight;
+
+    @Column(name = "planned_duration_seconds")
+    private Integer plannedDurationSeconds;
+
+    @Column(name = "planned_distance_meters")
+    private Double plannedDistanceMeters;
+
+    @Column(name = "rest_time_seconds")
+    private Integer restTimeSeconds;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+}
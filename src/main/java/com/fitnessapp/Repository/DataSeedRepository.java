@@ -0,0 +1,15 @@
+package com.fitnessapp.repository;
+
+import com.fitnessapp.entity.DataSeed;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Set;
+
+@Repository
+public interface DataSeedRepository extends JpaRepository<DataSeed, String> {
+
+    @Query("SELECT s.version FROM DataSeed s")
+    Set<String> findAppliedVersions();
+}
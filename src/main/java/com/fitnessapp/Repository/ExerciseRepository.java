@@ -4,9 +4,12 @@ import com.fitnessapp.entity.Exercise;
 import com.fitnessapp.enums.ExerciseCategory;
 import com.fitnessapp.enums.ExerciseEquipment;
 import com.fitnessapp.enums.ExerciseDifficulty;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,15 +18,23 @@ import java.util.Optional;
 public interface
 ExerciseRepository extends JpaRepository<Exercise, Long> {
 
+    // Catalog finders go through the query cache: results are reused until the exercises table is next written
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Exercise> findByActiveTrue(Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Exercise> findByActiveTrueAndCategory(ExerciseCategory category, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Exercise> findByActiveTrueAndEquipment(ExerciseEquipment equipment, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Exercise> findByActiveTrueAndDifficulty(ExerciseDifficulty difficulty, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Exercise> findByIdAndActiveTrue(Long id);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Exercise> findByActiveTrueAndNameContainingIgnoreCase(String name, Pageable pageable);
 }
\ No newline at end of file
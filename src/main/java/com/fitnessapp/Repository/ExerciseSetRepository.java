@@ -2,11 +2,14 @@ package com.fitnessapp.repository;
 
 import com.fitnessapp.entity.ExerciseSet;
 import com.fitnessapp.entity.WorkoutExercise;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,6 +17,9 @@ public interface ExerciseSetRepository extends JpaRepository<ExerciseSet, Long>
 
     List<ExerciseSet> findByWorkoutExerciseOrderBySetNumberAsc(WorkoutExercise workoutExercise);
 
+    @Query("SELECT es FROM ExerciseSet es WHERE es.workoutExercise.workout.id = :workoutId ORDER BY es.setNumber ASC")
+    List<ExerciseSet> findByWorkoutId(@Param("workoutId") Long workoutId);
+
     @Query("SELECT e.name, " +
            "COALESCE(MAX(es.actualWeight), MAX(we.plannedWeight)), " +
            "COALESCE(MAX(es.actualReps), MAX(we.plannedReps)) " +
@@ -27,4 +33,39 @@ public interface ExerciseSetRepository extends JpaRepository<ExerciseSet, Long>
            "GROUP BY e.id, e.name " +
            "ORDER BY COALESCE(MAX(es.actualWeight), MAX(we.plannedWeight)) DESC")
     List<Object[]> findPersonalRecordsByUser(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    // Best Epley estimate (weight * (1 + reps / 30)) per user and exercise, for leaderboard rebuilds
+    @Query("SELECT w.user.id, we.exercise.id, MAX(es.actualWeight * (1 + es.actualReps / 30.0)) " +
+           "FROM ExerciseSet es " +
+           "JOIN es.workoutExercise we " +
+           "JOIN we.workout w " +
+           "WHERE es.status = 'COMPLETED' AND es.actualWeight > 0 AND es.actualReps > 0 " +
+           "GROUP BY w.user.id, we.exercise.id")
+    List<Object[]> findBestEstimatedOneRepMaxes();
+
+    @Query("SELECT w.user.id, SUM(es.actualWeight * es.actualReps) " +
+           "FROM ExerciseSet es " +
+           "JOIN es.workoutExercise we " +
+           "JOIN we.workout w " +
+           "WHERE es.status = 'COMPLETED' AND es.completedAt >= :from AND es.completedAt < :to " +
+           "AND es.actualWeight > 0 AND es.actualReps > 0 " +
+           "GROUP BY w.user.id")
+    List<Object[]> sumVolumeByUserBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 1 only for the first completion, so a set completed from two devices is counted once
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ExerciseSet es SET es.status = com.fitnessapp.entity.ExerciseSet.Status.COMPLETED, " +
+           "es.completedAt = :now, es.updatedAt = :now, es.version = es.version + 1 " +
+           "WHERE es.id = :id AND es.status <> com.fitnessapp.entity.ExerciseSet.Status.COMPLETED")
+    int completeIfNotCompleted(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Query("SELECT es FROM ExerciseSet es WHERE es.workoutExercise.workout.user.id = :userId AND es.updatedAt >= :since " +
+           "ORDER BY es.updatedAt ASC")
+    List<ExerciseSet> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since, Pageable pageable);
+
+    // One-off fill for rows that predate the updated_at column
+    @Modifying
+    @Query(value = "UPDATE exercise_sets SET updated_at = COALESCE(completed_at, created_at) WHERE updated_at IS NULL",
+           nativeQuery = true)
+    int backfillUpdatedAt();
+}
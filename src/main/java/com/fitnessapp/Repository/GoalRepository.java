@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -29,4 +31,10 @@ public interface GoalRepository extends JpaRepository<Goal, Long> {
 
     @Query("SELECT COUNT(g) FROM Goal g WHERE g.user.id = :userId AND g.status = 'COMPLETED'")
     long countCompletedGoalsByUser(@Param("userId") Long userId);
+
+    @Query("SELECT g FROM Goal g WHERE g.user.id IN :userIds AND g.status = 'ACTIVE' ORDER BY g.createdAt DESC")
+    List<Goal> findActiveGoalsByUsers(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT g FROM Goal g WHERE g.user.id = :userId AND g.updatedAt >= :since ORDER BY g.updatedAt ASC")
+    List<Goal> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since, Pageable pageable);
 }
@@ -0,0 +1,45 @@
+package com.fitnessapp.repository;
+
+import com.fitnessapp.entity.ProgramEnrollment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProgramEnrollmentRepository extends JpaRepository<ProgramEnrollment, Long> {
+
+    @Query("SELECT e FROM ProgramEnrollment e WHERE e.id = :enrollmentId AND e.program.trainer.id = :trainerId")
+    Optional<ProgramEnrollment> findByIdAndTrainerId(@Param("enrollmentId") Long enrollmentId,
+                                                     @Param("trainerId") Long trainerId);
+
+    List<ProgramEnrollment> findByProgramIdOrderByStartDateAsc(Long programId);
+
+    // Row locks keep two instances running the job from materialising the same enrollment twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM ProgramEnrollment e " +
+           "WHERE e.status = 'ACTIVE' AND e.startDate <= :horizon " +
+           "AND (e.materializedThrough IS NULL " +
+           "     OR (e.materializedThrough < :horizon AND e.materializedThrough < e.endDate))")
+    List<ProgramEnrollment> findDueForMaterialization(@Param("horizon") LocalDate horizon);
+
+    @Modifying
+    @Query("UPDATE ProgramEnrollment e SET e.materializedThrough = :through, e.updatedAt = :now WHERE e.id IN :ids")
+    int markMaterializedThrough(@Param("ids") Collection<Long> ids,
+                                @Param("through") LocalDate through,
+                                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ProgramEnrollment e SET e.status = 'COMPLETED', e.updatedAt = :now " +
+           "WHERE e.status = 'ACTIVE' AND e.endDate < :today")
+    int completeEndedEnrollments(@Param("today") LocalDate today, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,42 @@
+package com.fitnessapp.repository;
+
+import com.fitnessapp.entity.TrainerClient;
+import com.fitnessapp.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TrainerClientRepository extends JpaRepository<TrainerClient, Long> {
+
+    boolean existsByTrainerIdAndClientId(Long trainerId, Long clientId);
+
+    @Query("SELECT tc.client FROM TrainerClient tc WHERE tc.trainer.id = :trainerId ORDER BY tc.client.username")
+    List<User> findClientsByTrainerId(@Param("trainerId") Long trainerId);
+
+    @Query(value = "SELECT tc FROM TrainerClient tc JOIN FETCH tc.client WHERE tc.trainer.id = :trainerId",
+           countQuery = "SELECT COUNT(tc) FROM TrainerClient tc WHERE tc.trainer.id = :trainerId")
+    Page<TrainerClient> findRosterByTrainerId(@Param("trainerId") Long trainerId, Pageable pageable);
+
+    @Query("SELECT tc FROM TrainerClient tc JOIN FETCH tc.client WHERE tc.trainer.id = :trainerId AND tc.client.id = :clientId")
+    Optional<TrainerClient> findRosterEntry(@Param("trainerId") Long trainerId, @Param("clientId") Long clientId);
+
+    @Query("SELECT tc.client.id FROM TrainerClient tc WHERE tc.trainer.id = :trainerId")
+    List<Long> findClientIdsByTrainerId(@Param("trainerId") Long trainerId);
+
+    @Query("SELECT tc.client.id FROM TrainerClient tc WHERE tc.trainer.id = :trainerId AND tc.client.id IN :clientIds")
+    List<Long> findClientIdsByTrainerIdAndClientIdIn(@Param("trainerId") Long trainerId,
+                                                    @Param("clientIds") Collection<Long> clientIds);
+
+    @Modifying
+    @Query("DELETE FROM TrainerClient tc WHERE tc.trainer.id = :trainerId AND tc.client.id = :clientId")
+    int deleteByTrainerIdAndClientId(@Param("trainerId") Long trainerId, @Param("clientId") Long clientId);
+}
@@ -0,0 +1,27 @@
+package com.fitnessapp.repository;
+
+import com.fitnessapp.entity.TrainingProgram;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TrainingProgramRepository extends JpaRepository<TrainingProgram, Long> {
+
+    List<TrainingProgram> findByTrainerIdOrderByNameAsc(Long trainerId);
+
+    @Query("SELECT DISTINCT p FROM TrainingProgram p " +
+           "LEFT JOIN FETCH p.sessions s " +
+           "LEFT JOIN FETCH s.template " +
+           "WHERE p.id = :programId AND p.trainer.id = :trainerId")
+    Optional<TrainingProgram> findByIdAndTrainerIdWithSessions(@Param("programId") Long programId,
+                                                               @Param("trainerId") Long trainerId);
+
+    @Query("SELECT DISTINCT p FROM TrainingProgram p LEFT JOIN FETCH p.sessions WHERE p.id IN :programIds")
+    List<TrainingProgram> findAllWithSessionsByIdIn(@Param("programIds") Collection<Long> programIds);
+}
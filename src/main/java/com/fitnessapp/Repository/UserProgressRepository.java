@@ -5,8 +5,13 @@ import com.fitnessapp.entity.UserProgress;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +20,12 @@ public interface UserProgressRepository extends JpaRepository<UserProgress, Long
     Page<UserProgress> findByUserOrderByMeasurementDateDesc(User user, Pageable pageable);
 
     Optional<UserProgress> findFirstByUserOrderByMeasurementDateDesc(User user);
-}
\ No newline at end of file
+
+    // Entries on each user's latest measurement date (more than one per user if several were logged that day)
+    @Query("SELECT p FROM UserProgress p WHERE p.user.id IN :userIds " +
+           "AND p.measurementDate = (SELECT MAX(p2.measurementDate) FROM UserProgress p2 WHERE p2.user = p.user)")
+    List<UserProgress> findLatestByUsers(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT p FROM UserProgress p WHERE p.user.id = :userId AND p.updatedAt >= :since ORDER BY p.updatedAt ASC")
+    List<UserProgress> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package com.fitnessapp.repository;
+
+import com.fitnessapp.entity.UserStreak;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserStreakRepository extends JpaRepository<UserStreak, Long> {
+
+    Optional<UserStreak> findByUserId(Long userId);
+
+    @Query("SELECT s.user.id, s.longestStreak FROM UserStreak s WHERE s.longestStreak > 0")
+    List<Object[]> findAllLongestStreaks();
+}
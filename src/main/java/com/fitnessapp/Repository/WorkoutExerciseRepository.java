@@ -2,9 +2,14 @@ package com.fitnessapp.repository;
 
 import com.fitnessapp.entity.Workout;
 import com.fitnessapp.entity.WorkoutExercise;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +19,55 @@ public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise
     Optional<WorkoutExercise> findByIdAndWorkout(Long id, Workout workout);
 
     List<WorkoutExercise> findByWorkoutOrderByOrderIndexAsc(Workout workout);
+
+    // Conditional state transitions: 1 if this caller made the transition, 0 if the exercise was no longer eligible
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WorkoutExercise we SET we.status = com.fitnessapp.entity.WorkoutExercise.Status.IN_PROGRESS, " +
+           "we.startedAt = :now, we.updatedAt = :now, we.version = we.version + 1 " +
+           "WHERE we.id = :id AND we.status <> com.fitnessapp.entity.WorkoutExercise.Status.IN_PROGRESS")
+    int startIfNotInProgress(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WorkoutExercise we SET we.status = com.fitnessapp.entity.WorkoutExercise.Status.COMPLETED, " +
+           "we.completedAt = :now, we.updatedAt = :now, we.version = we.version + 1 " +
+           "WHERE we.id = :id AND we.status = com.fitnessapp.entity.WorkoutExercise.Status.IN_PROGRESS")
+    int completeIfInProgress(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WorkoutExercise we SET we.status = com.fitnessapp.entity.WorkoutExercise.Status.COMPLETED, " +
+           "we.completedAt = :now, we.updatedAt = :now, we.version = we.version + 1 " +
+           "WHERE we.workout.id = :workoutId AND we.status IN " +
+           "(com.fitnessapp.entity.WorkoutExercise.Status.PENDING, com.fitnessapp.entity.WorkoutExercise.Status.IN_PROGRESS)")
+    int completeOpenExercises(@Param("workoutId") Long workoutId, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE WorkoutExercise we SET we.completedSets = we.completedSets + 1, we.updatedAt = :now WHERE we.id = :id")
+    int incrementCompletedSets(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Returns 1 only for the caller whose completion reached plannedSets, so concurrent completions auto-complete once
+    @Modifying
+    @Query("UPDATE WorkoutExercise we SET we.status = com.fitnessapp.entity.WorkoutExercise.Status.COMPLETED, " +
+           "we.completedAt = :now, we.updatedAt = :now, we.version = we.version + 1 " +
+           "WHERE we.id = :id AND we.status = com.fitnessapp.entity.WorkoutExercise.Status.IN_PROGRESS " +
+           "AND we.plannedSets IS NOT NULL AND we.completedSets >= we.plannedSets")
+    int completeIfAllSetsDone(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE workout_exercises SET completed_sets = " +
+           "(SELECT COUNT(*) FROM exercise_sets es WHERE es.workout_exercise_id = workout_exercises.id AND es.status = 'COMPLETED') " +
+           "WHERE id = :id", nativeQuery = true)
+    int recountCompletedSets(@Param("id") Long id);
+
+    // One-off fill for rows that predate the counter column; a no-op once every counter is populated
+    @Modifying
+    @Query(value = "UPDATE workout_exercises SET completed_sets = " +
+           "(SELECT COUNT(*) FROM exercise_sets es WHERE es.workout_exercise_id = workout_exercises.id AND es.status = 'COMPLETED') " +
+           "WHERE completed_sets = 0 AND EXISTS " +
+           "(SELECT 1 FROM exercise_sets es WHERE es.workout_exercise_id = workout_exercises.id AND es.status = 'COMPLETED')",
+           nativeQuery = true)
+    int backfillCompletedSets();
+
+    @Query("SELECT we FROM WorkoutExercise we JOIN FETCH we.exercise " +
+           "WHERE we.workout.user.id = :userId AND we.updatedAt >= :since ORDER BY we.updatedAt ASC")
+    List<WorkoutExercise> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since, Pageable pageable);
 }
\ No newline at end of file
@@ -5,10 +5,14 @@ import com.fitnessapp.entity.Workout;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -20,9 +24,68 @@ public interface WorkoutRepository extends JpaRepository<Workout, Long> {
 
     // Fetch workout with exercises to avoid N+1 problem
     // Note: actualSets are not fetched here to avoid MultipleBagFetchException
+    // we.exercise is left to the second-level cache (see Exercise); joining it would read the exercises table every time
     @Query("SELECT DISTINCT w FROM Workout w " +
            "LEFT JOIN FETCH w.exercises we " +
-           "LEFT JOIN FETCH we.exercise " +
            "WHERE w.id = :workoutId AND w.user = :user")
     Optional<Workout> findByIdAndUserWithExercises(@Param("workoutId") Long workoutId, @Param("user") User user);
-}
\ No newline at end of file
+
+    // Completion timestamps only, used to rebuild streak state without hydrating workouts
+    @Query("SELECT w.completedAt FROM Workout w " +
+           "WHERE w.user.id = :userId AND w.status = 'COMPLETED' AND w.completedAt IS NOT NULL " +
+           "ORDER BY w.completedAt ASC")
+    List<LocalDateTime> findCompletionTimesByUser(@Param("userId") Long userId);
+
+    // Returns [scheduled, completed] counts for workouts scheduled in [from, to)
+    @Query("SELECT COUNT(w), COALESCE(SUM(CASE WHEN w.status = 'COMPLETED' THEN 1 ELSE 0 END), 0) " +
+           "FROM Workout w " +
+           "WHERE w.user.id = :userId AND w.scheduledDate >= :from AND w.scheduledDate < :to")
+    List<Object[]> countScheduledAndCompletedBetween(@Param("userId") Long userId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    @Query("SELECT COUNT(w) FROM Workout w " +
+           "WHERE w.user.id = :userId AND w.scheduledDate >= :from AND w.scheduledDate < :to " +
+           "AND w.status IN ('PLANNED', 'SKIPPED')")
+    long countMissedBetween(@Param("userId") Long userId,
+                            @Param("from") LocalDateTime from,
+                            @Param("to") LocalDateTime to);
+
+    // Most recent completed workout per user as [userId, workoutId, name, completedAt, durationMinutes]
+    @Query("SELECT w.user.id, w.id, w.name, w.completedAt, w.durationMinutes FROM Workout w " +
+           "WHERE w.user.id IN :userIds AND w.status = 'COMPLETED' " +
+           "AND w.completedAt = (SELECT MAX(w2.completedAt) FROM Workout w2 " +
+           "                     WHERE w2.user = w.user AND w2.status = 'COMPLETED')")
+    List<Object[]> findLastCompletedByUsers(@Param("userIds") Collection<Long> userIds);
+
+    // Returns [userId, count] of workouts completed in [from, to)
+    @Query("SELECT w.user.id, COUNT(w) FROM Workout w " +
+           "WHERE w.user.id IN :userIds AND w.status = 'COMPLETED' " +
+           "AND w.completedAt >= :from AND w.completedAt < :to " +
+           "GROUP BY w.user.id")
+    List<Object[]> countCompletedByUsersBetween(@Param("userIds") Collection<Long> userIds,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    List<Workout> findByProgramEnrollmentIdAndStatusAndScheduledDateGreaterThanEqual(Long programEnrollmentId,
+                                                                                    Workout.Status status,
+                                                                                    LocalDateTime from);
+
+    // Conditional state transitions: 1 if this caller made the transition, 0 if the workout was no longer eligible
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Workout w SET w.status = com.fitnessapp.entity.Workout.Status.IN_PROGRESS, " +
+           "w.startedAt = :now, w.updatedAt = :now, w.version = w.version + 1 " +
+           "WHERE w.id = :id AND w.status = com.fitnessapp.entity.Workout.Status.PLANNED")
+    int startIfPlanned(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Workout w SET w.status = com.fitnessapp.entity.Workout.Status.COMPLETED, " +
+           "w.completedAt = :now, w.durationMinutes = COALESCE(:durationMinutes, w.durationMinutes), " +
+           "w.updatedAt = :now, w.version = w.version + 1 " +
+           "WHERE w.id = :id AND w.status = com.fitnessapp.entity.Workout.Status.IN_PROGRESS")
+    int completeIfInProgress(@Param("id") Long id, @Param("now") LocalDateTime now,
+                             @Param("durationMinutes") Integer durationMinutes);
+
+    @Query("SELECT w FROM Workout w WHERE w.user.id = :userId AND w.updatedAt >= :since ORDER BY w.updatedAt ASC")
+    List<Workout> findChangedSince(@Param("userId") Long userId, @Param("since") LocalDateTime since, Pageable pageable);
+}
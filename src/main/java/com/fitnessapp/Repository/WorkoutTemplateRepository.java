@@ -0,0 +1,80 @@
+package com.fitnessapp.repository;
+
+import com.fitnessapp.entity.WorkoutTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WorkoutTemplateRepository extends JpaRepository<WorkoutTemplate, Long> {
+
+    List<WorkoutTemplate> findByTrainerIdOrderByNameAsc(Long trainerId);
+
+    @Query("SELECT DISTINCT t FROM WorkoutTemplate t " +
+           "LEFT JOIN FETCH t.exercises te " +
+           "LEFT JOIN FETCH te.exercise " +
+           "WHERE t.id = :templateId AND t.trainer.id = :trainerId")
+    Optional<WorkoutTemplate> findByIdAndTrainerIdWithExercises(@Param("templateId") Long templateId,
+                                                                @Param("trainerId") Long trainerId);
+
+    // Bulk clone, step 1: one PLANNED workout per client, tagged with the assignment id
+    @Modifying
+    @Query(value = "INSERT INTO workouts (name, description, user_id, trainer_id, status, scheduled_date, " +
+                   "                      notes, template_id, assignment_id, version, created_at, updated_at) " +
+                   "SELECT t.name, t.description, u.id, :trainerId, 'PLANNED', CAST(:scheduledDate AS TIMESTAMP), " +
+                   "       NULL, t.id, :assignmentId, 0, :now, :now " +
+                   "FROM workout_templates t, users u " +
+                   "WHERE t.id = :templateId AND u.id IN (:clientIds)",
+           nativeQuery = true)
+    int insertWorkoutsFromTemplate(@Param("templateId") Long templateId,
+                                   @Param("trainerId") Long trainerId,
+                                   @Param("clientIds") Collection<Long> clientIds,
+                                   @Param("scheduledDate") LocalDateTime scheduledDate,
+                                   @Param("assignmentId") String assignmentId,
+                                   @Param("now") LocalDateTime now);
+
+    // Program variant of step 1: one workout per enrollment, owned by the enrolled user and the program's trainer
+    @Modifying
+    @Query(value = "INSERT INTO workouts (name, description, user_id, trainer_id, status, scheduled_date, " +
+                   "                      notes, template_id, assignment_id, program_enrollment_id, version, created_at, updated_at) " +
+                   "SELECT t.name, t.description, e.user_id, p.trainer_id, 'PLANNED', CAST(:scheduledDate AS TIMESTAMP), " +
+                   "       NULL, t.id, :assignmentId, e.id, 0, :now, :now " +
+                   "FROM workout_templates t, program_enrollments e " +
+                   "JOIN training_programs p ON p.id = e.program_id " +
+                   "WHERE t.id = :templateId AND e.id IN (:enrollmentIds)",
+           nativeQuery = true)
+    int insertWorkoutsForEnrollments(@Param("templateId") Long templateId,
+                                     @Param("enrollmentIds") Collection<Long> enrollmentIds,
+                                     @Param("scheduledDate") LocalDateTime scheduledDate,
+                                     @Param("assignmentId") String assignmentId,
+                                     @Param("now") LocalDateTime now);
+
+    // Bulk clone, step 2: copy the template exercises into every workout created by the assignment.
+    // Loaded exercises get weight * weightFactor + weightDelta (rounded to 0.01) and reps + repsDelta.
+    @Modifying
+    @Query(value = "INSERT INTO workout_exercises (workout_id, exercise_id, order_index, planned_sets, planned_reps, " +
+                   "                               planned_weight, planned_duration_seconds, planned_distance_meters, " +
+                   "                               rest_time_seconds, notes, status, completed_sets, version, created_at, updated_at) " +
+                   "SELECT w.id, te.exercise_id, te.order_index, te.planned_sets, te.planned_reps + :repsDelta, " +
+                   "       CASE WHEN te.planned_weight > 0 " +
+                   "            THEN ROUND(CAST(te.planned_weight * :weightFactor + :weightDelta AS NUMERIC), 2) " +
+                   "            ELSE te.planned_weight END, " +
+                   "       te.planned_duration_seconds, te.planned_distance_meters, " +
+                   "       te.rest_time_seconds, te.notes, 'PENDING', 0, 0, :now, :now " +
+                   "FROM workouts w " +
+                   "JOIN workout_template_exercises te ON te.template_id = w.template_id " +
+                   "WHERE w.assignment_id = :assignmentId",
+           nativeQuery = true)
+    int insertWorkoutExercisesFromTemplate(@Param("assignmentId") String assignmentId,
+                                           @Param("weightFactor") double weightFactor,
+                                           @Param("weightDelta") double weightDelta,
+                                           @Param("repsDelta") int repsDelta,
+                                           @Param("now") LocalDateTime now);
+}
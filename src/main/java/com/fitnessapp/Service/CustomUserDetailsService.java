@@ -1,6 +1,8 @@
 package com.fitnessapp.service;
 
 import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.security.UserDetailsSnapshot;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -15,9 +17,14 @@ public class CustomUserDetailsService implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
+    // Cached briefly so JWT-authenticated requests (and the 304s they can end in) skip the user lookup;
+    // role, status, profile and password changes evict it in UserService. The cache holds an immutable copy,
+    // never the entity, which is mutable and detached once the loading session closes.
     @Override
+    @Cacheable(value = "userDetails", key = "#username")
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         return userRepository.findByUsername(username)
+                .map(UserDetailsSnapshot::of)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
 }
@@ -1,23 +1,33 @@
 package com.fitnessapp.service;
 
+import com.fitnessapp.entity.DataSeed;
 import com.fitnessapp.entity.Exercise;
 import com.fitnessapp.entity.User;
 import com.fitnessapp.enums.ExerciseCategory;
 import com.fitnessapp.enums.ExerciseEquipment;
 import com.fitnessapp.enums.ExerciseDifficulty;
 import com.fitnessapp.enums.MuscleGroup;
+import com.fitnessapp.repository.DataSeedRepository;
 import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.repository.ExerciseSetRepository;
 import com.fitnessapp.repository.UserRepository;
 import com.fitnessapp.repository.WorkoutExerciseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * Applies reference-data steps once per database, like schema migrations: each step is recorded in
+ * {@code data_seed_history} and skipped on every later boot, so a normal start costs one query. Add new steps at the
+ * end with the next version; never change an applied one.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -26,10 +36,47 @@ public class DataSeedingService implements CommandLineRunner {
     private final ExerciseRepository exerciseRepository;
     private final UserRepository userRepository;
     private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final ExerciseSetRepository exerciseSetRepository;
+    private final DataSeedRepository dataSeedRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
-    public void run(String... args) throws Exception {
+    public void run(String... args) {
+        Set<String> applied = dataSeedRepository.findAppliedVersions();
+        apply(applied, "1", "Exercise catalog (49 exercises)", this::seedExerciseCatalog);
+        apply(applied, "2", "Backfill completed-set counters", () -> {
+            int backfilled = workoutExerciseRepository.backfillCompletedSets();
+            log.info("Backfilled completed-set counters for {} workout exercises", backfilled);
+        });
+        apply(applied, "3", "Backfill updated_at of exercise sets", () -> {
+            int stamped = exerciseSetRepository.backfillUpdatedAt();
+            log.info("Backfilled updated_at for {} exercise sets", stamped);
+        });
+    }
+
+    private void apply(Set<String> applied, String version, String description, Runnable step) {
+        if (applied.contains(version)) {
+            return;
+        }
+        try {
+            // Recorded before the step runs: an instance booting at the same time blocks on the row, then fails on
+            // the duplicate key once this transaction commits
+            transactionTemplate.executeWithoutResult(status -> {
+                dataSeedRepository.saveAndFlush(DataSeed.of(version, description));
+                step.run();
+            });
+            log.info("Applied data seed {}: {}", version, description);
+        } catch (DataIntegrityViolationException e) {
+            if (!dataSeedRepository.existsById(version)) {
+                throw e;
+            }
+            log.info("Data seed {} was applied by another instance", version);
+        }
+    }
+
+    private void seedExerciseCatalog() {
+        // Databases seeded before the history table existed already hold the catalog
         long currentCount = exerciseRepository.count();
         if (currentCount < 49) {
             log.info("Database contains {} exercises. Clearing and reseeding with 49 exercises...", currentCount);
@@ -37,6 +84,7 @@ public class DataSeedingService implements CommandLineRunner {
             workoutExerciseRepository.deleteAll();
             exerciseRepository.deleteAll();
             seedExercises();
+            resourceVersionService.catalogChanged();
             log.info("49 sample exercises seeded successfully!");
         } else {
             log.info("Database already contains {} exercises. Skipping seeding.", currentCount);
@@ -1,5 +1,6 @@
 package com.fitnessapp.service;
 
+import io.micrometer.observation.annotation.Observed;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
@@ -28,6 +29,7 @@ public class EmailService {
         this.mailSender = mailSender;
     }
 
+    @Observed(name = "fitnessapp.email.send")
     public void sendPasswordResetEmail(String toEmail, String resetToken) {
         try {
             logger.info("Attempting to send password reset email to: {}", toEmail);
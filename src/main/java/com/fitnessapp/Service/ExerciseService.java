@@ -23,38 +23,47 @@ public class ExerciseService {
 
     private final ExerciseRepository exerciseRepository;
     private final UserRepository userRepository;
+    private final ResourceVersionService resourceVersionService;
 
-    public ExerciseService(ExerciseRepository exerciseRepository, UserRepository userRepository) {
+    public ExerciseService(ExerciseRepository exerciseRepository, UserRepository userRepository,
+                           ResourceVersionService resourceVersionService) {
         this.exerciseRepository = exerciseRepository;
         this.userRepository = userRepository;
+        this.resourceVersionService = resourceVersionService;
     }
 
+    @Transactional(readOnly = true)
     @Cacheable(value = "exercises")
     public Page<Exercise> getAllActiveExercises(Pageable pageable) {
         return exerciseRepository.findByActiveTrue(pageable);
     }
 
+    @Transactional(readOnly = true)
     @Cacheable(value = "exercises", key = "#category.name() + '_' + #pageable.pageNumber")
     public Page<Exercise> getExercisesByCategory(ExerciseCategory category, Pageable pageable) {
         return exerciseRepository.findByActiveTrueAndCategory(category, pageable);
     }
 
+    @Transactional(readOnly = true)
     @Cacheable(value = "exercises", key = "#equipment.name() + '_' + #pageable.pageNumber")
     public Page<Exercise> getExercisesByEquipment(ExerciseEquipment equipment, Pageable pageable) {
         return exerciseRepository.findByActiveTrueAndEquipment(equipment, pageable);
     }
 
+    @Transactional(readOnly = true)
     @Cacheable(value = "exercises", key = "#difficulty.name() + '_' + #pageable.pageNumber")
     public Page<Exercise> getExercisesByDifficulty(ExerciseDifficulty difficulty, Pageable pageable) {
         return exerciseRepository.findByActiveTrueAndDifficulty(difficulty, pageable);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Exercise> getExerciseById(Long id) {
         return exerciseRepository.findByIdAndActiveTrue(id);
     }
 
     @CacheEvict(value = "exercises", allEntries = true)
     public Exercise createExercise(String creatorUsername, Exercise exercise) {
+        resourceVersionService.catalogChanged();
         User creator = userRepository.findByUsername(creatorUsername)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + creatorUsername));
 
@@ -73,6 +82,7 @@ public class ExerciseService {
 
     @CacheEvict(value = "exercises", allEntries = true)
     public Exercise updateExercise(String updaterUsername, Long exerciseId, Exercise updatedExercise) {
+        resourceVersionService.catalogChanged();
         User updater = userRepository.findByUsername(updaterUsername)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + updaterUsername));
 
@@ -105,6 +115,7 @@ public class ExerciseService {
 
     @CacheEvict(value = "exercises", allEntries = true)
     public void deactivateExercise(String deactivatorUsername, Long exerciseId) {
+        resourceVersionService.catalogChanged();
         User deactivator = userRepository.findByUsername(deactivatorUsername)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + deactivatorUsername));
 
@@ -121,6 +132,7 @@ public class ExerciseService {
         exerciseRepository.save(exercise);
     }
 
+    @Transactional(readOnly = true)
     public Page<Exercise> searchExercises(String searchTerm, Pageable pageable) {
         return exerciseRepository.findByActiveTrueAndNameContainingIgnoreCase(searchTerm, pageable);
     }
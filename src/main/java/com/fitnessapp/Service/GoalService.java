@@ -1,8 +1,10 @@
 package com.fitnessapp.service;
 
 import com.fitnessapp.entity.Goal;
+import com.fitnessapp.entity.SyncTombstone;
 import com.fitnessapp.entity.User;
 import com.fitnessapp.repository.GoalRepository;
+import com.fitnessapp.repository.SyncTombstoneRepository;
 import com.fitnessapp.repository.UserRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,10 +21,13 @@ public class GoalService {
 
     private final GoalRepository goalRepository;
     private final UserRepository userRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
 
-    public GoalService(GoalRepository goalRepository, UserRepository userRepository) {
+    public GoalService(GoalRepository goalRepository, UserRepository userRepository,
+                       SyncTombstoneRepository syncTombstoneRepository) {
         this.goalRepository = goalRepository;
         this.userRepository = userRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
     }
 
     public Goal createGoal(String username, Goal goal) {
@@ -44,6 +49,7 @@ public class GoalService {
         return goalRepository.save(goal);
     }
 
+    @Transactional(readOnly = true)
     public Page<Goal> getUserGoals(String username, Pageable pageable) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -51,6 +57,7 @@ public class GoalService {
         return goalRepository.findByUserId(user.getId(), pageable);
     }
 
+    @Transactional(readOnly = true)
     public List<Goal> getActiveGoals(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -58,6 +65,7 @@ public class GoalService {
         return goalRepository.findActiveGoalsByUser(user.getId(), Goal.GoalStatus.ACTIVE);
     }
 
+    @Transactional(readOnly = true)
     public Goal getGoalById(String username, Long goalId) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -107,8 +115,10 @@ public class GoalService {
     public void deleteGoal(String username, Long goalId) {
         Goal goal = getGoalById(username, goalId);
         goalRepository.delete(goal);
+        syncTombstoneRepository.save(SyncTombstone.of(goal.getUser(), SyncTombstone.EntityType.GOAL, goalId));
     }
 
+    @Transactional(readOnly = true)
     public long getActiveGoalsCount(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -116,6 +126,7 @@ public class GoalService {
         return goalRepository.countActiveGoalsByUser(user.getId());
     }
 
+    @Transactional(readOnly = true)
     public long getCompletedGoalsCount(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -0,0 +1,22 @@
+package com.fitnessapp.service;
+
+import java.util.Optional;
+
+/**
+ * Bounded, expiring storage for responses to requests sent with an Idempotency-Key.
+ * Completed entries live for app.idempotency.ttl; keys are already scoped to user, method and path by the caller.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Atomically claims the key for a new request. Returns empty if this caller now owns the key,
+     * otherwise the existing entry (which may still be in progress). A shared store holds the claim only for
+     * app.idempotency.in-progress-ttl, so a key owned by an instance that died is not blocked for the full ttl.
+     */
+    Optional<IdempotentResponse> claim(String key, String fingerprint);
+
+    void complete(String key, IdempotentResponse response);
+
+    // Gives the key up so a retry executes again, e.g. after a server error
+    void release(String key);
+}
@@ -0,0 +1,15 @@
+package com.fitnessapp.service;
+
+/**
+ * Stored outcome of a request made with an Idempotency-Key. A status of 0 marks a request that is still running.
+ */
+public record IdempotentResponse(String fingerprint, int status, String contentType, byte[] body) {
+
+    public static IdempotentResponse inProgress(String fingerprint) {
+        return new IdempotentResponse(fingerprint, 0, null, new byte[0]);
+    }
+
+    public boolean isInProgress() {
+        return status == 0;
+    }
+}
@@ -0,0 +1,40 @@
+package com.fitnessapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Service
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, IdempotentResponse> responses;
+
+    public InMemoryIdempotencyStore(@Value("${app.idempotency.ttl:24h}") Duration ttl,
+                                    @Value("${app.idempotency.max-entries:100000}") long maxEntries) {
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    @Override
+    public Optional<IdempotentResponse> claim(String key, String fingerprint) {
+        return Optional.ofNullable(responses.asMap().putIfAbsent(key, IdempotentResponse.inProgress(fingerprint)));
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        responses.put(key, response);
+    }
+
+    @Override
+    public void release(String key) {
+        responses.invalidate(key);
+    }
+}
@@ -0,0 +1,86 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.LeaderboardEntryDTO;
+import com.fitnessapp.util.RankedScoreboard;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Service
+@ConditionalOnProperty(name = "app.leaderboards.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLeaderboardStore implements LeaderboardStore {
+
+    private final Map<String, RankedScoreboard> boards = new ConcurrentHashMap<>();
+
+    @Override
+    public void setScore(String board, long userId, double score) {
+        board(board).put(userId, score);
+    }
+
+    @Override
+    public void setScoreIfHigher(String board, long userId, double score) {
+        board(board).putIfHigher(userId, score);
+    }
+
+    @Override
+    public void incrementScore(String board, long userId, double delta) {
+        board(board).increment(userId, delta);
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> top(String board, int limit) {
+        RankedScoreboard scoreboard = boards.get(board);
+        List<LeaderboardEntryDTO> entries = new ArrayList<>();
+        if (scoreboard == null) {
+            return entries;
+        }
+        int rank = 1;
+        for (Map.Entry<Long, Double> entry : scoreboard.top(limit)) {
+            entries.add(new LeaderboardEntryDTO(rank++, entry.getKey(), null, entry.getValue()));
+        }
+        return entries;
+    }
+
+    @Override
+    public Optional<LeaderboardEntryDTO> rankOf(String board, long userId) {
+        RankedScoreboard scoreboard = boards.get(board);
+        if (scoreboard == null) {
+            return Optional.empty();
+        }
+        // Read score and rank under one lock so they describe the same state
+        synchronized (scoreboard) {
+            int rank = scoreboard.rank(userId);
+            return rank == 0
+                    ? Optional.empty()
+                    : Optional.of(new LeaderboardEntryDTO(rank, userId, null, scoreboard.score(userId)));
+        }
+    }
+
+    @Override
+    public void replaceBoard(String board, Map<Long, Double> scores) {
+        RankedScoreboard rebuilt = new RankedScoreboard();
+        scores.forEach(rebuilt::put);
+        boards.put(board, rebuilt);
+    }
+
+    @Override
+    public void deleteBoard(String board) {
+        boards.remove(board);
+    }
+
+    @Override
+    public Set<String> boards(String prefix) {
+        return boards.keySet().stream().filter(board -> board.startsWith(prefix)).collect(Collectors.toSet());
+    }
+
+    private RankedScoreboard board(String board) {
+        return boards.computeIfAbsent(board, key -> new RankedScoreboard());
+    }
+}
@@ -0,0 +1,34 @@
+package com.fitnessapp.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@ConditionalOnProperty(name = "app.resource-versions.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryResourceVersionStore implements ResourceVersionStore {
+
+    // Seeded from the clock so values issued after a restart never repeat ones handed out before it
+    private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final Cache<String, Long> versions;
+
+    public InMemoryResourceVersionStore(@Value("${app.resource-versions.max-entries:100000}") long maxEntries) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    @Override
+    public long current(String key) {
+        return versions.get(key, k -> sequence.incrementAndGet());
+    }
+
+    @Override
+    public void bump(String key) {
+        versions.put(key, sequence.incrementAndGet());
+    }
+}
@@ -0,0 +1,170 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.LeaderboardEntryDTO;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.repository.ExerciseSetRepository;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.UserStreakRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+    public static final int MAX_LIMIT = 100;
+    private static final String ONE_REP_MAX_PREFIX = "e1rm:";
+    private static final String STREAK_BOARD = "streak:longest";
+
+    private final LeaderboardStore leaderboardStore;
+    private final ExerciseSetRepository exerciseSetRepository;
+    private final UserStreakRepository userStreakRepository;
+    private final UserRepository userRepository;
+
+    public LeaderboardService(LeaderboardStore leaderboardStore,
+                              ExerciseSetRepository exerciseSetRepository,
+                              UserStreakRepository userStreakRepository,
+                              UserRepository userRepository) {
+        this.leaderboardStore = leaderboardStore;
+        this.exerciseSetRepository = exerciseSetRepository;
+        this.userStreakRepository = userStreakRepository;
+        this.userRepository = userRepository;
+    }
+
+    public void recordCompletedSet(Long userId, Long exerciseId, Double weight, Integer reps, LocalDateTime completedAt) {
+        if (weight == null || reps == null || weight <= 0 || reps <= 0) {
+            return;
+        }
+        leaderboardStore.setScoreIfHigher(oneRepMaxBoard(exerciseId), userId, estimateOneRepMax(weight, reps));
+        leaderboardStore.incrementScore(weeklyVolumeBoard(completedAt.toLocalDate()), userId, weight * reps);
+    }
+
+    public void recordLongestStreak(Long userId, int longestStreak) {
+        leaderboardStore.setScore(STREAK_BOARD, userId, longestStreak);
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntryDTO> getOneRepMaxLeaderboard(Long exerciseId, int limit) {
+        return withUsernames(leaderboardStore.top(oneRepMaxBoard(exerciseId), clamp(limit)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntryDTO> getWeeklyVolumeLeaderboard(int limit) {
+        return withUsernames(leaderboardStore.top(weeklyVolumeBoard(LocalDate.now()), clamp(limit)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntryDTO> getStreakLeaderboard(int limit) {
+        return withUsernames(leaderboardStore.top(STREAK_BOARD, clamp(limit)));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LeaderboardEntryDTO> getOneRepMaxRank(String username, Long exerciseId) {
+        return rankOf(username, oneRepMaxBoard(exerciseId));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LeaderboardEntryDTO> getWeeklyVolumeRank(String username) {
+        return rankOf(username, weeklyVolumeBoard(LocalDate.now()));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<LeaderboardEntryDTO> getStreakRank(String username) {
+        return rankOf(username, STREAK_BOARD);
+    }
+
+    // Incremental updates can drift (rolled-back listeners, restarts, edits), so periodically rebuild from the source tables
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.leaderboards.rebuild-cron:0 0 * * * *}")
+    @Transactional(readOnly = true)
+    public void rebuildLeaderboards() {
+        long start = System.currentTimeMillis();
+
+        Map<Long, Map<Long, Double>> oneRepMaxByExercise = new HashMap<>();
+        for (Object[] row : exerciseSetRepository.findBestEstimatedOneRepMaxes()) {
+            oneRepMaxByExercise.computeIfAbsent((Long) row[1], id -> new HashMap<>())
+                    .put((Long) row[0], ((Number) row[2]).doubleValue());
+        }
+        Set<String> staleBoards = new HashSet<>(leaderboardStore.boards(ONE_REP_MAX_PREFIX));
+        oneRepMaxByExercise.forEach((exerciseId, scores) -> {
+            leaderboardStore.replaceBoard(oneRepMaxBoard(exerciseId), scores);
+            staleBoards.remove(oneRepMaxBoard(exerciseId));
+        });
+        // Exercises whose completed sets were all deleted, or that were deleted themselves
+        staleBoards.forEach(leaderboardStore::deleteBoard);
+
+        LocalDate weekStart = startOfWeek(LocalDate.now());
+        Map<Long, Double> weeklyVolume = new HashMap<>();
+        for (Object[] row : exerciseSetRepository.sumVolumeByUserBetween(weekStart.atStartOfDay(), weekStart.plusDays(7).atStartOfDay())) {
+            weeklyVolume.put((Long) row[0], ((Number) row[1]).doubleValue());
+        }
+        leaderboardStore.replaceBoard(weeklyVolumeBoard(weekStart), weeklyVolume);
+        leaderboardStore.deleteBoard(weeklyVolumeBoard(weekStart.minusWeeks(2)));
+
+        Map<Long, Double> streaks = new HashMap<>();
+        for (Object[] row : userStreakRepository.findAllLongestStreaks()) {
+            streaks.put((Long) row[0], ((Number) row[1]).doubleValue());
+        }
+        leaderboardStore.replaceBoard(STREAK_BOARD, streaks);
+
+        logger.info("Rebuilt {} exercise leaderboards, weekly volume and streak boards in {} ms",
+                oneRepMaxByExercise.size(), System.currentTimeMillis() - start);
+    }
+
+    // Epley formula
+    static double estimateOneRepMax(double weight, int reps) {
+        return weight * (1 + reps / 30.0);
+    }
+
+    private Optional<LeaderboardEntryDTO> rankOf(String username, String board) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+
+        return leaderboardStore.rankOf(board, user.getId())
+                .map(entry -> {
+                    entry.setUsername(user.getUsername());
+                    return entry;
+                });
+    }
+
+    // One batched lookup for the whole page instead of a query per entry
+    private List<LeaderboardEntryDTO> withUsernames(List<LeaderboardEntryDTO> entries) {
+        Set<Long> userIds = entries.stream().map(LeaderboardEntryDTO::getUserId).collect(Collectors.toSet());
+        Map<Long, String> usernames = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getUsername, (a, b) -> a));
+        entries.forEach(entry -> entry.setUsername(usernames.get(entry.getUserId())));
+        return entries;
+    }
+
+    private static String oneRepMaxBoard(Long exerciseId) {
+        return ONE_REP_MAX_PREFIX + exerciseId;
+    }
+
+    private static String weeklyVolumeBoard(LocalDate day) {
+        return "volume:" + startOfWeek(day);
+    }
+
+    private static LocalDate startOfWeek(LocalDate day) {
+        return day.minusDays(day.getDayOfWeek().getValue() - 1);
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
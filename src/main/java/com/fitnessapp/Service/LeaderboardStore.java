@@ -0,0 +1,33 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.LeaderboardEntryDTO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Sorted-set storage for leaderboards. Boards are keyed by name and rank user ids by score, highest first.
+ * Returned entries carry rank, user id and score; usernames are resolved by {@link LeaderboardService}.
+ */
+public interface LeaderboardStore {
+
+    void setScore(String board, long userId, double score);
+
+    void setScoreIfHigher(String board, long userId, double score);
+
+    void incrementScore(String board, long userId, double delta);
+
+    List<LeaderboardEntryDTO> top(String board, int limit);
+
+    Optional<LeaderboardEntryDTO> rankOf(String board, long userId);
+
+    // Atomically swaps the board contents, used by the periodic rebuild
+    void replaceBoard(String board, Map<Long, Double> scores);
+
+    void deleteBoard(String board);
+
+    // Names of the existing boards that start with the prefix
+    Set<String> boards(String prefix);
+}
@@ -0,0 +1,112 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.entity.ExerciseSet;
+import com.fitnessapp.entity.WorkoutExercise;
+
+import java.util.*;
+
+/**
+ * In-memory state of one IN_PROGRESS workout: its exercises and sets as detached entities,
+ * completed-set counters and the ids of rows changed since the last flush.
+ * All access goes through {@link LiveSessionStore}, which synchronizes on the session.
+ */
+public class LiveSession {
+
+    private final Long workoutId;
+    private final Long userId;
+    private final String username;
+    private final Map<Long, WorkoutExercise> exercises = new LinkedHashMap<>();
+    private final Map<Long, List<ExerciseSet>> setsByExercise = new HashMap<>();
+    private final Map<Long, ExerciseSet> sets = new HashMap<>();
+    private final Map<Long, Integer> completedSets = new HashMap<>();
+    private final Set<Long> dirtyExercises = new HashSet<>();
+    private final Set<Long> dirtySets = new HashSet<>();
+    private long lastAccessMillis = System.currentTimeMillis();
+
+    public LiveSession(Long workoutId, Long userId, String username) {
+        this.workoutId = workoutId;
+        this.userId = userId;
+        this.username = username;
+    }
+
+    public Long getWorkoutId() {
+        return workoutId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public boolean isOwnedBy(String username) {
+        return this.username.equals(username);
+    }
+
+    void addExercise(WorkoutExercise exercise) {
+        exercises.put(exercise.getId(), exercise);
+        setsByExercise.putIfAbsent(exercise.getId(), new ArrayList<>());
+        completedSets.putIfAbsent(exercise.getId(), 0);
+    }
+
+    void addSet(Long workoutExerciseId, ExerciseSet set) {
+        setsByExercise.computeIfAbsent(workoutExerciseId, id -> new ArrayList<>()).add(set);
+        sets.put(set.getId(), set);
+        if (set.getStatus() == ExerciseSet.Status.COMPLETED) {
+            completedSets.merge(workoutExerciseId, 1, Integer::sum);
+        }
+    }
+
+    WorkoutExercise getExercise(Long workoutExerciseId) {
+        return exercises.get(workoutExerciseId);
+    }
+
+    Collection<WorkoutExercise> getExercises() {
+        return exercises.values();
+    }
+
+    ExerciseSet getSet(Long setId) {
+        return sets.get(setId);
+    }
+
+    List<ExerciseSet> getSets(Long workoutExerciseId) {
+        List<ExerciseSet> result = new ArrayList<>(setsByExercise.getOrDefault(workoutExerciseId, List.of()));
+        result.sort(Comparator.comparing(ExerciseSet::getSetNumber));
+        return result;
+    }
+
+    int incrementCompletedSets(Long workoutExerciseId) {
+        return completedSets.merge(workoutExerciseId, 1, Integer::sum);
+    }
+
+    void markExerciseDirty(Long workoutExerciseId) {
+        dirtyExercises.add(workoutExerciseId);
+    }
+
+    void markSetDirty(Long setId) {
+        dirtySets.add(setId);
+    }
+
+    boolean isDirty() {
+        return !dirtyExercises.isEmpty() || !dirtySets.isEmpty();
+    }
+
+    // Returns and clears the changed rows; callers re-mark them if the write fails
+    List<WorkoutExercise> drainDirtyExercises() {
+        List<WorkoutExercise> drained = dirtyExercises.stream().map(exercises::get).filter(Objects::nonNull).toList();
+        dirtyExercises.clear();
+        return drained;
+    }
+
+    List<ExerciseSet> drainDirtySets() {
+        List<ExerciseSet> drained = dirtySets.stream().map(sets::get).filter(Objects::nonNull).toList();
+        dirtySets.clear();
+        return drained;
+    }
+
+    void touch() {
+        lastAccessMillis = System.currentTimeMillis();
+    }
+
+    long getLastAccessMillis() {
+        return lastAccessMillis;
+    }
+}
@@ -0,0 +1,223 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.entity.ExerciseSet;
+import com.fitnessapp.entity.WorkoutExercise;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Append-only local journal of live-session changes, one file per workout. Each line carries the
+ * absolute state of a row, so replaying a file (in order, last line wins) is idempotent.
+ * Before a flush the current file is rotated to {@code <workoutId>.<sequence>.flushing}. Only that flush deletes it,
+ * once it commits, so concurrent flushes of the same workout never discard each other's changes.
+ */
+@Component
+public class LiveSessionJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveSessionJournal.class);
+
+    private static final String ACTIVE_SUFFIX = ".journal";
+    private static final String ROTATED_SUFFIX = ".flushing";
+
+    private final Path directory;
+    private final boolean fsync;
+    private final Map<Long, FileChannel> channels = new ConcurrentHashMap<>();
+    // Continues after files left from an earlier run, so replay order follows rotation order across restarts
+    private final AtomicLong rotations;
+
+    public LiveSessionJournal(@Value("${app.live-sessions.journal-dir:${java.io.tmpdir}/fitnessapp-live-journal}") String directory,
+                              @Value("${app.live-sessions.journal-fsync:true}") boolean fsync) {
+        this.directory = Paths.get(directory);
+        this.fsync = fsync;
+        this.rotations = new AtomicLong(list("*" + ROTATED_SUFFIX).stream()
+                .mapToLong(LiveSessionJournal::sequence).max().orElse(0));
+    }
+
+    public void appendSet(Long workoutId, ExerciseSet set) {
+        append(workoutId, "S," + set.getId() + "," + set.getStatus() + "," + format(set.getCompletedAt()));
+    }
+
+    public void appendExercise(Long workoutId, WorkoutExercise exercise) {
+        append(workoutId, "E," + exercise.getId() + "," + exercise.getStatus() + ","
+                + format(exercise.getStartedAt()) + "," + format(exercise.getCompletedAt()));
+    }
+
+    /**
+     * Moves the workout's journal aside for a flush and returns the rotated file, or null if nothing was journaled.
+     */
+    public Path rotate(Long workoutId) {
+        close(workoutId);
+        Path active = directory.resolve(workoutId + ACTIVE_SUFFIX);
+        if (!Files.exists(active)) {
+            return null;
+        }
+        Path rotated = directory.resolve(String.format("%d.%019d%s", workoutId, rotations.incrementAndGet(), ROTATED_SUFFIX));
+        try {
+            Files.move(active, rotated, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to rotate live-session journal for workout " + workoutId, e);
+        }
+        return rotated;
+    }
+
+    // Called by the flush that rotated the file, once its changes are committed or journaled again
+    public void discard(Path rotated) {
+        if (rotated != null) {
+            deleteQuietly(rotated);
+        }
+    }
+
+    // Rotated files are left to the flushes that own them
+    public void delete(Long workoutId) {
+        close(workoutId);
+        deleteQuietly(directory.resolve(workoutId + ACTIVE_SUFFIX));
+    }
+
+    /**
+     * Latest journaled state per row across all files left behind, e.g. after a crash.
+     */
+    public Recovered readAll() {
+        Recovered recovered = new Recovered(new ArrayList<>(), new LinkedHashMap<>(), new LinkedHashMap<>());
+        List<Path> files = new ArrayList<>(list("*" + ROTATED_SUFFIX));
+        files.sort(Comparator.comparingLong(LiveSessionJournal::sequence));
+        files.addAll(list("*" + ACTIVE_SUFFIX));
+
+        for (Path file : files) {
+            try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+                lines.forEach(line -> {
+                    try {
+                        parse(line, recovered);
+                    } catch (RuntimeException e) {
+                        // A torn final line from a crash mid-write
+                        logger.warn("Skipping malformed line in {}: {}", file, line);
+                    }
+                });
+            } catch (IOException | UncheckedIOException e) {
+                logger.warn("Skipping unreadable live-session journal {}: {}", file, e.getMessage());
+            }
+            recovered.files().add(file);
+        }
+        return recovered;
+    }
+
+    public void deleteFiles(Collection<Path> files) {
+        channels.keySet().forEach(this::close);
+        files.forEach(this::deleteQuietly);
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        channels.keySet().forEach(this::close);
+    }
+
+    private void append(Long workoutId, String line) {
+        try {
+            FileChannel channel = channels.computeIfAbsent(workoutId, this::open);
+            synchronized (channel) {
+                channel.write(ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8)));
+                if (fsync) {
+                    channel.force(false);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // The change is still held in memory and flushed on the next cycle; only crash safety is lost
+            logger.error("Failed to journal live-session change for workout {}: {}", workoutId, e.getMessage());
+        }
+    }
+
+    private FileChannel open(Long workoutId) {
+        try {
+            Files.createDirectories(directory);
+            return FileChannel.open(directory.resolve(workoutId + ACTIVE_SUFFIX),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void close(Long workoutId) {
+        FileChannel channel = channels.remove(workoutId);
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("Failed to close live-session journal for workout {}", workoutId);
+            }
+        }
+    }
+
+    private List<Path> list(String glob) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return files;
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Failed to delete live-session journal {}", file);
+        }
+    }
+
+    private static long sequence(Path rotated) {
+        String name = rotated.getFileName().toString();
+        String withoutSuffix = name.substring(0, name.length() - ROTATED_SUFFIX.length());
+        try {
+            return Long.parseLong(withoutSuffix.substring(withoutSuffix.indexOf('.') + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void parse(String line, Recovered recovered) {
+        String[] parts = line.split(",", -1);
+        if (parts[0].equals("S") && parts.length == 4) {
+            ExerciseSet set = new ExerciseSet();
+            set.setId(Long.valueOf(parts[1]));
+            set.setStatus(ExerciseSet.Status.valueOf(parts[2]));
+            set.setCompletedAt(parse(parts[3]));
+            recovered.sets().put(set.getId(), set);
+        } else if (parts[0].equals("E") && parts.length == 5) {
+            WorkoutExercise exercise = new WorkoutExercise();
+            exercise.setId(Long.valueOf(parts[1]));
+            exercise.setStatus(WorkoutExercise.Status.valueOf(parts[2]));
+            exercise.setStartedAt(parse(parts[3]));
+            exercise.setCompletedAt(parse(parts[4]));
+            recovered.exercises().put(exercise.getId(), exercise);
+        }
+    }
+
+    private static String format(LocalDateTime value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static LocalDateTime parse(String value) {
+        return value.isEmpty() ? null : LocalDateTime.parse(value);
+    }
+
+    public record Recovered(List<Path> files, Map<Long, WorkoutExercise> exercises, Map<Long, ExerciseSet> sets) {
+    }
+}
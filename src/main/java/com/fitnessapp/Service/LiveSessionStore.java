@@ -0,0 +1,397 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.entity.ExerciseSet;
+import com.fitnessapp.entity.Workout;
+import com.fitnessapp.entity.WorkoutExercise;
+import com.fitnessapp.repository.ExerciseSetRepository;
+import com.fitnessapp.repository.WorkoutRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind store for IN_PROGRESS workouts. While a session is open, set and exercise state changes
+ * are applied in memory, journaled locally and written to the database in coalesced JDBC batches
+ * (on a timer, before reads that go to the database, and when the workout completes).
+ *
+ * Sessions live in this JVM only, so enabling it (app.live-sessions.enabled) requires a single
+ * instance or sticky routing by user.
+ */
+@Component
+public class LiveSessionStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiveSessionStore.class);
+
+    // Status changes only move forward, so replays and late flushes can never undo newer state
+    private static final String UPDATE_SET_SQL =
+            "UPDATE exercise_sets SET status = ?, completed_at = ?, updated_at = ?, version = version + 1 " +
+            "WHERE id = ? AND status <> 'COMPLETED'";
+    private static final String UPDATE_EXERCISE_SQL =
+            "UPDATE workout_exercises SET status = ?, started_at = COALESCE(started_at, ?), completed_at = ?, updated_at = ?, " +
+            "version = version + 1 " +
+            "WHERE id = ? AND (status = 'PENDING' OR (status = 'IN_PROGRESS' AND ? = 1))";
+    // Recount rather than increment, so replaying the same journal twice cannot double-count
+    private static final String RECOUNT_SETS_SQL =
+            "UPDATE workout_exercises SET completed_sets = (SELECT COUNT(*) FROM exercise_sets es " +
+            "WHERE es.workout_exercise_id = workout_exercises.id AND es.status = 'COMPLETED'), updated_at = ? " +
+            "WHERE id = (SELECT workout_exercise_id FROM exercise_sets WHERE id = ?)";
+
+    private final boolean enabled;
+    private final Duration idleTimeout;
+    private final WorkoutRepository workoutRepository;
+    private final ExerciseSetRepository exerciseSetRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LiveSessionJournal journal;
+
+    private final Map<Long, LiveSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Long> workoutByExercise = new ConcurrentHashMap<>();
+    private final Map<Long, Long> workoutBySet = new ConcurrentHashMap<>();
+
+    public LiveSessionStore(@Value("${app.live-sessions.enabled:false}") boolean enabled,
+                            @Value("${app.live-sessions.idle-timeout:2h}") Duration idleTimeout,
+                            WorkoutRepository workoutRepository,
+                            ExerciseSetRepository exerciseSetRepository,
+                            EntityManager entityManager,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            LiveSessionJournal journal) {
+        this.enabled = enabled;
+        this.idleTimeout = idleTimeout;
+        this.workoutRepository = workoutRepository;
+        this.exerciseSetRepository = exerciseSetRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.journal = journal;
+    }
+
+    public Optional<LiveSession> find(Long workoutId) {
+        return Optional.ofNullable(sessions.get(workoutId));
+    }
+
+    public Optional<LiveSession> findByExercise(Long workoutExerciseId) {
+        Long workoutId = workoutByExercise.get(workoutExerciseId);
+        return workoutId == null ? Optional.empty() : find(workoutId);
+    }
+
+    public Optional<LiveSession> findBySet(Long setId) {
+        Long workoutId = workoutBySet.get(setId);
+        return workoutId == null ? Optional.empty() : find(workoutId);
+    }
+
+    /**
+     * Loads an IN_PROGRESS workout into memory (two queries); later calls for it skip the database.
+     * Must run inside a transaction so the loaded entities can be detached from it.
+     */
+    public void open(Workout workout) {
+        if (!enabled || workout.getStatus() != Workout.Status.IN_PROGRESS || sessions.containsKey(workout.getId())) {
+            return;
+        }
+
+        entityManager.flush();
+        Workout loaded = workoutRepository.findByIdAndUserWithExercises(workout.getId(), workout.getUser())
+                .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workout.getId()));
+        List<ExerciseSet> sets = exerciseSetRepository.findByWorkoutId(workout.getId());
+
+        LiveSession session = new LiveSession(loaded.getId(), loaded.getUser().getId(), loaded.getUser().getUsername());
+        for (WorkoutExercise exercise : loaded.getExercises()) {
+            entityManager.detach(exercise);
+            session.addExercise(exercise);
+        }
+        for (ExerciseSet set : sets) {
+            Long workoutExerciseId = set.getWorkoutExercise().getId();
+            entityManager.detach(set);
+            session.addSet(workoutExerciseId, set);
+        }
+
+        // Detach the workout too, so a later flush of this transaction cannot cascade into the detached children
+        entityManager.detach(loaded);
+
+        if (sessions.putIfAbsent(loaded.getId(), session) == null) {
+            session.getExercises().forEach(exercise -> workoutByExercise.put(exercise.getId(), loaded.getId()));
+            sets.forEach(set -> workoutBySet.put(set.getId(), loaded.getId()));
+        }
+    }
+
+    /**
+     * Returns the updated exercise, or null if the exercise is already finished and has to be reopened
+     * through the database path.
+     */
+    public WorkoutExercise startExercise(LiveSession session, Long workoutExerciseId) {
+        synchronized (session) {
+            WorkoutExercise exercise = session.getExercise(workoutExerciseId);
+            if (exercise.getStatus() == WorkoutExercise.Status.COMPLETED
+                    || exercise.getStatus() == WorkoutExercise.Status.SKIPPED) {
+                return null;
+            }
+            if (exercise.getStatus() == WorkoutExercise.Status.PENDING) {
+                exercise.startExercise();
+                recordExercise(session, exercise);
+            }
+            return exercise;
+        }
+    }
+
+    // Sets are inserted synchronously (the id comes from the database); only the bookkeeping is in memory
+    public void addLoggedSet(LiveSession session, Long workoutExerciseId, ExerciseSet saved) {
+        entityManager.detach(saved);
+        synchronized (session) {
+            saved.setWorkoutExercise(session.getExercise(workoutExerciseId));
+            session.addSet(workoutExerciseId, saved);
+            workoutBySet.put(saved.getId(), session.getWorkoutId());
+            session.touch();
+        }
+    }
+
+    /**
+     * Returns the completed set, or null if it was already completed (e.g. from another device).
+     */
+    public ExerciseSet completeSet(LiveSession session, Long setId) {
+        synchronized (session) {
+            ExerciseSet set = session.getSet(setId);
+            if (set.getStatus() == ExerciseSet.Status.COMPLETED) {
+                return null;
+            }
+            set.completeSet();
+            session.markSetDirty(setId);
+            journal.appendSet(session.getWorkoutId(), set);
+
+            Long workoutExerciseId = set.getWorkoutExercise().getId();
+            WorkoutExercise exercise = session.getExercise(workoutExerciseId);
+            int completed = session.incrementCompletedSets(workoutExerciseId);
+            exercise.setCompletedSets(completed);
+            if (exercise.getStatus() == WorkoutExercise.Status.IN_PROGRESS
+                    && exercise.getPlannedSets() != null && completed >= exercise.getPlannedSets()) {
+                exercise.completeExercise();
+                recordExercise(session, exercise);
+            }
+            session.touch();
+            return set;
+        }
+    }
+
+    /**
+     * Returns the completed exercise, or null if it was already completed.
+     */
+    public WorkoutExercise completeExercise(LiveSession session, Long workoutExerciseId) {
+        synchronized (session) {
+            WorkoutExercise exercise = session.getExercise(workoutExerciseId);
+            if (exercise.getStatus() == WorkoutExercise.Status.COMPLETED) {
+                return null;
+            }
+            if (exercise.getStatus() != WorkoutExercise.Status.IN_PROGRESS) {
+                throw new IllegalStateException("Can only complete exercises that are in progress");
+            }
+            exercise.completeExercise();
+            recordExercise(session, exercise);
+            return exercise;
+        }
+    }
+
+    public WorkoutExercise getExercise(LiveSession session, Long workoutExerciseId) {
+        synchronized (session) {
+            session.touch();
+            return session.getExercise(workoutExerciseId);
+        }
+    }
+
+    public ExerciseSet getSet(LiveSession session, Long setId) {
+        synchronized (session) {
+            session.touch();
+            return session.getSet(setId);
+        }
+    }
+
+    public List<ExerciseSet> getSets(LiveSession session, Long workoutExerciseId) {
+        synchronized (session) {
+            session.touch();
+            return session.getSets(workoutExerciseId);
+        }
+    }
+
+    /**
+     * Writes pending changes for the workout, joining the caller's transaction if there is one.
+     */
+    public void flush(Long workoutId) {
+        LiveSession session = sessions.get(workoutId);
+        if (session == null) {
+            return;
+        }
+
+        List<WorkoutExercise> exercises;
+        List<ExerciseSet> sets;
+        Path rotated;
+        synchronized (session) {
+            if (!session.isDirty()) {
+                return;
+            }
+            exercises = session.drainDirtyExercises();
+            sets = session.drainDirtySets();
+            rotated = journal.rotate(workoutId);
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                write(exercises, sets);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int completionStatus) {
+                        if (completionStatus == STATUS_COMMITTED) {
+                            journal.discard(rotated);
+                        } else {
+                            requeue(session, exercises, sets, rotated);
+                        }
+                    }
+                });
+            });
+        } catch (RuntimeException e) {
+            requeue(session, exercises, sets, rotated);
+            throw e;
+        }
+    }
+
+    /**
+     * Flushes and forgets the session, e.g. before the workout is changed through the database path.
+     */
+    public void evict(Long workoutId) {
+        if (!sessions.containsKey(workoutId)) {
+            return;
+        }
+        flush(workoutId);
+        LiveSession session = sessions.remove(workoutId);
+        if (session == null) {
+            return;
+        }
+        synchronized (session) {
+            session.getExercises().forEach(exercise -> {
+                workoutByExercise.remove(exercise.getId());
+                session.getSets(exercise.getId()).forEach(set -> workoutBySet.remove(set.getId()));
+            });
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    journal.delete(workoutId);
+                }
+            });
+        } else {
+            journal.delete(workoutId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.live-sessions.flush-interval-ms:5000}")
+    public void flushAll() {
+        long idleBefore = System.currentTimeMillis() - idleTimeout.toMillis();
+        for (LiveSession session : List.copyOf(sessions.values())) {
+            try {
+                if (session.getLastAccessMillis() < idleBefore) {
+                    transactionTemplate.executeWithoutResult(status -> evict(session.getWorkoutId()));
+                } else {
+                    flush(session.getWorkoutId());
+                }
+            } catch (RuntimeException e) {
+                logger.error("Failed to flush live session for workout {}", session.getWorkoutId(), e);
+            }
+        }
+    }
+
+    // Applies whatever the journal holds from before a crash; the guarded updates make this safe to repeat
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        LiveSessionJournal.Recovered recovered = journal.readAll();
+        if (recovered.files().isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status ->
+                write(List.copyOf(recovered.exercises().values()), List.copyOf(recovered.sets().values())));
+        journal.deleteFiles(recovered.files());
+        logger.info("Replayed {} live-session journals ({} exercises, {} sets)",
+                recovered.files().size(), recovered.exercises().size(), recovered.sets().size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Long workoutId : List.copyOf(sessions.keySet())) {
+            try {
+                flush(workoutId);
+            } catch (RuntimeException e) {
+                logger.error("Failed to flush live session for workout {} on shutdown; journal kept", workoutId, e);
+            }
+        }
+    }
+
+    private void recordExercise(LiveSession session, WorkoutExercise exercise) {
+        session.markExerciseDirty(exercise.getId());
+        journal.appendExercise(session.getWorkoutId(), exercise);
+        session.touch();
+    }
+
+    private void write(List<WorkoutExercise> exercises, List<ExerciseSet> sets) {
+        // The flush time, not the in-memory change time, so delta-sync cursors never skip a late write
+        Timestamp now = timestamp(LocalDateTime.now());
+        if (!sets.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SET_SQL, sets, sets.size(), (ps, set) -> {
+                ps.setString(1, set.getStatus().name());
+                ps.setTimestamp(2, timestamp(set.getCompletedAt()));
+                ps.setTimestamp(3, now);
+                ps.setLong(4, set.getId());
+            });
+            jdbcTemplate.batchUpdate(RECOUNT_SETS_SQL, sets, sets.size(), (ps, set) -> {
+                ps.setTimestamp(1, now);
+                ps.setLong(2, set.getId());
+            });
+        }
+        if (!exercises.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_EXERCISE_SQL, exercises, exercises.size(), (ps, exercise) -> {
+                ps.setString(1, exercise.getStatus().name());
+                ps.setTimestamp(2, timestamp(exercise.getStartedAt()));
+                ps.setTimestamp(3, timestamp(exercise.getCompletedAt()));
+                ps.setTimestamp(4, now);
+                ps.setLong(5, exercise.getId());
+                boolean finished = exercise.getStatus() == WorkoutExercise.Status.COMPLETED
+                        || exercise.getStatus() == WorkoutExercise.Status.SKIPPED;
+                ps.setInt(6, finished ? 1 : 0);
+            });
+        }
+    }
+
+    // Marks the rows dirty again and journals their current state, which makes the rotated file redundant
+    private void requeue(LiveSession session, List<WorkoutExercise> exercises, List<ExerciseSet> sets, Path rotated) {
+        synchronized (session) {
+            exercises.forEach(exercise -> {
+                session.markExerciseDirty(exercise.getId());
+                journal.appendExercise(session.getWorkoutId(), exercise);
+            });
+            sets.forEach(set -> {
+                session.markSetDirty(set.getId());
+                journal.appendSet(session.getWorkoutId(), set);
+            });
+        }
+        journal.discard(rotated);
+    }
+
+    private static Timestamp timestamp(LocalDateTime value) {
+        return value == null ? null : Timestamp.valueOf(value);
+    }
+}
@@ -0,0 +1,138 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.entity.ProgramEnrollment;
+import com.fitnessapp.entity.ProgramSession;
+import com.fitnessapp.entity.TrainingProgram;
+import com.fitnessapp.repository.ProgramEnrollmentRepository;
+import com.fitnessapp.repository.TrainingProgramRepository;
+import com.fitnessapp.repository.WorkoutTemplateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Turns program enrollments into concrete planned workouts, only for a rolling window of upcoming days.
+ * Enrollments that share a session on the same day are cloned together with the bulk template inserts,
+ * so each run costs two statements per distinct (session, day) rather than per enrolled user.
+ */
+@Service
+public class ProgramSchedulingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProgramSchedulingService.class);
+
+    private final ProgramEnrollmentRepository programEnrollmentRepository;
+    private final TrainingProgramRepository trainingProgramRepository;
+    private final WorkoutTemplateRepository workoutTemplateRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final int windowDays;
+
+    public ProgramSchedulingService(ProgramEnrollmentRepository programEnrollmentRepository,
+                                    TrainingProgramRepository trainingProgramRepository,
+                                    WorkoutTemplateRepository workoutTemplateRepository,
+                                    ResourceVersionService resourceVersionService,
+                                    @Value("${app.programs.materialize-window-days:14}") int windowDays) {
+        this.programEnrollmentRepository = programEnrollmentRepository;
+        this.trainingProgramRepository = trainingProgramRepository;
+        this.workoutTemplateRepository = workoutTemplateRepository;
+        this.resourceVersionService = resourceVersionService;
+        this.windowDays = windowDays;
+    }
+
+    @Scheduled(cron = "${app.programs.materialize-cron:0 0 2 * * *}")
+    @Transactional
+    @CacheEvict(value = "userWorkouts", allEntries = true)
+    public void materializeDueEnrollments() {
+        resourceVersionService.allWorkoutsChanged();
+        LocalDate today = LocalDate.now();
+        int completed = programEnrollmentRepository.completeEndedEnrollments(today, LocalDateTime.now());
+        List<ProgramEnrollment> due = programEnrollmentRepository.findDueForMaterialization(horizon(today));
+        int workouts = materialize(due, today);
+        logger.info("Program scheduler: {} enrollments advanced, {} workouts created, {} enrollments completed",
+                due.size(), workouts, completed);
+    }
+
+    /**
+     * Generates workouts for the given enrollments from their last materialised day up to the window horizon.
+     * Returns the number of workouts created.
+     */
+    @Transactional
+    public int materialize(Collection<ProgramEnrollment> enrollments, LocalDate today) {
+        if (enrollments.isEmpty()) {
+            return 0;
+        }
+        LocalDate horizon = horizon(today);
+
+        Set<Long> programIds = enrollments.stream().map(e -> e.getProgram().getId()).collect(Collectors.toSet());
+        Map<Long, TrainingProgram> programs = trainingProgramRepository.findAllWithSessionsByIdIn(programIds).stream()
+                .collect(Collectors.toMap(TrainingProgram::getId, Function.identity()));
+
+        Map<SessionDay, List<Long>> enrollmentsBySessionDay = new LinkedHashMap<>();
+        Map<LocalDate, List<Long>> enrollmentsByThrough = new HashMap<>();
+
+        for (ProgramEnrollment enrollment : enrollments) {
+            TrainingProgram program = programs.get(enrollment.getProgram().getId());
+            LocalDate from = max(today, enrollment.getStartDate());
+            if (enrollment.getMaterializedThrough() != null) {
+                from = max(from, enrollment.getMaterializedThrough().plusDays(1));
+            }
+            LocalDate through = enrollment.getEndDate().isBefore(horizon) ? enrollment.getEndDate() : horizon;
+            if (from.isAfter(through)) {
+                continue;
+            }
+
+            for (LocalDate day = from; !day.isAfter(through); day = day.plusDays(1)) {
+                int weekIndex = (int) (ChronoUnit.DAYS.between(enrollment.getStartDate(), day) / 7);
+                for (ProgramSession session : program.getSessions()) {
+                    if (session.isScheduledOn(weekIndex, day.getDayOfWeek())) {
+                        SessionDay key = new SessionDay(program.getId(), session.getTemplate().getId(), day, weekIndex);
+                        enrollmentsBySessionDay.computeIfAbsent(key, k -> new ArrayList<>()).add(enrollment.getId());
+                    }
+                }
+            }
+            enrollmentsByThrough.computeIfAbsent(through, k -> new ArrayList<>()).add(enrollment.getId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int workouts = 0;
+        for (Map.Entry<SessionDay, List<Long>> entry : enrollmentsBySessionDay.entrySet()) {
+            SessionDay sessionDay = entry.getKey();
+            TrainingProgram program = programs.get(sessionDay.programId());
+            String assignmentId = UUID.randomUUID().toString();
+
+            workouts += workoutTemplateRepository.insertWorkoutsForEnrollments(
+                    sessionDay.templateId(), entry.getValue(), sessionDay.day().atStartOfDay(), assignmentId, now);
+            workoutTemplateRepository.insertWorkoutExercisesFromTemplate(assignmentId,
+                    program.weightFactorForWeek(sessionDay.weekIndex()),
+                    program.weightDeltaForWeek(sessionDay.weekIndex()),
+                    program.repsDeltaForWeek(sessionDay.weekIndex()),
+                    now);
+        }
+
+        enrollmentsByThrough.forEach((through, ids) ->
+                programEnrollmentRepository.markMaterializedThrough(ids, through, now));
+
+        return workouts;
+    }
+
+    private LocalDate horizon(LocalDate today) {
+        return today.plusDays(windowDays - 1L);
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record SessionDay(Long programId, Long templateId, LocalDate day, int weekIndex) {
+    }
+}
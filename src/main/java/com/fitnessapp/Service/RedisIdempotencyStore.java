@@ -0,0 +1,70 @@
+package com.fitnessapp.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Redis-backed idempotency store, so a retry that lands on another instance is still recognised.
+ * Requires RedisAutoConfiguration to be removed from spring.autoconfigure.exclude.
+ */
+@Service
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "redis")
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration inProgressTtl;
+
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate,
+                                 @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                                 @Value("${app.idempotency.in-progress-ttl:5m}") Duration inProgressTtl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.inProgressTtl = inProgressTtl;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> claim(String key, String fingerprint) {
+        // A short lease: if this instance dies mid-request, the key frees up instead of answering 409 for a whole ttl
+        Boolean claimed = redisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + key, encode(IdempotentResponse.inProgress(fingerprint)), inProgressTtl);
+        if (Boolean.TRUE.equals(claimed)) {
+            return Optional.empty();
+        }
+        // Expired between SETNX and GET: report it as in progress and let the client retry
+        String existing = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        return Optional.of(existing == null ? IdempotentResponse.inProgress(fingerprint) : decode(existing));
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, encode(response), ttl);
+    }
+
+    @Override
+    public void release(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    // status \n content type \n fingerprint \n base64 body
+    private static String encode(IdempotentResponse response) {
+        return response.status() + "\n"
+                + (response.contentType() == null ? "" : response.contentType()) + "\n"
+                + response.fingerprint() + "\n"
+                + Base64.getEncoder().encodeToString(response.body());
+    }
+
+    private static IdempotentResponse decode(String value) {
+        String[] parts = value.split("\n", 4);
+        return new IdempotentResponse(parts[2], Integer.parseInt(parts[0]),
+                parts[1].isEmpty() ? null : parts[1], Base64.getDecoder().decode(parts[3]));
+    }
+}
@@ -0,0 +1,124 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.LeaderboardEntryDTO;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis ZSET-backed leaderboards, shared by all application instances.
+ * Requires RedisAutoConfiguration to be removed from spring.autoconfigure.exclude.
+ */
+@Service
+@ConditionalOnProperty(name = "app.leaderboards.store", havingValue = "redis")
+public class RedisLeaderboardStore implements LeaderboardStore {
+
+    private static final String KEY_PREFIX = "leaderboard:";
+    private static final String STAGING_SUFFIX = ":rebuild";
+
+    // ZADD GT needs Redis 6.2, so compare-and-set in a script instead
+    private static final DefaultRedisScript<Long> SET_IF_HIGHER = new DefaultRedisScript<>(
+            "local current = redis.call('ZSCORE', KEYS[1], ARGV[2]) " +
+            "if (not current) or tonumber(current) < tonumber(ARGV[1]) then " +
+            "  redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisLeaderboardStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void setScore(String board, long userId, double score) {
+        redisTemplate.opsForZSet().add(key(board), Long.toString(userId), score);
+    }
+
+    @Override
+    public void setScoreIfHigher(String board, long userId, double score) {
+        redisTemplate.execute(SET_IF_HIGHER, List.of(key(board)), Double.toString(score), Long.toString(userId));
+    }
+
+    @Override
+    public void incrementScore(String board, long userId, double delta) {
+        redisTemplate.opsForZSet().incrementScore(key(board), Long.toString(userId), delta);
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> top(String board, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key(board), 0, limit - 1);
+        List<LeaderboardEntryDTO> entries = new ArrayList<>();
+        if (tuples == null) {
+            return entries;
+        }
+        int rank = 1;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            entries.add(new LeaderboardEntryDTO(rank++, Long.valueOf(tuple.getValue()), null, tuple.getScore()));
+        }
+        return entries;
+    }
+
+    @Override
+    public Optional<LeaderboardEntryDTO> rankOf(String board, long userId) {
+        String member = Long.toString(userId);
+        Long rank = redisTemplate.opsForZSet().reverseRank(key(board), member);
+        Double score = redisTemplate.opsForZSet().score(key(board), member);
+        if (rank == null || score == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new LeaderboardEntryDTO(rank.intValue() + 1, userId, null, score));
+    }
+
+    @Override
+    public void replaceBoard(String board, Map<Long, Double> scores) {
+        if (scores.isEmpty()) {
+            deleteBoard(board);
+            return;
+        }
+        // Build under a temporary key, then RENAME so readers never see a half-built board
+        String staging = key(board) + STAGING_SUFFIX;
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        scores.forEach((userId, score) -> tuples.add(new DefaultTypedTuple<>(Long.toString(userId), score)));
+        redisTemplate.delete(staging);
+        redisTemplate.opsForZSet().add(staging, tuples);
+        redisTemplate.rename(staging, key(board));
+    }
+
+    @Override
+    public void deleteBoard(String board) {
+        redisTemplate.delete(key(board));
+    }
+
+    @Override
+    public Set<String> boards(String prefix) {
+        // SCAN rather than KEYS, which blocks Redis while it walks the whole keyspace
+        ScanOptions options = ScanOptions.scanOptions().match(key(prefix) + "*").count(500).build();
+        Set<String> boards = new HashSet<>();
+        try (Cursor<String> keys = redisTemplate.scan(options)) {
+            keys.forEachRemaining(key -> {
+                if (!key.endsWith(STAGING_SUFFIX)) {
+                    boards.add(key.substring(KEY_PREFIX.length()));
+                }
+            });
+        }
+        return boards;
+    }
+
+    private static String key(String board) {
+        return KEY_PREFIX + board;
+    }
+}
@@ -0,0 +1,54 @@
+package com.fitnessapp.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Redis-backed versions, so an ETag issued by one instance is invalidated by a write on another.
+ * Requires RedisAutoConfiguration to be removed from spring.autoconfigure.exclude.
+ */
+@Service
+@ConditionalOnProperty(name = "app.resource-versions.store", havingValue = "redis")
+public class RedisResourceVersionStore implements ResourceVersionStore {
+
+    private static final String KEY_PREFIX = "resource-version:";
+    private static final String SEQUENCE_KEY = KEY_PREFIX + "sequence";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public RedisResourceVersionStore(StringRedisTemplate redisTemplate,
+                                     @Value("${app.resource-versions.ttl:30d}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public long current(String key) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (value != null) {
+            return Long.parseLong(value);
+        }
+        // Losing the SETNX race is fine: the winner's value is read back
+        redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, Long.toString(nextValue()), ttl);
+        value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        return value == null ? nextValue() : Long.parseLong(value);
+    }
+
+    @Override
+    public void bump(String key) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, Long.toString(nextValue()), ttl);
+    }
+
+    private long nextValue() {
+        Long next = redisTemplate.opsForValue().increment(SEQUENCE_KEY);
+        if (next == null) {
+            throw new IllegalStateException("Redis INCR returned no value");
+        }
+        return next;
+    }
+}
@@ -0,0 +1,60 @@
+package com.fitnessapp.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Versions behind the strong ETags on catalog and workout-history reads, so a matching If-None-Match can be
+ * answered with 304 before any query runs.
+ *
+ * Versions move after commit: a read racing the commit may get new data with the old ETag, which only costs that
+ * client one extra full response later, whereas bumping first could pin old data under the new ETag.
+ */
+@Service
+public class ResourceVersionService {
+
+    private static final String CATALOG_KEY = "catalog";
+    // Bumped by bulk writers (template assignment, program scheduling) that touch many users' workouts at once
+    private static final String ALL_WORKOUTS_KEY = "workouts";
+    private static final String USER_WORKOUTS_KEY_PREFIX = "workouts:";
+
+    private final ResourceVersionStore store;
+
+    public ResourceVersionService(ResourceVersionStore store) {
+        this.store = store;
+    }
+
+    public String catalogETag() {
+        return "\"catalog-" + store.current(CATALOG_KEY) + "\"";
+    }
+
+    public String userWorkoutsETag(String username) {
+        return "\"workouts-" + store.current(ALL_WORKOUTS_KEY) + "-" + store.current(USER_WORKOUTS_KEY_PREFIX + username) + "\"";
+    }
+
+    public void catalogChanged() {
+        bumpAfterCommit(CATALOG_KEY);
+    }
+
+    public void userWorkoutsChanged(String username) {
+        bumpAfterCommit(USER_WORKOUTS_KEY_PREFIX + username);
+    }
+
+    public void allWorkoutsChanged() {
+        bumpAfterCommit(ALL_WORKOUTS_KEY);
+    }
+
+    private void bumpAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            store.bump(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                store.bump(key);
+            }
+        });
+    }
+}
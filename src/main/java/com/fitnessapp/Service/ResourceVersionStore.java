@@ -0,0 +1,12 @@
+package com.fitnessapp.service;
+
+/**
+ * Monotonic version counters for HTTP validators. A key that was never bumped (or was evicted) reads as a fresh
+ * value that no earlier ETag can match, so forgetting a key costs one full response, never a stale 304.
+ */
+public interface ResourceVersionStore {
+
+    long current(String key);
+
+    void bump(String key);
+}
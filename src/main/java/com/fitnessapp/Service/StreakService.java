@@ -0,0 +1,114 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.ConsistencyDTO;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.UserStreak;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.UserStreakRepository;
+import com.fitnessapp.repository.WorkoutRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Transactional
+public class StreakService {
+
+    private final UserStreakRepository userStreakRepository;
+    private final UserRepository userRepository;
+    private final WorkoutRepository workoutRepository;
+    private final TransactionTemplate newTransaction;
+
+    public StreakService(UserStreakRepository userStreakRepository,
+                         UserRepository userRepository,
+                         WorkoutRepository workoutRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.userStreakRepository = userStreakRepository;
+        this.userRepository = userRepository;
+        this.workoutRepository = workoutRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public UserStreak recordWorkoutCompleted(User user, LocalDateTime completedAt) {
+        UserStreak streak = getOrRebuild(user);
+
+        // Recording the same day twice is a no-op, so a rebuild that already saw this workout is safe
+        if (streak.recordActivity(completedAt.toLocalDate())) {
+            streak = userStreakRepository.save(streak);
+        }
+        return streak;
+    }
+
+    public ConsistencyDTO getConsistency(String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+
+        UserStreak streak = getOrRebuild(user);
+
+        LocalDate today = LocalDate.now();
+        LocalDate windowStart = today.minusDays(UserStreak.WINDOW_DAYS - 1);
+        LocalDate startOfWeek = today.minusDays(today.getDayOfWeek().getValue() - 1);
+
+        List<Object[]> weekCounts = workoutRepository.countScheduledAndCompletedBetween(
+                user.getId(), startOfWeek.atStartOfDay(), startOfWeek.plusDays(7).atStartOfDay());
+        long scheduled = weekCounts.isEmpty() ? 0 : ((Number) weekCounts.get(0)[0]).longValue();
+        long completed = weekCounts.isEmpty() ? 0 : ((Number) weekCounts.get(0)[1]).longValue();
+        Double adherence = scheduled > 0 ? (completed * 100.0) / scheduled : null;
+
+        // Sessions scheduled before today that were never completed
+        long missed = workoutRepository.countMissedBetween(
+                user.getId(), windowStart.atStartOfDay(), today.atStartOfDay());
+
+        return new ConsistencyDTO(
+                streak.getLastActiveDate(),
+                streak.currentStreakAsOf(today),
+                streak.getLongestStreak(),
+                streak.getTotalActiveDays(),
+                windowStart,
+                today,
+                streak.activeDaysAsOf(today),
+                scheduled,
+                completed,
+                adherence,
+                missed
+        );
+    }
+
+    private UserStreak getOrRebuild(User user) {
+        return userStreakRepository.findByUserId(user.getId())
+                .orElseGet(() -> createFromHistory(user));
+    }
+
+    // Two requests can both find no row, e.g. a first completeWorkout and a consistency GET. The insert runs in its own
+    // transaction so the loser's duplicate key does not roll back the caller (the workout completion); the loser then
+    // reads the winner's row, which was built from the same history. A user created in the caller's own, uncommitted
+    // transaction fails the foreign key instead; no other request can see that user, so the row is built in place
+    private UserStreak createFromHistory(User user) {
+        try {
+            return newTransaction.execute(status -> rebuildFromHistory(user));
+        } catch (DataIntegrityViolationException e) {
+            return userStreakRepository.findByUserId(user.getId())
+                    .orElseGet(() -> rebuildFromHistory(user));
+        }
+    }
+
+    // One-time scan of completed workouts for users that predate the streak table
+    private UserStreak rebuildFromHistory(User user) {
+        UserStreak streak = new UserStreak();
+        streak.setUser(user);
+
+        for (LocalDateTime completedAt : workoutRepository.findCompletionTimesByUser(user.getId())) {
+            streak.recordActivity(completedAt.toLocalDate());
+        }
+
+        return userStreakRepository.saveAndFlush(streak);
+    }
+}
@@ -0,0 +1,264 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.SyncChangesDTO;
+import com.fitnessapp.dto.SyncOperationResultDTO;
+import com.fitnessapp.dto.WorkoutExerciseDTO;
+import com.fitnessapp.dto.request.sync.SyncOperationRequest;
+import com.fitnessapp.dto.request.sync.SyncUploadRequest;
+import com.fitnessapp.entity.*;
+import com.fitnessapp.repository.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Delta sync for offline clients: changed rows since an opaque token, and a batched upload of offline changes.
+ *
+ * The token is an updated_at watermark. It is handed out a safety margin behind the query time so rows committed
+ * late by slower transactions are picked up on the next call; clients must treat rows as upserts.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncService.class);
+
+    private static final String TOKEN_PREFIX = "v1:";
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final UserRepository userRepository;
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final ExerciseSetRepository exerciseSetRepository;
+    private final GoalRepository goalRepository;
+    private final UserProgressRepository userProgressRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final WorkoutService workoutService;
+    private final GoalService goalService;
+    private final UserProgressService userProgressService;
+    private final LiveSessionStore liveSessionStore;
+    private final int pageSize;
+    private final Duration safetyMargin;
+    private final Duration tombstoneRetention;
+
+    public SyncService(UserRepository userRepository,
+                       WorkoutRepository workoutRepository,
+                       WorkoutExerciseRepository workoutExerciseRepository,
+                       ExerciseSetRepository exerciseSetRepository,
+                       GoalRepository goalRepository,
+                       UserProgressRepository userProgressRepository,
+                       SyncTombstoneRepository syncTombstoneRepository,
+                       WorkoutService workoutService,
+                       GoalService goalService,
+                       UserProgressService userProgressService,
+                       LiveSessionStore liveSessionStore,
+                       @Value("${app.sync.page-size:500}") int pageSize,
+                       @Value("${app.sync.safety-margin:60s}") Duration safetyMargin,
+                       @Value("${app.sync.tombstone-retention:90d}") Duration tombstoneRetention) {
+        this.userRepository = userRepository;
+        this.workoutRepository = workoutRepository;
+        this.workoutExerciseRepository = workoutExerciseRepository;
+        this.exerciseSetRepository = exerciseSetRepository;
+        this.goalRepository = goalRepository;
+        this.userProgressRepository = userProgressRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.workoutService = workoutService;
+        this.goalService = goalService;
+        this.userProgressService = userProgressService;
+        this.liveSessionStore = liveSessionStore;
+        this.pageSize = pageSize;
+        this.safetyMargin = safetyMargin;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public SyncChangesDTO getChanges(String username, String token) {
+        User user = getUser(username);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = token == null || token.isBlank() ? BEGINNING : decodeToken(token);
+
+        // Tombstones older than the retention window may already be purged, so deletions cannot be trusted
+        boolean fullResync = !since.equals(BEGINNING) && since.isBefore(now.minus(tombstoneRetention));
+        if (fullResync) {
+            since = BEGINNING;
+        }
+
+        Pageable limit = PageRequest.of(0, pageSize);
+        List<Workout> workouts = workoutRepository.findChangedSince(user.getId(), since, limit);
+        List<WorkoutExercise> exercises = workoutExerciseRepository.findChangedSince(user.getId(), since, limit);
+        List<ExerciseSet> sets = exerciseSetRepository.findChangedSince(user.getId(), since, limit);
+        List<Goal> goals = goalRepository.findChangedSince(user.getId(), since, limit);
+        List<UserProgress> progress = userProgressRepository.findChangedSince(user.getId(), since, limit);
+        List<SyncTombstone> deleted = fullResync
+                ? List.of()
+                : syncTombstoneRepository.findChangedSince(user.getId(), since, limit);
+
+        // A full page means more rows may follow; resume from the earliest point any truncated list reached
+        LocalDateTime next = now.minus(safetyMargin);
+        boolean hasMore = false;
+        LocalDateTime[] lastSeen = {
+                lastTimestamp(workouts, Workout::getUpdatedAt),
+                lastTimestamp(exercises, WorkoutExercise::getUpdatedAt),
+                lastTimestamp(sets, ExerciseSet::getUpdatedAt),
+                lastTimestamp(goals, Goal::getUpdatedAt),
+                lastTimestamp(progress, UserProgress::getUpdatedAt),
+                lastTimestamp(deleted, SyncTombstone::getDeletedAt)
+        };
+        for (LocalDateTime last : lastSeen) {
+            if (last != null) {
+                hasMore = true;
+                next = last.isBefore(next) ? last : next;
+            }
+        }
+        if (hasMore && !next.isAfter(since)) {
+            logger.warn("More than {} rows for user {} share updated_at {}; raise app.sync.page-size", pageSize, user.getId(), since);
+        }
+
+        return new SyncChangesDTO(encodeToken(next), hasMore, fullResync,
+                workouts,
+                exercises.stream().map(WorkoutExerciseDTO::fromEntity).toList(),
+                sets, goals, progress, deleted);
+    }
+
+    /**
+     * Applies offline changes in order, all or nothing: the first failing operation rolls the whole upload back
+     * and its index is reported in the error message.
+     */
+    @Transactional
+    public List<SyncOperationResultDTO> applyChanges(String username, SyncUploadRequest request) {
+        Map<String, Long> setIdsByRef = new HashMap<>();
+        List<SyncOperationResultDTO> results = new ArrayList<>(request.getOperations().size());
+
+        for (int index = 0; index < request.getOperations().size(); index++) {
+            SyncOperationRequest operation = request.getOperations().get(index);
+            try {
+                Long entityId = apply(username, operation, setIdsByRef, index);
+                results.add(new SyncOperationResultDTO(index, operation.getType(), entityId, operation.getClientRef()));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(describe(index, operation) + e.getMessage(), e);
+            } catch (IllegalStateException e) {
+                throw new IllegalStateException(describe(index, operation) + e.getMessage(), e);
+            }
+        }
+        return results;
+    }
+
+    @Scheduled(cron = "${app.sync.tombstone-purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        int purged = syncTombstoneRepository.deleteOlderThan(LocalDateTime.now().minus(tombstoneRetention));
+        if (purged > 0) {
+            logger.info("Purged {} sync tombstones older than {}", purged, tombstoneRetention);
+        }
+    }
+
+    private Long apply(String username, SyncOperationRequest operation, Map<String, Long> setIdsByRef, int index) {
+        // Live sessions write behind outside this transaction, so the upload goes through the database path only
+        evictLiveSession(operation, setIdsByRef);
+        try {
+            return switch (operation.getType()) {
+                case START_WORKOUT -> workoutService.startWorkout(username, require(operation.getWorkoutId(), "workoutId")).getId();
+                case COMPLETE_WORKOUT -> workoutService.completeWorkout(username, require(operation.getWorkoutId(), "workoutId")).getId();
+                case START_EXERCISE -> workoutService.startExercise(username, require(operation.getWorkoutId(), "workoutId"),
+                        require(operation.getWorkoutExerciseId(), "workoutExerciseId")).getId();
+                case COMPLETE_EXERCISE -> workoutService.completeExercise(username, require(operation.getWorkoutId(), "workoutId"),
+                        require(operation.getWorkoutExerciseId(), "workoutExerciseId")).getId();
+                case LOG_SET -> {
+                    ExerciseSet saved = workoutService.logSet(username,
+                            require(operation.getWorkoutExerciseId(), "workoutExerciseId"), require(operation.getSet(), "set"));
+                    if (operation.getClientRef() != null) {
+                        setIdsByRef.put(operation.getClientRef(), saved.getId());
+                    }
+                    yield saved.getId();
+                }
+                case COMPLETE_SET -> workoutService.completeSet(username, resolveSetId(operation, setIdsByRef)).getId();
+                case LOG_PROGRESS -> userProgressService.createProgressEntry(username, require(operation.getProgress(), "progress")).getId();
+                case UPDATE_GOAL -> goalService.updateGoal(username, require(operation.getGoalId(), "goalId"),
+                        require(operation.getGoal(), "goal")).getId();
+            };
+        } finally {
+            evictLiveSession(operation, setIdsByRef);
+        }
+    }
+
+    private void evictLiveSession(SyncOperationRequest operation, Map<String, Long> setIdsByRef) {
+        if (operation.getWorkoutId() != null) {
+            liveSessionStore.evict(operation.getWorkoutId());
+        }
+        if (operation.getWorkoutExerciseId() != null) {
+            liveSessionStore.findByExercise(operation.getWorkoutExerciseId())
+                    .ifPresent(session -> liveSessionStore.evict(session.getWorkoutId()));
+        }
+        Long setId = operation.getSetId() != null ? operation.getSetId() : setIdsByRef.get(operation.getSetRef());
+        if (setId != null) {
+            liveSessionStore.findBySet(setId).ifPresent(session -> liveSessionStore.evict(session.getWorkoutId()));
+        }
+    }
+
+    private static Long resolveSetId(SyncOperationRequest operation, Map<String, Long> setIdsByRef) {
+        if (operation.getSetId() != null) {
+            return operation.getSetId();
+        }
+        Long setId = setIdsByRef.get(require(operation.getSetRef(), "setId or setRef"));
+        if (setId == null) {
+            throw new IllegalArgumentException("No set was logged earlier in this upload with clientRef " + operation.getSetRef());
+        }
+        return setId;
+    }
+
+    private static <T> T require(T value, String field) {
+        if (value == null) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        return value;
+    }
+
+    private static String describe(int index, SyncOperationRequest operation) {
+        return "Operation " + index + " (" + operation.getType() + "): ";
+    }
+
+    private <T> LocalDateTime lastTimestamp(List<T> rows, Function<T, LocalDateTime> timestamp) {
+        return rows.size() < pageSize ? null : timestamp.apply(rows.get(rows.size() - 1));
+    }
+
+    static String encodeToken(LocalDateTime watermark) {
+        long millis = watermark.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((TOKEN_PREFIX + millis).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static LocalDateTime decodeToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(TOKEN_PREFIX)) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            long millis = Long.parseLong(decoded.substring(TOKEN_PREFIX.length()));
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneId.systemDefault());
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException and bad base64 both land here
+            throw new IllegalArgumentException("Invalid sync token", e);
+        }
+    }
+
+    private User getUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+    }
+}
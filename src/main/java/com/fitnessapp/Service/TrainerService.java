@@ -0,0 +1,166 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.ClientDTO;
+import com.fitnessapp.dto.ClientSummaryDTO;
+import com.fitnessapp.dto.GoalSummaryDTO;
+import com.fitnessapp.dto.ProgressSnapshotDTO;
+import com.fitnessapp.dto.TrainerDashboardDTO;
+import com.fitnessapp.entity.Goal;
+import com.fitnessapp.entity.TrainerClient;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.UserProgress;
+import com.fitnessapp.repository.*;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class TrainerService {
+
+    private final TrainerClientRepository trainerClientRepository;
+    private final UserRepository userRepository;
+    private final WorkoutRepository workoutRepository;
+    private final GoalRepository goalRepository;
+    private final UserProgressRepository userProgressRepository;
+
+    public TrainerService(TrainerClientRepository trainerClientRepository,
+                          UserRepository userRepository,
+                          WorkoutRepository workoutRepository,
+                          GoalRepository goalRepository,
+                          UserProgressRepository userProgressRepository) {
+        this.trainerClientRepository = trainerClientRepository;
+        this.userRepository = userRepository;
+        this.workoutRepository = workoutRepository;
+        this.goalRepository = goalRepository;
+        this.userProgressRepository = userProgressRepository;
+    }
+
+    @CacheEvict(value = "trainerDashboard", key = "#trainerUsername")
+    public void addClient(String trainerUsername, Long clientId) {
+        User trainer = getUser(trainerUsername);
+        User client = userRepository.findById(clientId)
+                .filter(user -> user.getRole() == User.Role.USER)
+                .orElseThrow(() -> new IllegalArgumentException("Client not found: " + clientId));
+
+        if (trainerClientRepository.existsByTrainerIdAndClientId(trainer.getId(), clientId)) {
+            return;
+        }
+
+        TrainerClient trainerClient = new TrainerClient();
+        trainerClient.setTrainer(trainer);
+        trainerClient.setClient(client);
+        trainerClientRepository.save(trainerClient);
+    }
+
+    @CacheEvict(value = "trainerDashboard", key = "#trainerUsername")
+    public void removeClient(String trainerUsername, Long clientId) {
+        User trainer = getUser(trainerUsername);
+        if (trainerClientRepository.deleteByTrainerIdAndClientId(trainer.getId(), clientId) == 0) {
+            throw new IllegalArgumentException("Client not in roster: " + clientId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ClientDTO> getClients(String trainerUsername, Pageable pageable) {
+        User trainer = getUser(trainerUsername);
+        return trainerClientRepository.findRosterByTrainerId(trainer.getId(), pageable).map(ClientDTO::fromEntity);
+    }
+
+    @Transactional(readOnly = true)
+    public ClientDTO getClient(String trainerUsername, Long clientId) {
+        User trainer = getUser(trainerUsername);
+        return trainerClientRepository.findRosterEntry(trainer.getId(), clientId)
+                .map(ClientDTO::fromEntity)
+                .orElseThrow(() -> new IllegalArgumentException("Client not in roster: " + clientId));
+    }
+
+    /**
+     * Summary of every client on the trainer's roster, built with a fixed number of queries
+     * (roster, last workout, weekly counts, active goals, latest progress) regardless of roster size.
+     * Goals and progress are copied into DTOs, so the cached dashboard holds no detached entities.
+     */
+    @Cacheable(value = "trainerDashboard", key = "#trainerUsername")
+    @Transactional(readOnly = true)
+    public TrainerDashboardDTO getDashboard(String trainerUsername) {
+        User trainer = getUser(trainerUsername);
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = today.minusDays(today.getDayOfWeek().getValue() - 1);
+
+        List<User> clients = trainerClientRepository.findClientsByTrainerId(trainer.getId());
+        if (clients.isEmpty()) {
+            return new TrainerDashboardDTO(weekStart, LocalDateTime.now(), 0, 0, List.of());
+        }
+
+        Map<Long, ClientSummaryDTO> summaries = new LinkedHashMap<>();
+        for (User client : clients) {
+            ClientSummaryDTO summary = new ClientSummaryDTO();
+            summary.setClientId(client.getId());
+            summary.setUsername(client.getUsername());
+            summary.setFirstName(client.getFirstName());
+            summary.setLastName(client.getLastName());
+            summaries.put(client.getId(), summary);
+        }
+        Set<Long> clientIds = summaries.keySet();
+
+        for (Object[] row : workoutRepository.findLastCompletedByUsers(clientIds)) {
+            ClientSummaryDTO summary = summaries.get((Long) row[0]);
+            LocalDateTime completedAt = (LocalDateTime) row[3];
+            // Two workouts completed at the same instant: keep the later id
+            if (summary.getLastWorkoutId() == null || (Long) row[1] > summary.getLastWorkoutId()) {
+                summary.setLastWorkoutId((Long) row[1]);
+                summary.setLastWorkoutName((String) row[2]);
+                summary.setLastWorkoutCompletedAt(completedAt);
+                summary.setLastWorkoutDurationMinutes((Integer) row[4]);
+            }
+        }
+
+        for (Object[] row : workoutRepository.countCompletedByUsersBetween(
+                clientIds, weekStart.atStartOfDay(), weekStart.plusDays(7).atStartOfDay())) {
+            summaries.get((Long) row[0]).setSessionsThisWeek((Long) row[1]);
+        }
+
+        for (Goal goal : goalRepository.findActiveGoalsByUsers(clientIds)) {
+            summaries.get(goal.getUser().getId()).getActiveGoals().add(GoalSummaryDTO.fromEntity(goal));
+        }
+
+        Map<Long, UserProgress> latestProgress = userProgressRepository.findLatestByUsers(clientIds).stream()
+                .collect(Collectors.toMap(progress -> progress.getUser().getId(), Function.identity(),
+                        (a, b) -> a.getId() > b.getId() ? a : b));
+        latestProgress.forEach((clientId, progress) ->
+                summaries.get(clientId).setLatestProgress(ProgressSnapshotDTO.fromEntity(progress)));
+
+        List<ClientSummaryDTO> result = new ArrayList<>(summaries.values());
+        int activeThisWeek = (int) result.stream().filter(summary -> summary.getSessionsThisWeek() > 0).count();
+        return new TrainerDashboardDTO(weekStart, LocalDateTime.now(), result.size(), activeThisWeek, result);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<UserProgress> getClientProgress(String trainerUsername, Long clientId, Pageable pageable) {
+        User client = getRosterClient(trainerUsername, clientId);
+        return userProgressRepository.findByUserOrderByMeasurementDateDesc(client, pageable);
+    }
+
+    private User getRosterClient(String trainerUsername, Long clientId) {
+        User trainer = getUser(trainerUsername);
+        if (!trainerClientRepository.existsByTrainerIdAndClientId(trainer.getId(), clientId)) {
+            throw new IllegalArgumentException("Client not in roster: " + clientId);
+        }
+        return userRepository.findById(clientId)
+                .orElseThrow(() -> new IllegalArgumentException("Client not found: " + clientId));
+    }
+
+    private User getUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+    }
+}
@@ -0,0 +1,177 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.request.program.CreateTrainingProgramRequest;
+import com.fitnessapp.dto.request.program.ProgramSessionRequest;
+import com.fitnessapp.entity.*;
+import com.fitnessapp.repository.*;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class TrainingProgramService {
+
+    private final TrainingProgramRepository trainingProgramRepository;
+    private final ProgramEnrollmentRepository programEnrollmentRepository;
+    private final WorkoutTemplateRepository workoutTemplateRepository;
+    private final TrainerClientRepository trainerClientRepository;
+    private final WorkoutRepository workoutRepository;
+    private final UserRepository userRepository;
+    private final ProgramSchedulingService programSchedulingService;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ResourceVersionService resourceVersionService;
+
+    public TrainingProgramService(TrainingProgramRepository trainingProgramRepository,
+                                  ProgramEnrollmentRepository programEnrollmentRepository,
+                                  WorkoutTemplateRepository workoutTemplateRepository,
+                                  TrainerClientRepository trainerClientRepository,
+                                  WorkoutRepository workoutRepository,
+                                  UserRepository userRepository,
+                                  ProgramSchedulingService programSchedulingService,
+                                  SyncTombstoneRepository syncTombstoneRepository,
+                                  ResourceVersionService resourceVersionService) {
+        this.trainingProgramRepository = trainingProgramRepository;
+        this.programEnrollmentRepository = programEnrollmentRepository;
+        this.workoutTemplateRepository = workoutTemplateRepository;
+        this.trainerClientRepository = trainerClientRepository;
+        this.workoutRepository = workoutRepository;
+        this.userRepository = userRepository;
+        this.programSchedulingService = programSchedulingService;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.resourceVersionService = resourceVersionService;
+    }
+
+    public TrainingProgram createProgram(String trainerUsername, CreateTrainingProgramRequest request) {
+        User trainer = getUser(trainerUsername);
+
+        Set<Long> templateIds = request.getSessions().stream()
+                .map(ProgramSessionRequest::getTemplateId)
+                .collect(Collectors.toSet());
+        Map<Long, WorkoutTemplate> templates = workoutTemplateRepository.findAllById(templateIds).stream()
+                .filter(template -> template.getTrainer().getId().equals(trainer.getId()))
+                .collect(Collectors.toMap(WorkoutTemplate::getId, Function.identity()));
+
+        TrainingProgram program = new TrainingProgram();
+        program.setName(request.getName());
+        program.setDescription(request.getDescription());
+        program.setTrainer(trainer);
+        program.setDurationWeeks(request.getDurationWeeks());
+        program.setWeightIncreasePercentPerWeek(request.getWeightIncreasePercentPerWeek());
+        program.setWeightIncrementPerWeek(request.getWeightIncrementPerWeek());
+        program.setRepsIncrementPerWeek(request.getRepsIncrementPerWeek());
+
+        for (ProgramSessionRequest item : request.getSessions()) {
+            WorkoutTemplate template = templates.get(item.getTemplateId());
+            if (template == null) {
+                throw new IllegalArgumentException("Workout template not found: " + item.getTemplateId());
+            }
+            if (item.getWeekNumber() != null && item.getWeekNumber() > request.getDurationWeeks()) {
+                throw new IllegalArgumentException("Week number " + item.getWeekNumber() + " is beyond the program duration");
+            }
+
+            ProgramSession session = new ProgramSession();
+            session.setProgram(program);
+            session.setWeekNumber(item.getWeekNumber());
+            session.setDayOfWeek(item.getDayOfWeek());
+            session.setTemplate(template);
+            program.getSessions().add(session);
+        }
+
+        return trainingProgramRepository.save(program);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TrainingProgram> getPrograms(String trainerUsername) {
+        return trainingProgramRepository.findByTrainerIdOrderByNameAsc(getUser(trainerUsername).getId());
+    }
+
+    @Transactional(readOnly = true)
+    public TrainingProgram getProgram(String trainerUsername, Long programId) {
+        User trainer = getUser(trainerUsername);
+        return trainingProgramRepository.findByIdAndTrainerIdWithSessions(programId, trainer.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Training program not found: " + programId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ProgramEnrollment> getEnrollments(String trainerUsername, Long programId) {
+        return programEnrollmentRepository.findByProgramIdOrderByStartDateAsc(getProgram(trainerUsername, programId).getId());
+    }
+
+    /**
+     * Enrolls clients and immediately materialises their first window of workouts;
+     * later days are generated by {@link ProgramSchedulingService} as the window rolls forward.
+     */
+    @CacheEvict(value = "userWorkouts", allEntries = true)
+    public List<ProgramEnrollment> enroll(String trainerUsername, Long programId,
+                                          Collection<Long> clientIds, LocalDate startDate) {
+        resourceVersionService.allWorkoutsChanged();
+        TrainingProgram program = getProgram(trainerUsername, programId);
+        Long trainerId = program.getTrainer().getId();
+
+        List<Long> targetIds;
+        if (clientIds == null || clientIds.isEmpty()) {
+            targetIds = trainerClientRepository.findClientIdsByTrainerId(trainerId);
+        } else {
+            Set<Long> requested = new HashSet<>(clientIds);
+            targetIds = trainerClientRepository.findClientIdsByTrainerIdAndClientIdIn(trainerId, requested);
+            if (targetIds.size() != requested.size()) {
+                requested.removeAll(targetIds);
+                throw new IllegalArgumentException("Clients not in roster: " + requested);
+            }
+        }
+        if (targetIds.isEmpty()) {
+            throw new IllegalStateException("No clients to enroll");
+        }
+
+        LocalDate endDate = startDate.plusWeeks(program.getDurationWeeks()).minusDays(1);
+        List<ProgramEnrollment> enrollments = new ArrayList<>();
+        for (User client : userRepository.findAllById(targetIds)) {
+            ProgramEnrollment enrollment = new ProgramEnrollment();
+            enrollment.setProgram(program);
+            enrollment.setUser(client);
+            enrollment.setStartDate(startDate);
+            enrollment.setEndDate(endDate);
+            enrollments.add(enrollment);
+        }
+
+        List<ProgramEnrollment> saved = programEnrollmentRepository.saveAll(enrollments);
+        programSchedulingService.materialize(saved, LocalDate.now());
+        return saved;
+    }
+
+    // Cancels the enrollment and removes its not-yet-started future workouts
+    @CacheEvict(value = "userWorkouts", allEntries = true)
+    public ProgramEnrollment cancelEnrollment(String trainerUsername, Long enrollmentId) {
+        resourceVersionService.allWorkoutsChanged();
+        User trainer = getUser(trainerUsername);
+        ProgramEnrollment enrollment = programEnrollmentRepository.findByIdAndTrainerId(enrollmentId, trainer.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Enrollment not found: " + enrollmentId));
+
+        if (enrollment.getStatus() != ProgramEnrollment.Status.ACTIVE) {
+            throw new IllegalStateException("Enrollment is not active");
+        }
+
+        List<Workout> upcoming = workoutRepository.findByProgramEnrollmentIdAndStatusAndScheduledDateGreaterThanEqual(
+                enrollment.getId(), Workout.Status.PLANNED, LocalDate.now().atStartOfDay());
+        workoutRepository.deleteAll(upcoming);
+        syncTombstoneRepository.saveAll(upcoming.stream()
+                .map(workout -> SyncTombstone.of(workout.getUser(), SyncTombstone.EntityType.WORKOUT, workout.getId()))
+                .toList());
+
+        enrollment.setStatus(ProgramEnrollment.Status.CANCELLED);
+        enrollment.setUpdatedAt(LocalDateTime.now());
+        return programEnrollmentRepository.save(enrollment);
+    }
+
+    private User getUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+    }
+}
@@ -1,7 +1,9 @@
 package com.fitnessapp.service;
 
+import com.fitnessapp.entity.SyncTombstone;
 import com.fitnessapp.entity.User;
 import com.fitnessapp.entity.UserProgress;
+import com.fitnessapp.repository.SyncTombstoneRepository;
 import com.fitnessapp.repository.UserProgressRepository;
 import com.fitnessapp.repository.UserRepository;
 import org.springframework.cache.annotation.CacheEvict;
@@ -20,10 +22,13 @@ public class UserProgressService {
 
     private final UserProgressRepository progressRepository;
     private final UserRepository userRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
 
-    public UserProgressService(UserProgressRepository progressRepository, UserRepository userRepository) {
+    public UserProgressService(UserProgressRepository progressRepository, UserRepository userRepository,
+                               SyncTombstoneRepository syncTombstoneRepository) {
         this.progressRepository = progressRepository;
         this.userRepository = userRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
     }
 
     @CacheEvict(value = "userProgress", key = "#username")
@@ -38,6 +43,7 @@ public class UserProgressService {
         return progressRepository.save(progressEntry);
     }
 
+    @Transactional(readOnly = true)
     @Cacheable(value = "userProgress", key = "#username")
     public Page<UserProgress> getUserProgressHistory(String username, Pageable pageable) {
         User user = userRepository.findByUsername(username)
@@ -46,6 +52,7 @@ public class UserProgressService {
         return progressRepository.findByUserOrderByMeasurementDateDesc(user, pageable);
     }
 
+    @Transactional(readOnly = true)
     public Optional<UserProgress> getLatestProgress(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -99,5 +106,6 @@ public class UserProgressService {
         }
 
         progressRepository.deleteById(progressId);
+        syncTombstoneRepository.save(SyncTombstone.of(user, SyncTombstone.EntityType.USER_PROGRESS, progressId));
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -105,7 +106,10 @@ public class UserService {
         return userRepository.findByRole(role, pageable);
     }
 
-    @CacheEvict(value = "users", key = "#userId")
+    @Caching(evict = {
+            @CacheEvict(value = "users", key = "#userId"),
+            @CacheEvict(value = "userDetails", allEntries = true)
+    })
     public User updateUserRole(Long userId, User.Role newRole) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
@@ -115,7 +119,10 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    @CacheEvict(value = "users", key = "#userId")
+    @Caching(evict = {
+            @CacheEvict(value = "users", key = "#userId"),
+            @CacheEvict(value = "userDetails", allEntries = true)
+    })
     public User updateUserStatus(Long userId, boolean enabled, Boolean accountNonLocked) {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new IllegalArgumentException("User not found with ID: " + userId));
@@ -128,7 +135,10 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    @CacheEvict(value = "users", key = "#username")
+    @Caching(evict = {
+            @CacheEvict(value = "users", key = "#username"),
+            @CacheEvict(value = "userDetails", key = "#username")
+    })
     public User updateUserProfile(String username, User updatedProfile) {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -152,7 +162,10 @@ public class UserService {
         return userRepository.save(user);
     }
 
-    @CacheEvict(value = "users", key = "#userId")
+    @Caching(evict = {
+            @CacheEvict(value = "users", key = "#userId"),
+            @CacheEvict(value = "userDetails", allEntries = true)
+    })
     public void deleteUser(Long userId) {
         if (!userRepository.existsById(userId)) {
             throw new IllegalArgumentException("User not found with ID: " + userId);
@@ -160,7 +173,10 @@ public class UserService {
         userRepository.deleteById(userId);
     }
 
-    @CacheEvict(value = "users", key = "#username")
+    @Caching(evict = {
+            @CacheEvict(value = "users", key = "#username"),
+            @CacheEvict(value = "userDetails", key = "#username")
+    })
     public void changePassword(String username, String currentPassword, String newPassword) {
         User user = userRepository.findByUsername(username)
             .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -197,6 +213,7 @@ public class UserService {
         return resetToken;
     }
 
+    @CacheEvict(value = "userDetails", allEntries = true)
     public void resetPassword(String token, String newPassword) {
         User user = userRepository.findAll().stream()
             .filter(u -> token.equals(u.getResetToken()))
@@ -241,6 +258,7 @@ public class UserService {
         return user;
     }
 
+    @CacheEvict(value = "userDetails", key = "#username")
     public void deleteAccount(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -0,0 +1,268 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.WorkoutActivityDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out hub for the per-workout Server-Sent Events stream.
+ *
+ * Emitters are async servlet responses, so an idle subscriber holds a socket but no thread. Each workout keeps a
+ * small ring buffer of recent events so a client reconnecting with Last-Event-ID gets what it missed; if the id is
+ * too old or from before a restart, the client is told to resync by re-reading the workout over REST.
+ *
+ * Publishing only queues the event per subscriber; each queue is written out on a sender thread, so a slow client
+ * never holds up the committing request or the other subscribers. A subscriber that falls more than
+ * {@code max-pending} events behind is disconnected and catches up through Last-Event-ID when it reconnects.
+ */
+@Component
+public class WorkoutEventHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkoutEventHub.class);
+
+    static final String RESYNC_EVENT = "RESYNC";
+
+    // Event ids are "<epoch>-<sequence>"; the epoch changes on restart so stale ids are recognised
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    // Platform threads: a stalled write blocks inside the emitter's monitor, which would pin a virtual thread's carrier
+    private final ExecutorService senders = Executors.newCachedThreadPool(
+            Thread.ofPlatform().name("workout-events-", 0).daemon().factory());
+
+    private final int bufferSize;
+    private final long emitterTimeoutMillis;
+    private final long reconnectMillis;
+    private final Duration retention;
+    private final int maxPending;
+
+    public WorkoutEventHub(@Value("${app.workout-events.buffer-size:64}") int bufferSize,
+                           @Value("${app.workout-events.emitter-timeout:30m}") Duration emitterTimeout,
+                           @Value("${app.workout-events.reconnect-delay:3s}") Duration reconnectDelay,
+                           @Value("${app.workout-events.retention:30m}") Duration retention,
+                           @Value("${app.workout-events.max-pending:256}") int maxPending) {
+        this.bufferSize = bufferSize;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+        this.reconnectMillis = reconnectDelay.toMillis();
+        this.retention = retention;
+        this.maxPending = maxPending;
+    }
+
+    public SseEmitter subscribe(Long workoutId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Channel channel = channels.computeIfAbsent(workoutId, id -> new Channel());
+        Subscriber subscriber = new Subscriber(channel, emitter);
+
+        emitter.onCompletion(() -> channel.subscribers.remove(subscriber));
+        emitter.onTimeout(() -> channel.subscribers.remove(subscriber));
+        emitter.onError(error -> channel.subscribers.remove(subscriber));
+
+        // Replay and registration happen under the channel lock so no event is missed or sent twice
+        synchronized (channel) {
+            subscriber.enqueue(SseEmitter.event().reconnectTime(reconnectMillis).comment("connected"));
+            List<BufferedEvent> missed = channel.eventsAfter(epoch, lastEventId);
+            if (missed == null) {
+                subscriber.enqueue(SseEmitter.event().name(RESYNC_EVENT).data(""));
+            } else {
+                missed.forEach(event -> subscriber.enqueue(toSse(event)));
+            }
+            channel.subscribers.add(subscriber);
+            channel.touch();
+        }
+        return emitter;
+    }
+
+    public void publish(WorkoutActivityDTO activity) {
+        Channel channel = channels.computeIfAbsent(activity.getWorkoutId(), id -> new Channel());
+        synchronized (channel) {
+            BufferedEvent event = channel.append(epoch, activity, bufferSize);
+            channel.subscribers.forEach(subscriber -> subscriber.enqueue(toSse(event)));
+        }
+    }
+
+    /**
+     * Keeps intermediaries from closing idle streams and drops channels nobody has touched for a while.
+     */
+    @Scheduled(fixedDelayString = "${app.workout-events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long expiredBefore = System.currentTimeMillis() - retention.toMillis();
+        channels.forEach((workoutId, channel) -> {
+            channel.subscribers.forEach(subscriber -> subscriber.enqueue(SseEmitter.event().comment("heartbeat")));
+            if (channel.subscribers.isEmpty() && channel.lastActivityMillis < expiredBefore) {
+                channels.remove(workoutId, channel);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        channels.clear();
+    }
+
+    public int getSubscriberCount() {
+        return channels.values().stream().mapToInt(channel -> channel.subscribers.size()).sum();
+    }
+
+    // Package-private for tests: the events a client with this Last-Event-ID would be replayed, null if it must resync
+    List<WorkoutActivityDTO> replay(Long workoutId, String lastEventId) {
+        Channel channel = channels.getOrDefault(workoutId, new Channel());
+        synchronized (channel) {
+            List<BufferedEvent> missed = channel.eventsAfter(epoch, lastEventId);
+            return missed == null ? null : missed.stream().map(BufferedEvent::activity).toList();
+        }
+    }
+
+    String lastEventId(Long workoutId) {
+        Channel channel = channels.get(workoutId);
+        return channel == null || channel.buffer.isEmpty() ? null : channel.buffer.peekLast().id();
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(BufferedEvent event) {
+        return SseEmitter.event()
+                .id(event.id())
+                .name(event.activity().getType().name())
+                .data(event.activity(), MediaType.APPLICATION_JSON);
+    }
+
+    private record BufferedEvent(long sequence, String id, WorkoutActivityDTO activity) {
+    }
+
+    // Events waiting for one emitter, written in order by at most one sender at a time
+    private final class Subscriber {
+        private final Channel channel;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(Channel channel, SseEmitter emitter) {
+            this.channel = channel;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (pendingCount.incrementAndGet() > maxPending) {
+                if (channel.subscribers.remove(this)) {
+                    logger.debug("Disconnecting a workout event subscriber that is {} events behind", maxPending);
+                    pending.clear();
+                    // complete() waits for a send in progress, so not on the publishing thread
+                    execute(emitter::complete);
+                }
+                return;
+            }
+            pending.add(event);
+            if (sending.compareAndSet(false, true) && !execute(this::sendPending)) {
+                sending.set(false);
+            }
+        }
+
+        private void sendPending() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        drop(e);
+                        return;
+                    }
+                }
+                sending.set(false);
+                // An event queued after the last poll but before the flag was cleared found the flag still set
+            } while (!pending.isEmpty() && sending.compareAndSet(false, true));
+        }
+
+        private void drop(Throwable error) {
+            channel.subscribers.remove(this);
+            pending.clear();
+            emitter.completeWithError(error);
+        }
+
+        private boolean execute(Runnable task) {
+            try {
+                senders.execute(task);
+                return true;
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                return false;
+            }
+        }
+    }
+
+    private static final class Channel {
+        private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+        private final ArrayDeque<BufferedEvent> buffer = new ArrayDeque<>();
+        private long nextSequence = 1;
+        private volatile long lastActivityMillis = System.currentTimeMillis();
+
+        private BufferedEvent append(String epoch, WorkoutActivityDTO activity, int bufferSize) {
+            long sequence = nextSequence++;
+            BufferedEvent event = new BufferedEvent(sequence, epoch + "-" + sequence, activity);
+            buffer.addLast(event);
+            while (buffer.size() > bufferSize) {
+                buffer.removeFirst();
+            }
+            touch();
+            return event;
+        }
+
+        private List<BufferedEvent> eventsAfter(String epoch, String lastEventId) {
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return List.of();
+            }
+            long lastSequence;
+            int separator = lastEventId.lastIndexOf('-');
+            try {
+                if (separator < 0 || !lastEventId.substring(0, separator).equals(epoch)) {
+                    return null;
+                }
+                lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+            if (lastSequence >= nextSequence) {
+                return null;
+            }
+            long oldestBuffered = buffer.isEmpty() ? nextSequence : buffer.peekFirst().sequence();
+            if (lastSequence < oldestBuffered - 1) {
+                logger.debug("Last-Event-ID {} fell out of the replay buffer", lastEventId);
+                return null;
+            }
+            List<BufferedEvent> missed = new ArrayList<>();
+            for (BufferedEvent event : buffer) {
+                if (event.sequence() > lastSequence) {
+                    missed.add(event);
+                }
+            }
+            return missed;
+        }
+
+        private void touch() {
+            lastActivityMillis = System.currentTimeMillis();
+        }
+    }
+}
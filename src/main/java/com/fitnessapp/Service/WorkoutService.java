@@ -1,10 +1,19 @@
 package com.fitnessapp.service;
 
+import com.fitnessapp.aop.RetryOnConflict;
 import com.fitnessapp.dto.PersonalRecordDTO;
+import com.fitnessapp.dto.WorkoutActivityDTO;
 import com.fitnessapp.entity.*;
+import com.fitnessapp.event.SetCompletedEvent;
+import com.fitnessapp.event.WorkoutActivityEvent;
+import com.fitnessapp.event.WorkoutCompletedEvent;
 import com.fitnessapp.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,27 +28,55 @@ import java.util.stream.Collectors;
 @Transactional
 public class WorkoutService {
 
+    // Counter per lifecycle step (transition tag); rates such as sets logged/s come from the scraper
+    public static final String TRANSITIONS_METRIC = "fitnessapp.workout.transitions";
+
     private final WorkoutRepository workoutRepository;
     private final UserRepository userRepository;
     private final ExerciseRepository exerciseRepository;
     private final WorkoutExerciseRepository workoutExerciseRepository;
     private final ExerciseSetRepository exerciseSetRepository;
+    private final StreakService streakService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LiveSessionStore liveSessionStore;
+    private final TrainerClientRepository trainerClientRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final ResourceVersionService resourceVersionService;
+    private final EntityManager entityManager;
+    private final MeterRegistry meterRegistry;
 
     public WorkoutService(WorkoutRepository workoutRepository,
                          UserRepository userRepository,
                          ExerciseRepository exerciseRepository,
                          WorkoutExerciseRepository workoutExerciseRepository,
-                         ExerciseSetRepository exerciseSetRepository) {
+                         ExerciseSetRepository exerciseSetRepository,
+                         StreakService streakService,
+                         ApplicationEventPublisher eventPublisher,
+                         LiveSessionStore liveSessionStore,
+                         TrainerClientRepository trainerClientRepository,
+                         SyncTombstoneRepository syncTombstoneRepository,
+                         ResourceVersionService resourceVersionService,
+                         EntityManager entityManager,
+                         MeterRegistry meterRegistry) {
         this.workoutRepository = workoutRepository;
         this.userRepository = userRepository;
         this.exerciseRepository = exerciseRepository;
         this.workoutExerciseRepository = workoutExerciseRepository;
         this.exerciseSetRepository = exerciseSetRepository;
+        this.streakService = streakService;
+        this.eventPublisher = eventPublisher;
+        this.liveSessionStore = liveSessionStore;
+        this.trainerClientRepository = trainerClientRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.resourceVersionService = resourceVersionService;
+        this.entityManager = entityManager;
+        this.meterRegistry = meterRegistry;
     }
 
     // Note: allEntries=true clears cache for all users. Consider user-specific cache regions for better performance.
     @CacheEvict(value = "userWorkouts", allEntries = true)
     public Workout createWorkout(String username, Workout workout) {
+        resourceVersionService.userWorkoutsChanged(username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
 
@@ -51,6 +88,7 @@ public class WorkoutService {
         return workoutRepository.save(workout);
     }
 
+    @Transactional(readOnly = true)
     @Cacheable(value = "userWorkouts", key = "#username + '_' + #pageable.pageNumber")
     public Page<Workout> getUserWorkouts(String username, Pageable pageable) {
         User user = userRepository.findByUsername(username)
@@ -59,6 +97,7 @@ public class WorkoutService {
         return workoutRepository.findByUserOrderByCreatedAtDesc(user, pageable);
     }
 
+    @Transactional(readOnly = true)
     public Optional<Workout> getWorkoutById(String username, Long workoutId) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -70,31 +109,46 @@ public class WorkoutService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
 
+        liveSessionStore.flush(workoutId);
+
         // Use JOIN FETCH to avoid N+1 query problem
         Workout workout = workoutRepository.findByIdAndUserWithExercises(workoutId, user)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
 
+        // The DTOs carry each exercise's muscle lists; load them up front rather than one by one during serialization.
+        // They normally come from the second-level cache. Misses are loaded in batches, which only works once every
+        // exercise is initialised: a collection joins the batch queue when its owner is loaded
+        List<Exercise> exercises = workout.getExercises().stream().map(WorkoutExercise::getExercise).toList();
+        exercises.forEach(Hibernate::initialize);
+        for (Exercise exercise : exercises) {
+            Hibernate.initialize(exercise.getPrimaryMuscles());
+            Hibernate.initialize(exercise.getSecondaryMuscles());
+        }
         return workout.getExercises();
     }
 
     @CacheEvict(value = "userWorkouts", allEntries = true)
     public Workout startWorkout(String username, Long workoutId) {
+        resourceVersionService.userWorkoutsChanged(username);
         Workout workout = getWorkoutById(username, workoutId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
 
-        if (workout.getStatus() != Workout.Status.PLANNED) {
+        // Conditional UPDATE: when two devices start the workout at once, only one transition succeeds
+        if (workout.getStatus() != Workout.Status.PLANNED
+                || workoutRepository.startIfPlanned(workoutId, LocalDateTime.now()) == 0) {
             throw new IllegalStateException("Workout is not in planned state");
         }
+        entityManager.refresh(workout);
 
-        workout.setStatus(Workout.Status.IN_PROGRESS);
-        workout.setStartedAt(LocalDateTime.now());
-        workout.setUpdatedAt(LocalDateTime.now());
-
-        return workoutRepository.save(workout);
+        liveSessionStore.open(workout);
+        countTransition("workout_started");
+        publishWorkoutActivity(WorkoutActivityDTO.Type.WORKOUT_STARTED, workout);
+        return workout;
     }
 
     @CacheEvict(value = "userWorkouts", allEntries = true)
     public Workout completeWorkout(String username, Long workoutId) {
+        resourceVersionService.userWorkoutsChanged(username);
         Workout workout = getWorkoutById(username, workoutId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
 
@@ -102,30 +156,31 @@ public class WorkoutService {
             throw new IllegalStateException("Workout is not in progress");
         }
 
-        // Complete all exercises in the workout that are still in progress or pending
-        List<WorkoutExercise> exercises = workoutExerciseRepository.findByWorkoutOrderByOrderIndexAsc(workout);
-        for (WorkoutExercise exercise : exercises) {
-            if (exercise.getStatus() == WorkoutExercise.Status.IN_PROGRESS ||
-                exercise.getStatus() == WorkoutExercise.Status.PENDING) {
-                exercise.setStatus(WorkoutExercise.Status.COMPLETED);
-                exercise.setCompletedAt(LocalDateTime.now());
-                exercise.setUpdatedAt(LocalDateTime.now());
-                workoutExerciseRepository.save(exercise);
-            }
-        }
+        // Write any buffered set/exercise changes before the exercises are read back
+        liveSessionStore.evict(workoutId);
 
-        workout.setStatus(Workout.Status.COMPLETED);
-        workout.setCompletedAt(LocalDateTime.now());
-        workout.setUpdatedAt(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        Integer durationMinutes = workout.getStartedAt() == null ? null
+                : (int) java.time.Duration.between(workout.getStartedAt(), now).toMinutes();
 
-        // Calculate duration if started
-        if (workout.getStartedAt() != null) {
-            long durationMinutes = java.time.Duration.between(
-                workout.getStartedAt(), workout.getCompletedAt()).toMinutes();
-            workout.setDurationMinutes((int) durationMinutes);
+        // Only the request that actually moves IN_PROGRESS -> COMPLETED records the streak and publishes events
+        if (workoutRepository.completeIfInProgress(workoutId, now, durationMinutes) == 0) {
+            throw new IllegalStateException("Workout is not in progress");
         }
 
-        return workoutRepository.save(workout);
+        // Complete all exercises in the workout that are still in progress or pending
+        workoutExerciseRepository.completeOpenExercises(workoutId, now);
+
+        entityManager.refresh(workout);
+        Workout savedWorkout = workout;
+
+        // Keep the compact streak/heatmap state current so reads never scan workout history
+        streakService.recordWorkoutCompleted(savedWorkout.getUser(), savedWorkout.getCompletedAt());
+        eventPublisher.publishEvent(new WorkoutCompletedEvent(this, savedWorkout));
+        countTransition("workout_completed");
+        publishWorkoutActivity(WorkoutActivityDTO.Type.WORKOUT_COMPLETED, savedWorkout);
+
+        return savedWorkout;
     }
 
     public WorkoutExercise addExerciseToWorkout(String username, Long workoutId, Long exerciseId, WorkoutExercise workoutExercise) {
@@ -135,6 +190,8 @@ public class WorkoutService {
         Exercise exercise = exerciseRepository.findById(exerciseId)
                 .orElseThrow(() -> new IllegalArgumentException("Exercise not found: " + exerciseId));
 
+        liveSessionStore.evict(workoutId);
+
         workoutExercise.setWorkout(workout);
         workoutExercise.setExercise(exercise);
         workoutExercise.setStatus(WorkoutExercise.Status.PENDING);
@@ -144,10 +201,14 @@ public class WorkoutService {
         return workoutExerciseRepository.save(workoutExercise);
     }
 
+    @RetryOnConflict
     public WorkoutExercise updateWorkoutExercise(String username, Long workoutId, Long workoutExerciseId, WorkoutExercise updatedWorkoutExercise) {
         Workout workout = getWorkoutById(username, workoutId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
 
+        // Flush buffered live changes first so this update does not overwrite them with stale state
+        liveSessionStore.evict(workoutId);
+
         WorkoutExercise existingWorkoutExercise = workoutExerciseRepository.findByIdAndWorkout(workoutExerciseId, workout)
                 .orElseThrow(() -> new IllegalArgumentException("Workout exercise not found: " + workoutExerciseId));
 
@@ -165,29 +226,60 @@ public class WorkoutService {
 
     @CacheEvict(value = "userWorkouts", allEntries = true)
     public WorkoutExercise startExercise(String username, Long workoutId, Long workoutExerciseId) {
+        resourceVersionService.userWorkoutsChanged(username);
+        Optional<LiveSession> liveSession = liveSessionStore.findByExercise(workoutExerciseId)
+                .filter(session -> session.getWorkoutId().equals(workoutId) && session.isOwnedBy(username));
+        if (liveSession.isPresent()) {
+            WorkoutExercise started = liveSessionStore.startExercise(liveSession.get(), workoutExerciseId);
+            if (started != null) {
+                countTransition("exercise_started");
+                publishExerciseActivity(WorkoutActivityDTO.Type.EXERCISE_STARTED, workoutId, started);
+                return started;
+            }
+            // Restarting a finished exercise goes through the database
+            liveSessionStore.evict(workoutId);
+        }
+
         Workout workout = getWorkoutById(username, workoutId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
 
         WorkoutExercise workoutExercise = workoutExerciseRepository.findByIdAndWorkout(workoutExerciseId, workout)
                 .orElseThrow(() -> new IllegalArgumentException("Workout exercise not found: " + workoutExerciseId));
 
-        // Update exercise status
-        workoutExercise.setStatus(WorkoutExercise.Status.IN_PROGRESS);
-        workoutExercise.setStartedAt(LocalDateTime.now());
-        workoutExercise.setUpdatedAt(LocalDateTime.now());
+        // Starting an exercise that is already in progress (e.g. from a second device) is a no-op
+        LocalDateTime now = LocalDateTime.now();
+        boolean started = workoutExerciseRepository.startIfNotInProgress(workoutExerciseId, now) == 1;
 
         // Also update workout status to IN_PROGRESS when first exercise is started
-        if (workout.getStatus() == Workout.Status.PLANNED) {
-            workout.setStatus(Workout.Status.IN_PROGRESS);
-            workout.setStartedAt(LocalDateTime.now());
-            workout.setUpdatedAt(LocalDateTime.now());
-            workoutRepository.save(workout);
+        if (workout.getStatus() == Workout.Status.PLANNED && workoutRepository.startIfPlanned(workoutId, now) == 1) {
+            entityManager.refresh(workout);
         }
 
-        return workoutExerciseRepository.save(workoutExercise);
+        entityManager.refresh(workoutExercise);
+        liveSessionStore.open(workout);
+        if (started) {
+            countTransition("exercise_started");
+            publishExerciseActivity(WorkoutActivityDTO.Type.EXERCISE_STARTED, workoutId, workoutExercise);
+        }
+        return workoutExercise;
     }
 
     public ExerciseSet logSet(String username, Long workoutExerciseId, ExerciseSet exerciseSet) {
+        // Ownership is known from the live session, so only the insert hits the database
+        Optional<LiveSession> liveSession = liveSessionStore.findByExercise(workoutExerciseId)
+                .filter(session -> session.isOwnedBy(username));
+        if (liveSession.isPresent()) {
+            exerciseSet.setWorkoutExercise(workoutExerciseRepository.getReferenceById(workoutExerciseId));
+            exerciseSet.setStatus(ExerciseSet.Status.PENDING);
+            exerciseSet.setCreatedAt(LocalDateTime.now());
+            exerciseSet.setUpdatedAt(exerciseSet.getCreatedAt());
+            ExerciseSet savedSet = exerciseSetRepository.save(exerciseSet);
+            liveSessionStore.addLoggedSet(liveSession.get(), workoutExerciseId, savedSet);
+            countTransition("set_logged");
+            publishSetActivity(WorkoutActivityDTO.Type.SET_LOGGED, liveSession.get().getWorkoutId(), savedSet.getWorkoutExercise(), savedSet);
+            return savedSet;
+        }
+
         // Verify the workout exercise belongs to the user
         WorkoutExercise workoutExercise = workoutExerciseRepository.findById(workoutExerciseId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout exercise not found: " + workoutExerciseId));
@@ -202,11 +294,32 @@ public class WorkoutService {
         exerciseSet.setWorkoutExercise(workoutExercise);
         exerciseSet.setStatus(ExerciseSet.Status.PENDING);
         exerciseSet.setCreatedAt(LocalDateTime.now());
+        exerciseSet.setUpdatedAt(exerciseSet.getCreatedAt());
 
-        return exerciseSetRepository.save(exerciseSet);
+        ExerciseSet savedSet = exerciseSetRepository.save(exerciseSet);
+        liveSessionStore.open(workoutExercise.getWorkout());
+        countTransition("set_logged");
+        publishSetActivity(WorkoutActivityDTO.Type.SET_LOGGED, workoutExercise.getWorkout().getId(), workoutExercise, savedSet);
+        return savedSet;
     }
 
     public ExerciseSet completeSet(String username, Long setId) {
+        // Live path: applied in memory and journaled, written to the database by the next flush
+        Optional<LiveSession> liveSession = liveSessionStore.findBySet(setId)
+                .filter(session -> session.isOwnedBy(username));
+        if (liveSession.isPresent()) {
+            ExerciseSet completedSet = liveSessionStore.completeSet(liveSession.get(), setId);
+            if (completedSet == null) {
+                return liveSessionStore.getSet(liveSession.get(), setId);
+            }
+            eventPublisher.publishEvent(new SetCompletedEvent(this, liveSession.get().getUserId(),
+                    completedSet.getWorkoutExercise().getExercise().getId(),
+                    completedSet.getActualWeight(), completedSet.getActualReps(), completedSet.getCompletedAt()));
+            countTransition("set_completed");
+            publishSetCompleted(liveSession.get().getWorkoutId(), completedSet.getWorkoutExercise(), completedSet);
+            return completedSet;
+        }
+
         ExerciseSet exerciseSet = exerciseSetRepository.findById(setId)
                 .orElseThrow(() -> new IllegalArgumentException("Exercise set not found: " + setId));
 
@@ -217,29 +330,39 @@ public class WorkoutService {
             throw new IllegalArgumentException("Exercise set does not belong to user: " + username);
         }
 
-        exerciseSet.setStatus(ExerciseSet.Status.COMPLETED);
-        exerciseSet.setCompletedAt(LocalDateTime.now());
-        ExerciseSet savedSet = exerciseSetRepository.save(exerciseSet);
+        // Conditional UPDATE: a set completed from two devices is counted (and published) once
+        LocalDateTime now = LocalDateTime.now();
+        boolean newlyCompleted = exerciseSetRepository.completeIfNotCompleted(setId, now) == 1;
+        entityManager.refresh(exerciseSet);
 
-        // Check if all sets for this exercise are completed and auto-complete the exercise
+        // Bump the counter and auto-complete the exercise once it reaches plannedSets, without loading the sets
         WorkoutExercise workoutExercise = exerciseSet.getWorkoutExercise();
-        if (workoutExercise.getStatus() == WorkoutExercise.Status.IN_PROGRESS) {
-            List<ExerciseSet> allSets = exerciseSetRepository.findByWorkoutExerciseOrderBySetNumberAsc(workoutExercise);
-            long completedSets = allSets.stream()
-                    .filter(set -> set.getStatus() == ExerciseSet.Status.COMPLETED)
-                    .count();
-
-            // If all planned sets are completed, automatically complete the exercise
-            if (completedSets >= workoutExercise.getPlannedSets()) {
-                workoutExercise.completeExercise();
-                workoutExerciseRepository.save(workoutExercise);
-            }
+        if (newlyCompleted) {
+            eventPublisher.publishEvent(new SetCompletedEvent(this, user.getId(),
+                    workoutExercise.getExercise().getId(),
+                    exerciseSet.getActualWeight(), exerciseSet.getActualReps(), exerciseSet.getCompletedAt()));
+
+            workoutExerciseRepository.incrementCompletedSets(workoutExercise.getId(), now);
+            workoutExerciseRepository.completeIfAllSetsDone(workoutExercise.getId(), now);
+            entityManager.refresh(workoutExercise);
         }
 
-        return savedSet;
+        liveSessionStore.open(workoutExercise.getWorkout());
+        if (newlyCompleted) {
+            countTransition("set_completed");
+            publishSetCompleted(workoutExercise.getWorkout().getId(), workoutExercise, exerciseSet);
+        }
+        return exerciseSet;
     }
 
+    @Transactional(readOnly = true)
     public List<ExerciseSet> getExerciseSets(String username, Long workoutExerciseId) {
+        Optional<LiveSession> liveSession = liveSessionStore.findByExercise(workoutExerciseId)
+                .filter(session -> session.isOwnedBy(username));
+        if (liveSession.isPresent()) {
+            return liveSessionStore.getSets(liveSession.get(), workoutExerciseId);
+        }
+
         // Verify the workout exercise belongs to the user
         WorkoutExercise workoutExercise = workoutExerciseRepository.findById(workoutExerciseId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout exercise not found: " + workoutExerciseId));
@@ -255,35 +378,62 @@ public class WorkoutService {
     }
 
     public WorkoutExercise completeExercise(String username, Long workoutId, Long workoutExerciseId) {
+        Optional<LiveSession> liveSession = liveSessionStore.findByExercise(workoutExerciseId)
+                .filter(session -> session.getWorkoutId().equals(workoutId) && session.isOwnedBy(username));
+        if (liveSession.isPresent()) {
+            WorkoutExercise completed = liveSessionStore.completeExercise(liveSession.get(), workoutExerciseId);
+            if (completed == null) {
+                return liveSessionStore.getExercise(liveSession.get(), workoutExerciseId);
+            }
+            countTransition("exercise_completed");
+            publishExerciseActivity(WorkoutActivityDTO.Type.EXERCISE_COMPLETED, workoutId, completed);
+            return completed;
+        }
+
         Workout workout = getWorkoutById(username, workoutId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
 
         WorkoutExercise workoutExercise = workoutExerciseRepository.findByIdAndWorkout(workoutExerciseId, workout)
                 .orElseThrow(() -> new IllegalArgumentException("Workout exercise not found: " + workoutExerciseId));
 
-        if (workoutExercise.getStatus() != WorkoutExercise.Status.IN_PROGRESS) {
+        if (workoutExerciseRepository.completeIfInProgress(workoutExerciseId, LocalDateTime.now()) == 0) {
+            // Lost the race to another device (or auto-completion): completing twice is fine, anything else is not
+            entityManager.refresh(workoutExercise);
+            if (workoutExercise.getStatus() == WorkoutExercise.Status.COMPLETED) {
+                return workoutExercise;
+            }
             throw new IllegalStateException("Can only complete exercises that are in progress");
         }
 
-        workoutExercise.completeExercise();
-        return workoutExerciseRepository.save(workoutExercise);
+        entityManager.refresh(workoutExercise);
+        countTransition("exercise_completed");
+        publishExerciseActivity(WorkoutActivityDTO.Type.EXERCISE_COMPLETED, workoutId, workoutExercise);
+        return workoutExercise;
     }
 
     @CacheEvict(value = "userWorkouts", allEntries = true)
     public void deleteWorkout(String username, Long workoutId) {
+        resourceVersionService.userWorkoutsChanged(username);
         Workout workout = getWorkoutById(username, workoutId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
 
+        liveSessionStore.evict(workoutId);
+
         // Allow deletion at all times - no restrictions on workout status or logged sets
         // This will cascade delete all related WorkoutExercises and ExerciseSets due to JPA cascade settings
         workoutRepository.deleteById(workoutId);
+        syncTombstoneRepository.save(SyncTombstone.of(workout.getUser(), SyncTombstone.EntityType.WORKOUT, workoutId));
     }
 
     @CacheEvict(value = "userWorkouts", allEntries = true)
+    @RetryOnConflict
     public void deleteWorkoutExercise(String username, Long workoutId, Long workoutExerciseId) {
+        resourceVersionService.userWorkoutsChanged(username);
         Workout workout = getWorkoutById(username, workoutId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
 
+        liveSessionStore.evict(workoutId);
+
         WorkoutExercise workoutExercise = workoutExerciseRepository.findById(workoutExerciseId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout exercise not found: " + workoutExerciseId));
 
@@ -303,16 +453,25 @@ public class WorkoutService {
         }
 
         workoutExerciseRepository.delete(workoutExercise);
+        syncTombstoneRepository.save(SyncTombstone.of(workout.getUser(),
+                SyncTombstone.EntityType.WORKOUT_EXERCISE, workoutExerciseId));
     }
 
     // Method to fix data inconsistencies for existing workouts
     @CacheEvict(value = "userWorkouts", allEntries = true)
+    @RetryOnConflict
     public void fixWorkoutStatusInconsistency(String username, Long workoutId) {
+        resourceVersionService.userWorkoutsChanged(username);
         Workout workout = getWorkoutById(username, workoutId)
                 .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
 
+        liveSessionStore.evict(workoutId);
+
         List<WorkoutExercise> exercises = workoutExerciseRepository.findByWorkoutOrderByOrderIndexAsc(workout);
 
+        // Re-derive the completed-set counters in case they drifted from the sets themselves
+        exercises.forEach(exercise -> workoutExerciseRepository.recountCompletedSets(exercise.getId()));
+
         // Fix if workout is PLANNED but has IN_PROGRESS exercises
         if (workout.getStatus() == Workout.Status.PLANNED) {
             boolean hasInProgressExercises = exercises.stream()
@@ -350,6 +509,25 @@ public class WorkoutService {
         }
     }
 
+    /**
+     * The workout owner and any trainer with the owner on their roster may watch the live event stream.
+     */
+    @Transactional(readOnly = true)
+    public void checkCanWatchWorkout(String username, Long workoutId) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+
+        Workout workout = workoutRepository.findById(workoutId)
+                .orElseThrow(() -> new IllegalArgumentException("Workout not found: " + workoutId));
+
+        Long ownerId = workout.getUser().getId();
+        if (!ownerId.equals(user.getId()) && !trainerClientRepository.existsByTrainerIdAndClientId(user.getId(), ownerId)) {
+            // Same message as a missing workout so ids of other users' workouts are not disclosed
+            throw new IllegalArgumentException("Workout not found: " + workoutId);
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<PersonalRecordDTO> getPersonalRecords(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
@@ -365,4 +543,52 @@ public class WorkoutService {
                 ))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    // Called only where the conditional UPDATE (or the live session) actually changed state, so a repeated request
+    // from a second device is not counted twice
+    private void countTransition(String transition) {
+        meterRegistry.counter(TRANSITIONS_METRIC, "transition", transition).increment();
+    }
+
+    // Delivered to /api/workouts/{id}/events subscribers once the transaction commits
+    private void publishWorkoutActivity(WorkoutActivityDTO.Type type, Workout workout) {
+        WorkoutActivityDTO activity = new WorkoutActivityDTO(type, workout.getId());
+        activity.setWorkoutStatus(workout.getStatus().name());
+        eventPublisher.publishEvent(new WorkoutActivityEvent(this, activity));
+    }
+
+    private void publishExerciseActivity(WorkoutActivityDTO.Type type, Long workoutId, WorkoutExercise exercise) {
+        eventPublisher.publishEvent(new WorkoutActivityEvent(this, exerciseActivity(type, workoutId, exercise)));
+    }
+
+    private void publishSetActivity(WorkoutActivityDTO.Type type, Long workoutId, WorkoutExercise exercise, ExerciseSet set) {
+        WorkoutActivityDTO activity = exerciseActivity(type, workoutId, exercise);
+        activity.setSetId(set.getId());
+        activity.setSetNumber(set.getSetNumber());
+        activity.setSetStatus(set.getStatus().name());
+        activity.setActualReps(set.getActualReps());
+        activity.setActualWeight(set.getActualWeight());
+        eventPublisher.publishEvent(new WorkoutActivityEvent(this, activity));
+    }
+
+    // A completed set starts the exercise's rest timer, so every watching screen counts down from the same point
+    private void publishSetCompleted(Long workoutId, WorkoutExercise exercise, ExerciseSet set) {
+        publishSetActivity(WorkoutActivityDTO.Type.SET_COMPLETED, workoutId, exercise, set);
+
+        Integer restSeconds = exercise.getRestTimeSeconds();
+        if (restSeconds != null && restSeconds > 0 && set.getCompletedAt() != null) {
+            WorkoutActivityDTO timer = exerciseActivity(WorkoutActivityDTO.Type.REST_TIMER, workoutId, exercise);
+            timer.setSetId(set.getId());
+            timer.setRestSeconds(restSeconds);
+            timer.setRestEndsAt(set.getCompletedAt().plusSeconds(restSeconds));
+            eventPublisher.publishEvent(new WorkoutActivityEvent(this, timer));
+        }
+    }
+
+    private static WorkoutActivityDTO exerciseActivity(WorkoutActivityDTO.Type type, Long workoutId, WorkoutExercise exercise) {
+        WorkoutActivityDTO activity = new WorkoutActivityDTO(type, workoutId);
+        activity.setWorkoutExerciseId(exercise.getId());
+        activity.setExerciseStatus(exercise.getStatus().name());
+        return activity;
+    }
+}
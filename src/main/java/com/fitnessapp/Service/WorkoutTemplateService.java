@@ -0,0 +1,148 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.TemplateAssignmentDTO;
+import com.fitnessapp.dto.request.template.CreateWorkoutTemplateRequest;
+import com.fitnessapp.dto.request.template.TemplateExerciseRequest;
+import com.fitnessapp.entity.Exercise;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.WorkoutTemplate;
+import com.fitnessapp.entity.WorkoutTemplateExercise;
+import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.repository.TrainerClientRepository;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.WorkoutTemplateRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class WorkoutTemplateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkoutTemplateService.class);
+
+    private final WorkoutTemplateRepository workoutTemplateRepository;
+    private final TrainerClientRepository trainerClientRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final UserRepository userRepository;
+    private final ResourceVersionService resourceVersionService;
+
+    public WorkoutTemplateService(WorkoutTemplateRepository workoutTemplateRepository,
+                                  TrainerClientRepository trainerClientRepository,
+                                  ExerciseRepository exerciseRepository,
+                                  UserRepository userRepository,
+                                  ResourceVersionService resourceVersionService) {
+        this.workoutTemplateRepository = workoutTemplateRepository;
+        this.trainerClientRepository = trainerClientRepository;
+        this.exerciseRepository = exerciseRepository;
+        this.userRepository = userRepository;
+        this.resourceVersionService = resourceVersionService;
+    }
+
+    public WorkoutTemplate createTemplate(String trainerUsername, CreateWorkoutTemplateRequest request) {
+        User trainer = getUser(trainerUsername);
+
+        Set<Long> exerciseIds = request.getExercises().stream()
+                .map(TemplateExerciseRequest::getExerciseId)
+                .collect(Collectors.toSet());
+        Map<Long, Exercise> exercises = exerciseRepository.findAllById(exerciseIds).stream()
+                .collect(Collectors.toMap(Exercise::getId, Function.identity()));
+
+        WorkoutTemplate template = new WorkoutTemplate();
+        template.setName(request.getName());
+        template.setDescription(request.getDescription());
+        template.setTrainer(trainer);
+
+        int orderIndex = 0;
+        for (TemplateExerciseRequest item : request.getExercises()) {
+            Exercise exercise = exercises.get(item.getExerciseId());
+            if (exercise == null) {
+                throw new IllegalArgumentException("Exercise not found: " + item.getExerciseId());
+            }
+
+            WorkoutTemplateExercise templateExercise = new WorkoutTemplateExercise();
+            templateExercise.setTemplate(template);
+            templateExercise.setExercise(exercise);
+            templateExercise.setOrderIndex(orderIndex++);
+            templateExercise.setPlannedSets(item.getPlannedSets());
+            templateExercise.setPlannedReps(item.getPlannedReps());
+            templateExercise.setPlannedWeight(item.getPlannedWeight());
+            templateExercise.setPlannedDurationSeconds(item.getPlannedDurationSeconds());
+            templateExercise.setPlannedDistanceMeters(item.getPlannedDistanceMeters());
+            templateExercise.setRestTimeSeconds(item.getRestTimeSeconds());
+            templateExercise.setNotes(item.getNotes());
+            template.getExercises().add(templateExercise);
+        }
+
+        return workoutTemplateRepository.save(template);
+    }
+
+    @Transactional(readOnly = true)
+    public List<WorkoutTemplate> getTemplates(String trainerUsername) {
+        User trainer = getUser(trainerUsername);
+        return workoutTemplateRepository.findByTrainerIdOrderByNameAsc(trainer.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public WorkoutTemplate getTemplate(String trainerUsername, Long templateId) {
+        User trainer = getUser(trainerUsername);
+        return workoutTemplateRepository.findByIdAndTrainerIdWithExercises(templateId, trainer.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Workout template not found: " + templateId));
+    }
+
+    public void deleteTemplate(String trainerUsername, Long templateId) {
+        workoutTemplateRepository.delete(getTemplate(trainerUsername, templateId));
+    }
+
+    /**
+     * Clones the template into one planned workout per client with two INSERT ... SELECT statements,
+     * so the cost is independent of class size. An empty client list assigns to the whole roster.
+     */
+    @CacheEvict(value = "userWorkouts", allEntries = true)
+    public TemplateAssignmentDTO assignTemplate(String trainerUsername, Long templateId,
+                                                Collection<Long> clientIds, LocalDateTime scheduledDate) {
+        resourceVersionService.allWorkoutsChanged();
+        User trainer = getUser(trainerUsername);
+        WorkoutTemplate template = workoutTemplateRepository.findById(templateId)
+                .filter(t -> t.getTrainer().getId().equals(trainer.getId()))
+                .orElseThrow(() -> new IllegalArgumentException("Workout template not found: " + templateId));
+
+        List<Long> targetIds;
+        if (clientIds == null || clientIds.isEmpty()) {
+            targetIds = trainerClientRepository.findClientIdsByTrainerId(trainer.getId());
+        } else {
+            Set<Long> requested = new HashSet<>(clientIds);
+            targetIds = trainerClientRepository.findClientIdsByTrainerIdAndClientIdIn(trainer.getId(), requested);
+            if (targetIds.size() != requested.size()) {
+                requested.removeAll(targetIds);
+                throw new IllegalArgumentException("Clients not in roster: " + requested);
+            }
+        }
+        if (targetIds.isEmpty()) {
+            throw new IllegalStateException("No clients to assign the template to");
+        }
+
+        String assignmentId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        int workouts = workoutTemplateRepository.insertWorkoutsFromTemplate(
+                template.getId(), trainer.getId(), targetIds, scheduledDate, assignmentId, now);
+        int exercises = workoutTemplateRepository.insertWorkoutExercisesFromTemplate(assignmentId, 1.0, 0.0, 0, now);
+
+        logger.info("Assigned template {} to {} clients ({} exercises) as assignment {}",
+                template.getId(), workouts, exercises, assignmentId);
+
+        return new TemplateAssignmentDTO(assignmentId, template.getId(), scheduledDate, workouts, exercises);
+    }
+
+    private User getUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+    }
+}
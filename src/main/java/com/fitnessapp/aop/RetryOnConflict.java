@@ -0,0 +1,19 @@
+package com.fitnessapp.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the method in a fresh transaction when it loses an optimistic-locking race.
+ * Only put this on operations that are safe to repeat, i.e. they re-read state and re-apply the same intent.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+
+    int maxAttempts() default 3;
+
+    long backoffMillis() default 25;
+}
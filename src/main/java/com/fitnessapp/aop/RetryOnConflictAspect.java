@@ -0,0 +1,46 @@
+package com.fitnessapp.aop;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// Higher precedence than the transaction interceptor (which runs at lowest precedence), so the retry wraps the
+// transaction: each attempt gets its own, and commit-time conflicts are seen
+@Aspect
+@Component
+@Order(0)
+public class RetryOnConflictAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(RetryOnConflictAspect.class);
+
+    @Around("@annotation(retryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint, RetryOnConflict retryOnConflict) throws Throwable {
+        // Inside a caller's transaction a retry would reuse the stale persistence context; let the caller handle it
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        int attempt = 1;
+        while (true) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= retryOnConflict.maxAttempts()) {
+                    throw e;
+                }
+                logger.debug("Conflict in {} (attempt {}), retrying", joinPoint.getSignature().toShortString(), attempt);
+                // Jittered so two devices that collided do not collide again in lockstep
+                Thread.sleep(retryOnConflict.backoffMillis() * attempt + ThreadLocalRandom.current().nextLong(10));
+                attempt++;
+            }
+        }
+    }
+}
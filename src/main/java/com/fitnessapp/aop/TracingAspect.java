@@ -0,0 +1,74 @@
+package com.fitnessapp.aop;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Spans (and timers) around Spring Data repository calls and application event listeners. Listener spans cover the
+ * {@code @Async} ones too: the async advisor runs first, so the span opens on the executor thread, parented through
+ * the context propagated by AsyncConfig's task decorator.
+ */
+@Aspect
+@Component
+public class TracingAspect {
+
+    public static final String REPOSITORY_OBSERVATION = "fitnessapp.repository";
+    public static final String LISTENER_OBSERVATION = "fitnessapp.event.listener";
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public TracingAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object observeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryNames.computeIfAbsent(joinPoint.getThis().getClass(), TracingAspect::repositoryName);
+        String method = joinPoint.getSignature().getName();
+        return observe(Observation.createNotStarted(REPOSITORY_OBSERVATION, observationRegistry)
+                .contextualName(repository + "." + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method), joinPoint);
+    }
+
+    @Around("@annotation(org.springframework.context.event.EventListener)"
+            + " || @annotation(org.springframework.transaction.event.TransactionalEventListener)")
+    public Object observeListener(ProceedingJoinPoint joinPoint) throws Throwable {
+        String listener = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        return observe(Observation.createNotStarted(LISTENER_OBSERVATION, observationRegistry)
+                .contextualName(listener + "." + method)
+                .lowCardinalityKeyValue("listener", listener)
+                .lowCardinalityKeyValue("method", method), joinPoint);
+    }
+
+    private static Object observe(Observation observation, ProceedingJoinPoint joinPoint) throws Throwable {
+        observation.start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    // The proxy implements the application's repository interface next to Spring's own
+    private static String repositoryName(Class<?> proxyClass) {
+        for (Class<?> candidate : proxyClass.getInterfaces()) {
+            if (candidate.getPackageName().startsWith("com.fitnessapp")) {
+                return candidate.getSimpleName();
+            }
+        }
+        return proxyClass.getSimpleName();
+    }
+}
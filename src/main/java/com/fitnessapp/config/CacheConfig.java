@@ -0,0 +1,56 @@
+package com.fitnessapp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Tag;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+
+    // Matches the tag Boot puts on the startup caches of the cacheManager bean
+    private static final Tag CACHE_MANAGER_TAG = Tag.of("cache.manager", "cacheManager");
+
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.default-max-size:10000}") long defaultMaxSize,
+                                     @Value("${app.cache.trainer-dashboard-ttl:60s}") Duration trainerDashboardTtl,
+                                     @Value("${app.cache.user-details-ttl:30s}") Duration userDetailsTtl,
+                                     ObjectProvider<CacheMetricsRegistrar> cacheMetricsRegistrar) {
+        // Boot binds the caches that exist at startup (the custom ones below); most of ours are created on first use,
+        // so bind each of those as it is created, with Boot's tags (cache.gets{result=hit|miss}, evictions, size).
+        // The registrar is looked up lazily: Boot builds it from the cache managers, so it cannot be injected here
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache createCaffeineCache(String name) {
+                Cache cache = super.createCaffeineCache(name);
+                cacheMetricsRegistrar.ifAvailable(registrar -> registrar.bindCacheToRegistry(cache, CACHE_MANAGER_TAG));
+                return cache;
+            }
+        };
+        cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(defaultMaxSize).recordStats());
+
+        // Dashboards aggregate other users' data and are not evicted by their writes, so they expire instead
+        cacheManager.registerCustomCache("trainerDashboard", Caffeine.newBuilder()
+                .expireAfterWrite(trainerDashboardTtl)
+                .maximumSize(1000)
+                .recordStats()
+                .build());
+
+        // Other instances do not see this instance's evictions, so a disabled account stays usable until expiry
+        cacheManager.registerCustomCache("userDetails", Caffeine.newBuilder()
+                .expireAfterWrite(userDetailsTtl)
+                .maximumSize(defaultMaxSize)
+                .recordStats()
+                .build());
+
+        return cacheManager;
+    }
+}
@@ -0,0 +1,63 @@
+package com.fitnessapp.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for the exercise catalog, kept in Caffeine through JCache. Each region is declared
+ * here; an entity or collection marked {@code @Cache} without a region below fails at startup
+ * ({@code hibernate.javax.cache.missing_cache_strategy=fail}) rather than getting an unbounded cache.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String EXERCISE_REGION = "exercise";
+    public static final String EXERCISE_PRIMARY_MUSCLES_REGION = "exercise.primaryMuscles";
+    public static final String EXERCISE_SECONDARY_MUSCLES_REGION = "exercise.secondaryMuscles";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${app.hibernate-cache.exercise-max-size:5000}") long exerciseMaxSize,
+                                              @Value("${app.hibernate-cache.exercise-ttl:1h}") Duration exerciseTtl,
+                                              @Value("${app.hibernate-cache.query-max-size:1000}") long queryMaxSize) {
+        // A manager of its own per application context: the provider's default one is shared JVM-wide, so test
+        // contexts on different databases would see each other's entries and close each other's caches
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:fitnessapp:hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+
+        // Other instances do not see this instance's catalog edits, so entries also expire
+        cacheManager.createCache(EXERCISE_REGION, region(exerciseMaxSize, exerciseTtl));
+        cacheManager.createCache(EXERCISE_PRIMARY_MUSCLES_REGION, region(exerciseMaxSize, exerciseTtl));
+        cacheManager.createCache(EXERCISE_SECONDARY_MUSCLES_REGION, region(exerciseMaxSize, exerciseTtl));
+
+        // Cached query results are checked against the last write to each table they read, which is kept in the
+        // timestamps region; that one must never evict, or stale results would be served
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(queryMaxSize, exerciseTtl));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        return configuration;
+    }
+}
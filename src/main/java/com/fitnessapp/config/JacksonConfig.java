@@ -1,8 +1,12 @@
 package com.fitnessapp.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.datatype.hibernate5.jakarta.Hibernate5JakartaModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
@@ -13,11 +17,43 @@ public class JacksonConfig {
     @Bean
     @Primary
     public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+        return withHibernateModule(configure(new ObjectMapper()));
+    }
+
+    /**
+     * Same settings without the Hibernate module, for response types that never reach an entity. Skips the
+     * per-collection proxy checks the module wraps around every serializer. See {@link com.fitnessapp.web.DtoJsonHttpMessageConverter}.
+     */
+    @Bean
+    public ObjectMapper dtoObjectMapper() {
+        return configure(new ObjectMapper());
+    }
+
+    // Binary encodings for mobile clients that ask for them; same data model as JSON, so the same modules apply
+    @Bean
+    public ObjectMapper cborObjectMapper() {
+        return withHibernateModule(configure(new CBORMapper()));
+    }
+
+    @Bean
+    public ObjectMapper smileObjectMapper() {
+        return withHibernateModule(configure(new SmileMapper()));
+    }
 
+    private static ObjectMapper configure(ObjectMapper mapper) {
         // Register JavaTime module for LocalDateTime support
         mapper.registerModule(new JavaTimeModule());
 
+        // Generate property accessors with LambdaMetafactory instead of going through reflection
+        mapper.registerModule(new BlackbirdModule());
+
+        // Disable writing dates as timestamps (use ISO format instead)
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        return mapper;
+    }
+
+    private static ObjectMapper withHibernateModule(ObjectMapper mapper) {
         // Register Hibernate5 module to handle lazy loading proxies
         Hibernate5JakartaModule hibernateModule = new Hibernate5JakartaModule();
         hibernateModule.configure(Hibernate5JakartaModule.Feature.FORCE_LAZY_LOADING, false);
@@ -25,9 +61,6 @@ public class JacksonConfig {
 
         mapper.registerModule(hibernateModule);
 
-        // Disable writing dates as timestamps (use ISO format instead)
-        mapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
         return mapper;
     }
-}
\ No newline at end of file
+}
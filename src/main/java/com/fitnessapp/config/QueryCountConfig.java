@@ -0,0 +1,35 @@
+package com.fitnessapp.config;
+
+import com.fitnessapp.web.QueryCountFilter;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the DataSource in a datasource-proxy outside production so {@link QueryCountFilter} can count statements per
+ * request. The proxy only adds a listener call per statement; production keeps the plain pool.
+ */
+@Configuration
+@Profile("!production")
+public class QueryCountConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(QueryCountFilter.listener())
+                        .build();
+            }
+        };
+    }
+}
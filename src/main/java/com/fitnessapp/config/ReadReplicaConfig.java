@@ -0,0 +1,79 @@
+package com.fitnessapp.config;
+
+import com.fitnessapp.datasource.ReadYourWritesTracker;
+import com.fitnessapp.datasource.ReplicaLagMonitor;
+import com.fitnessapp.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Replaces Boot's single pool with a primary and a replica pool behind {@link ReplicaRoutingDataSource} once
+ * {@code app.datasource.replica.url} is set. Both pools take the {@code spring.datasource.hikari.*} settings; the
+ * replica's can be overridden under {@code app.datasource.replica.hikari.*}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    // Replication delay on a standby; zero when it has replayed everything it received, so an idle primary does not
+    // look like lag
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${app.datasource.replica.read-your-writes-window:5s}") Duration window,
+                                                       @Value("${app.datasource.replica.read-your-writes-max-users:100000}") long maxUsers) {
+        return new ReadYourWritesTracker(window, maxUsers);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSourceProperties properties,
+                                               Environment environment,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${app.datasource.replica.url}") String url,
+                                               @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                               @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                               @Value("${app.datasource.replica.lag-query:" + POSTGRES_LAG_QUERY + "}") String lagQuery,
+                                               @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+        binder.bind("app.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new ReplicaLagMonitor(replica, lagQuery, maxLag, meterRegistry);
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 MeterRegistry meterRegistry,
+                                 ReplicaLagMonitor replicaLagMonitor,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new ReplicaRoutingDataSource(primary, replicaLagMonitor, readYourWritesTracker, meterRegistry);
+    }
+}
@@ -1,6 +1,9 @@
 package com.fitnessapp.config;
 
 import com.fitnessapp.security.JwtAuthenticationFilter;
+import com.fitnessapp.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,11 +44,15 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll() // SSE streams were authorized on the initial request
                         .requestMatchers("/api/auth/**").permitAll() // login/register allowed
                         .requestMatchers("/api/exercises/**").permitAll() // exercises are public for browsing
                         .requestMatchers("/api/admin/**").hasRole("ADMIN") // admin endpoints
                         .requestMatchers("/api/trainer/**").hasAnyRole("TRAINER", "ADMIN") // trainer endpoints
                         .requestMatchers("/", "/static/**", "/favicon.ico", "/manifest.json").permitAll() // React static files
+                        .requestMatchers("/actuator/prometheus").permitAll() // scraped without credentials; only served on management.server.port
+                        .requestMatchers("/actuator/health/liveness", "/actuator/health/readiness").permitAll() // orchestrator probes
+                        .requestMatchers("/actuator/slowoperations").hasRole("ADMIN") // SQL text of the slowest statements
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
@@ -53,16 +60,16 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder());
+        provider.setPasswordEncoder(passwordEncoder);
         return provider;
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 
     @Bean
@@ -76,6 +83,7 @@ public class SecurityConfig {
         configuration.setAllowedOriginPatterns(Arrays.asList("http://localhost:3000", "http://localhost:3001", "http://localhost:3002"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList("Idempotent-Replayed"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,36 @@
+package com.fitnessapp.config;
+
+import com.fitnessapp.monitoring.SlowOperationMonitor;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Feeds every statement to {@link SlowOperationMonitor}, in all profiles. Unlike {@link QueryCountConfig} this stays
+ * on in production, where slow queries matter most; the listener only compares a timing against a threshold.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.slow-operations.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowOperationConfig {
+
+    @Bean
+    public static BeanPostProcessor slowOperationDataSource(ObjectProvider<SlowOperationMonitor> monitor) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(monitor.getObject().queryListener())
+                        .build();
+            }
+        };
+    }
+}
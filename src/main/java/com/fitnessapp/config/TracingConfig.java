@@ -0,0 +1,69 @@
+package com.fitnessapp.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Spans for the parts of a request Spring does not observe on its own: the commit of a JPA transaction (including the
+ * Hibernate flush that runs inside it) and the publication of the application's own events. Repository calls and
+ * listener execution are covered by {@link com.fitnessapp.aop.TracingAspect}.
+ */
+@Configuration
+public class TracingConfig {
+
+    public static final String COMMIT_OBSERVATION = "fitnessapp.transaction.commit";
+    public static final String PUBLISH_OBSERVATION = "fitnessapp.event.publish";
+
+    // Replaces Boot's JpaTransactionManager, keeping its customizers (spring.transaction.* properties)
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                    ObjectProvider<TransactionManagerCustomizers> customizers,
+                                                    ObservationRegistry observationRegistry) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory) {
+            @Override
+            protected void doCommit(DefaultTransactionStatus status) {
+                String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+                Observation.createNotStarted(COMMIT_OBSERVATION, observationRegistry)
+                        .highCardinalityKeyValue("transaction", transactionName != null ? transactionName : "unnamed")
+                        .observe(() -> super.doCommit(status));
+            }
+        };
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+
+    // Created while the context refreshes, before the observation registry; it is looked up on the first
+    // application event instead, and framework events are not observed at all
+    @Bean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+    public static ApplicationEventMulticaster applicationEventMulticaster(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new SimpleApplicationEventMulticaster() {
+            @Override
+            public void multicastEvent(ApplicationEvent event, ResolvableType eventType) {
+                Class<?> payloadType = event instanceof PayloadApplicationEvent<?> payload
+                        ? payload.getPayload().getClass() : event.getClass();
+                if (!payloadType.getPackageName().startsWith("com.fitnessapp")) {
+                    super.multicastEvent(event, eventType);
+                    return;
+                }
+                Observation.createNotStarted(PUBLISH_OBSERVATION, observationRegistry.getObject())
+                        .contextualName(payloadType.getSimpleName() + " publish")
+                        .lowCardinalityKeyValue("event", payloadType.getSimpleName())
+                        .observe(() -> super.multicastEvent(event, eventType));
+            }
+        };
+    }
+}
@@ -1,40 +1,77 @@
 package com.fitnessapp.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnessapp.web.DtoJsonHttpMessageConverter;
+import com.fitnessapp.web.StaticAssetIndex;
+import com.fitnessapp.web.StaticAssetResolver;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.resource.PathResourceResolver;
 
-import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private final StaticAssetIndex staticAssetIndex;
+    private final ObjectMapper dtoObjectMapper;
+    private final ObjectMapper cborObjectMapper;
+    private final ObjectMapper smileObjectMapper;
+
+    public WebConfig(StaticAssetIndex staticAssetIndex,
+                     @Qualifier("dtoObjectMapper") ObjectMapper dtoObjectMapper,
+                     @Qualifier("cborObjectMapper") ObjectMapper cborObjectMapper,
+                     @Qualifier("smileObjectMapper") ObjectMapper smileObjectMapper) {
+        this.staticAssetIndex = staticAssetIndex;
+        this.dtoObjectMapper = dtoObjectMapper;
+        this.cborObjectMapper = cborObjectMapper;
+        this.smileObjectMapper = smileObjectMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring adds CBOR/Smile converters with stock mappers when the dataformats are present; use ours instead.
+        // They stay behind JSON, so only clients asking for application/cbor or application/x-jackson-smile get them
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(cborObjectMapper));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(smileObjectMapper));
+
+        // Entity-free response types skip the Hibernate module; everything else falls through to the default converter
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter) {
+                converters.add(i, new DtoJsonHttpMessageConverter(dtoObjectMapper));
+                return;
+            }
+        }
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Serve static files from React build
+        // Serve the React build from memory. Files under /static/ carry a content hash in their name, so they never change
+        registry.addResourceHandler("/static/**")
+                .addResourceLocations("classpath:/static/static/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .setUseLastModified(false)
+                .setEtagGenerator(StaticAssetResolver::etagOf)
+                .resourceChain(false)
+                .addResolver(new StaticAssetResolver(staticAssetIndex, "static/", false));
+
+        // index.html, manifest, icons: revalidated on every load, answered with 304 while the build is unchanged.
+        // For React Router, any other non-API path gets index.html
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requestedResource = location.createRelative(resourcePath);
-
-                        // If resource exists, serve it
-                        if (requestedResource.exists() && requestedResource.isReadable()) {
-                            return requestedResource;
-                        }
-
-                        // For React Router - serve index.html for any non-API routes
-                        if (!resourcePath.startsWith("api/")) {
-                            return new ClassPathResource("/static/index.html");
-                        }
-
-                        return null;
-                    }
-                });
+                .setCacheControl(CacheControl.noCache())
+                .setUseLastModified(false)
+                .setEtagGenerator(StaticAssetResolver::etagOf)
+                .resourceChain(false)
+                .addResolver(new StaticAssetResolver(staticAssetIndex, "", true));
     }
-}
\ No newline at end of file
+}
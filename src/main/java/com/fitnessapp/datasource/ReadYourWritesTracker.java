@@ -0,0 +1,108 @@
+package com.fitnessapp.datasource;
+
+import com.fitnessapp.event.UserRegisteredEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Keeps a user's reads on the primary for a short window after they committed a transaction that wrote, so they see
+ * their own change even while the replica has yet to replay it. A read-write transaction that only read (a GET that
+ * might have flushed a live session but had nothing to flush) does not count; writes are seen by
+ * {@link #writeListener()} on the primary's statements. A new registration counts as a write by the user
+ * being registered. Other users keep reading from the replica. Per instance: a user whose next request lands on
+ * another instance is only covered by the lag limit.
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    // Set when the thread's current transaction has sent a write to the primary
+    private static final ThreadLocal<Boolean> TRANSACTION_WROTE = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration window, long maxEntries) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    public boolean mustReadPrimary() {
+        String username = currentUsername();
+        return username != null && recentWriters.getIfPresent(username) != null;
+    }
+
+    /**
+     * Flags the current transaction once a statement other than a SELECT succeeds; anything the parser cannot classify
+     * counts as a write. Outside a transaction the statement auto-committed, so the user is marked straight away.
+     */
+    public QueryExecutionListener writeListener() {
+        return new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                if (!execInfo.isSuccess() || queryInfoList.stream()
+                        .allMatch(query -> QueryUtils.getQueryType(query.getQuery()) == QueryType.SELECT)) {
+                    return;
+                }
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    TRANSACTION_WROTE.set(Boolean.TRUE);
+                } else {
+                    markCurrentUser();
+                }
+            }
+        };
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        boolean wrote = TRANSACTION_WROTE.get() != null;
+        TRANSACTION_WROTE.remove();
+        if (commitFailure == null && wrote) {
+            markCurrentUser();
+        }
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        TRANSACTION_WROTE.remove();
+    }
+
+    @EventListener
+    public void onUserRegistered(UserRegisteredEvent event) {
+        recentWriters.put(event.getUser().getUsername(), Boolean.TRUE);
+    }
+
+    private void markCurrentUser() {
+        String username = currentUsername();
+        if (username != null) {
+            recentWriters.put(username, Boolean.TRUE);
+        }
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
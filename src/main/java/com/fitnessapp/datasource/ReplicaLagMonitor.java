@@ -0,0 +1,77 @@
+package com.fitnessapp.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Owns the replica pool and decides whether it may serve reads: the replica's replay lag is probed on a fixed delay
+ * and reads fall back to the primary while it is above the limit or the probe fails. Until the first probe succeeds
+ * the replica is not used.
+ */
+public class ReplicaLagMonitor implements Closeable {
+
+    public static final String LAG_METRIC = "fitnessapp.datasource.replica.lag";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final HikariDataSource replica;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaLagMonitor(HikariDataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        Gauge.builder(LAG_METRIC, this, monitor -> monitor.lagSeconds)
+                .description("Replay lag of the read replica; NaN while it cannot be probed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public HikariDataSource getReplica() {
+        return replica;
+    }
+
+    public boolean isUsable() {
+        double lag = lagSeconds;
+        return !Double.isNaN(lag) && lag <= maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:5s}")
+    public void check() {
+        boolean wasUsable = isUsable();
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(lagQuery)) {
+            lagSeconds = result.next() ? result.getDouble(1) : Double.NaN;
+        } catch (SQLException e) {
+            lagSeconds = Double.NaN;
+            if (wasUsable) {
+                logger.warn("Read replica probe failed, reading from the primary: {}", e.getMessage());
+            }
+            return;
+        }
+        if (wasUsable && !isUsable()) {
+            logger.warn("Read replica is {} s behind (limit {} s), reading from the primary", lagSeconds, maxLagSeconds);
+        } else if (!wasUsable && isUsable()) {
+            logger.info("Read replica is {} s behind, routing read-only transactions to it", lagSeconds);
+        }
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+    }
+}
@@ -0,0 +1,84 @@
+package com.fitnessapp.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.Map;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. The replica is skipped while it
+ * lags ({@link ReplicaLagMonitor}) and for a user who just wrote ({@link ReadYourWritesTracker}).
+ *
+ * The physical connection is picked on the first statement rather than when Hibernate begins the transaction: the
+ * read-only flag is only bound to the thread after the transaction manager has opened the connection.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    public static final String READS_METRIC = "fitnessapp.datasource.reads";
+
+    private enum Target { PRIMARY, REPLICA }
+
+    private final HikariDataSource primary;
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Counter primaryReads;
+    private final Counter replicaReads;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary,
+                                    ReplicaLagMonitor lagMonitor,
+                                    ReadYourWritesTracker readYourWrites,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        this.primaryReads = readsCounter(meterRegistry, "primary");
+        this.replicaReads = readsCounter(meterRegistry, "replica");
+
+        AbstractRoutingDataSource routing = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return route();
+            }
+        };
+        // Statements on the primary pass through the tracker so only transactions that wrote pin their user to it
+        DataSource trackedPrimary = ProxyDataSourceBuilder.create(primary)
+                .name("primary")
+                .listener(readYourWrites.writeListener())
+                .build();
+        routing.setTargetDataSources(Map.of(Target.PRIMARY, trackedPrimary, Target.REPLICA, lagMonitor.getReplica()));
+        routing.setDefaultTargetDataSource(trackedPrimary);
+        routing.afterPropertiesSet();
+        setTargetDataSource(routing);
+    }
+
+    @Override
+    public void close() {
+        primary.close();
+    }
+
+    private Target route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Target.PRIMARY;
+        }
+        if (lagMonitor.isUsable() && !readYourWrites.mustReadPrimary()) {
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+        primaryReads.increment();
+        return Target.PRIMARY;
+    }
+
+    private static Counter readsCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder(READS_METRIC)
+                .description("Read-only transactions by the database they were sent to")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
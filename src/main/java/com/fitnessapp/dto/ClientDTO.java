@@ -0,0 +1,33 @@
+package com.fitnessapp.dto;
+
+import com.fitnessapp.entity.TrainerClient;
+import com.fitnessapp.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientDTO {
+    private Long id;
+    private String username;
+    private String email;
+    private String firstName;
+    private String lastName;
+    private LocalDateTime addedAt;
+
+    public static ClientDTO fromEntity(TrainerClient entity) {
+        User client = entity.getClient();
+        ClientDTO dto = new ClientDTO();
+        dto.setId(client.getId());
+        dto.setUsername(client.getUsername());
+        dto.setEmail(client.getEmail());
+        dto.setFirstName(client.getFirstName());
+        dto.setLastName(client.getLastName());
+        dto.setAddedAt(entity.getCreatedAt());
+        return dto;
+    }
+}
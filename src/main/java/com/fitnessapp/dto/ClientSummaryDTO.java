@@ -0,0 +1,26 @@
+package com.fitnessapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientSummaryDTO {
+    private Long clientId;
+    private String username;
+    private String firstName;
+    private String lastName;
+    private Long lastWorkoutId;
+    private String lastWorkoutName;
+    private LocalDateTime lastWorkoutCompletedAt;
+    private Integer lastWorkoutDurationMinutes;
+    private long sessionsThisWeek;
+    private List<GoalSummaryDTO> activeGoals = new ArrayList<>();
+    private ProgressSnapshotDTO latestProgress;
+}
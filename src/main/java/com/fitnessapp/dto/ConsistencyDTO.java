@@ -0,0 +1,25 @@
+package com.fitnessapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConsistencyDTO {
+    private LocalDate lastActiveDate;
+    private int currentStreak;
+    private int longestStreak;
+    private int totalActiveDays;
+    private LocalDate windowStart;
+    private LocalDate windowEnd;
+    private List<LocalDate> activeDays;
+    private long scheduledThisWeek;
+    private long completedScheduledThisWeek;
+    private Double weeklyAdherence;
+    private long missedSessions;
+}
@@ -0,0 +1,35 @@
+package com.fitnessapp.dto;
+
+import com.fitnessapp.entity.Goal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class GoalSummaryDTO {
+    private Long id;
+    private String title;
+    private Goal.GoalType type;
+    private Goal.GoalStatus status;
+    private Double targetValue;
+    private Double currentValue;
+    private String unit;
+    private LocalDate targetDate;
+
+    public static GoalSummaryDTO fromEntity(Goal entity) {
+        GoalSummaryDTO dto = new GoalSummaryDTO();
+        dto.setId(entity.getId());
+        dto.setTitle(entity.getTitle());
+        dto.setType(entity.getType());
+        dto.setStatus(entity.getStatus());
+        dto.setTargetValue(entity.getTargetValue());
+        dto.setCurrentValue(entity.getCurrentValue());
+        dto.setUnit(entity.getUnit());
+        dto.setTargetDate(entity.getTargetDate());
+        return dto;
+    }
+}
@@ -0,0 +1,15 @@
+package com.fitnessapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryDTO {
+    private int rank;
+    private Long userId;
+    private String username;
+    private Double score;
+}
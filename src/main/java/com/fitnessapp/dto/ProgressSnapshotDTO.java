@@ -0,0 +1,31 @@
+package com.fitnessapp.dto;
+
+import com.fitnessapp.entity.UserProgress;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgressSnapshotDTO {
+    private Long id;
+    private LocalDate measurementDate;
+    private Double weightKg;
+    private Double bodyFatPercentage;
+    private Double muscleMassKg;
+    private Integer restingHeartRate;
+
+    public static ProgressSnapshotDTO fromEntity(UserProgress entity) {
+        ProgressSnapshotDTO dto = new ProgressSnapshotDTO();
+        dto.setId(entity.getId());
+        dto.setMeasurementDate(entity.getMeasurementDate());
+        dto.setWeightKg(entity.getWeightKg());
+        dto.setBodyFatPercentage(entity.getBodyFatPercentage());
+        dto.setMuscleMassKg(entity.getMuscleMassKg());
+        dto.setRestingHeartRate(entity.getRestingHeartRate());
+        return dto;
+    }
+}
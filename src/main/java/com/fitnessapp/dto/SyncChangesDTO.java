@@ -0,0 +1,32 @@
+package com.fitnessapp.dto;
+
+import com.fitnessapp.entity.ExerciseSet;
+import com.fitnessapp.entity.Goal;
+import com.fitnessapp.entity.SyncTombstone;
+import com.fitnessapp.entity.UserProgress;
+import com.fitnessapp.entity.Workout;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Rows changed since the client's token. Pass {@code token} back as {@code since} on the next call; while
+ * {@code hasMore} is set, call again straight away. {@code fullResync} means the token was too old to trust the
+ * deletions, so the client should drop its local copy and apply this response as a fresh snapshot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncChangesDTO {
+    private String token;
+    private boolean hasMore;
+    private boolean fullResync;
+    private List<Workout> workouts;
+    private List<WorkoutExerciseDTO> workoutExercises;
+    private List<ExerciseSet> exerciseSets;
+    private List<Goal> goals;
+    private List<UserProgress> progress;
+    private List<SyncTombstone> deleted;
+}
@@ -0,0 +1,16 @@
+package com.fitnessapp.dto;
+
+import com.fitnessapp.dto.request.sync.SyncOperationRequest;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncOperationResultDTO {
+    private int index;
+    private SyncOperationRequest.Type type;
+    private Long entityId;
+    private String clientRef;
+}
@@ -0,0 +1,18 @@
+package com.fitnessapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateAssignmentDTO {
+    private String assignmentId;
+    private Long templateId;
+    private LocalDateTime scheduledDate;
+    private int workoutsCreated;
+    private int exercisesCreated;
+}
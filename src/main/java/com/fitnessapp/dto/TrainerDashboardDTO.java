@@ -0,0 +1,20 @@
+package com.fitnessapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerDashboardDTO {
+    private LocalDate weekStart;
+    private LocalDateTime generatedAt;
+    private int clientCount;
+    private int activeThisWeek;
+    private List<ClientSummaryDTO> clients;
+}
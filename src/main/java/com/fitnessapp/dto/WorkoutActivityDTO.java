@@ -0,0 +1,40 @@
+package com.fitnessapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WorkoutActivityDTO {
+
+    public enum Type {
+        WORKOUT_STARTED, WORKOUT_COMPLETED,
+        EXERCISE_STARTED, EXERCISE_COMPLETED,
+        SET_LOGGED, SET_COMPLETED,
+        REST_TIMER
+    }
+
+    private Type type;
+    private Long workoutId;
+    private String workoutStatus;
+    private Long workoutExerciseId;
+    private String exerciseStatus;
+    private Long setId;
+    private Integer setNumber;
+    private String setStatus;
+    private Integer actualReps;
+    private Double actualWeight;
+    private Integer restSeconds;
+    private LocalDateTime restEndsAt;
+    private LocalDateTime occurredAt;
+
+    public WorkoutActivityDTO(Type type, Long workoutId) {
+        this.type = type;
+        this.workoutId = workoutId;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
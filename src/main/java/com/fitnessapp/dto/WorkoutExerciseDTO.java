@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class WorkoutExerciseDTO {
     private Long id;
+    private Long workoutId;
     private Integer orderIndex;
     private Integer plannedSets;
     private Integer plannedReps;
@@ -20,6 +21,7 @@ public class WorkoutExerciseDTO {
     private Double plannedDistanceMeters;
     private Integer restTimeSeconds;
     private String status;
+    private Integer completedSets;
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
     private String notes;
@@ -30,6 +32,7 @@ public class WorkoutExerciseDTO {
     public static WorkoutExerciseDTO fromEntity(WorkoutExercise entity) {
         WorkoutExerciseDTO dto = new WorkoutExerciseDTO();
         dto.setId(entity.getId());
+        dto.setWorkoutId(entity.getWorkout() == null ? null : entity.getWorkout().getId());
         dto.setOrderIndex(entity.getOrderIndex());
         dto.setPlannedSets(entity.getPlannedSets());
         dto.setPlannedReps(entity.getPlannedReps());
@@ -38,6 +41,7 @@ public class WorkoutExerciseDTO {
         dto.setPlannedDistanceMeters(entity.getPlannedDistanceMeters());
         dto.setRestTimeSeconds(entity.getRestTimeSeconds());
         dto.setStatus(entity.getStatus().name());
+        dto.setCompletedSets(entity.getCompletedSets());
         dto.setStartedAt(entity.getStartedAt());
         dto.setCompletedAt(entity.getCompletedAt());
         dto.setNotes(entity.getNotes());
@@ -0,0 +1,38 @@
+package com.fitnessapp.dto.request.program;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateTrainingProgramRequest {
+
+    @NotBlank(message = "Program name is required")
+    private String name;
+
+    private String description;
+
+    @NotNull(message = "Duration is required")
+    @Min(value = 1, message = "Duration must be at least 1 week")
+    @Max(value = 104, message = "Duration must be at most 104 weeks")
+    private Integer durationWeeks;
+
+    private Double weightIncreasePercentPerWeek;
+
+    private Double weightIncrementPerWeek;
+
+    private Integer repsIncrementPerWeek;
+
+    @NotEmpty(message = "A program needs at least one session")
+    private List<@Valid ProgramSessionRequest> sessions;
+}
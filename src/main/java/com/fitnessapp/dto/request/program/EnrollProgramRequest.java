@@ -0,0 +1,21 @@
+package com.fitnessapp.dto.request.program;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollProgramRequest {
+
+    // Empty or missing means the whole roster
+    private List<Long> clientIds;
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+}
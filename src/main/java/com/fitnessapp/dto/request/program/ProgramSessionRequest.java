@@ -0,0 +1,25 @@
+package com.fitnessapp.dto.request.program;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProgramSessionRequest {
+
+    // Omit to repeat the session every week
+    @Min(value = 1, message = "Week number must be at least 1")
+    private Integer weekNumber;
+
+    @NotNull(message = "Day of week is required")
+    private DayOfWeek dayOfWeek;
+
+    @NotNull(message = "Template id is required")
+    private Long templateId;
+}
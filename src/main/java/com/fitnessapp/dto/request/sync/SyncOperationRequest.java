@@ -0,0 +1,51 @@
+package com.fitnessapp.dto.request.sync;
+
+import com.fitnessapp.entity.ExerciseSet;
+import com.fitnessapp.entity.Goal;
+import com.fitnessapp.entity.UserProgress;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One change recorded while offline. Which fields are required depends on the type; a set logged in the same
+ * upload can be referenced by later operations through its clientRef.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncOperationRequest {
+
+    public enum Type {
+        START_WORKOUT, COMPLETE_WORKOUT, START_EXERCISE, COMPLETE_EXERCISE, LOG_SET, COMPLETE_SET, LOG_PROGRESS, UPDATE_GOAL
+    }
+
+    @NotNull(message = "Operation type is required")
+    private Type type;
+
+    private Long workoutId;
+
+    private Long workoutExerciseId;
+
+    private Long setId;
+
+    private Long goalId;
+
+    @Size(max = 64, message = "Client reference must be at most 64 characters")
+    private String clientRef;
+
+    @Size(max = 64, message = "Set reference must be at most 64 characters")
+    private String setRef;
+
+    @Valid
+    private ExerciseSet set;
+
+    @Valid
+    private UserProgress progress;
+
+    @Valid
+    private Goal goal;
+}
@@ -0,0 +1,19 @@
+package com.fitnessapp.dto.request.template;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignTemplateRequest {
+
+    // Empty or missing means the whole roster
+    private List<Long> clientIds;
+
+    private LocalDateTime scheduledDate;
+}
@@ -0,0 +1,24 @@
+package com.fitnessapp.dto.request.template;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateWorkoutTemplateRequest {
+
+    @NotBlank(message = "Template name is required")
+    private String name;
+
+    private String description;
+
+    @NotEmpty(message = "A template needs at least one exercise")
+    private List<@Valid TemplateExerciseRequest> exercises;
+}
@@ -0,0 +1,37 @@
+package com.fitnessapp.dto.request.template;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateExerciseRequest {
+
+    @NotNull(message = "Exercise id is required")
+    private Long exerciseId;
+
+    @Min(value = 1, message = "Planned sets must be at least 1")
+    private Integer plannedSets;
+
+    @Min(value = 1, message = "Planned reps must be at least 1")
+    private Integer plannedReps;
+
+    @PositiveOrZero(message = "Planned weight must be zero or positive")
+    private Double plannedWeight;
+
+    @PositiveOrZero(message = "Planned duration must be zero or positive")
+    private Integer plannedDurationSeconds;
+
+    @PositiveOrZero(message = "Planned distance must be zero or positive")
+    private Double plannedDistanceMeters;
+
+    @PositiveOrZero(message = "Rest time must be zero or positive")
+    private Integer restTimeSeconds;
+
+    private String notes;
+}
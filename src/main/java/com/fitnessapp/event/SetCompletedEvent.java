@@ -0,0 +1,42 @@
+package com.fitnessapp.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+public class SetCompletedEvent extends ApplicationEvent {
+    private final Long userId;
+    private final Long exerciseId;
+    private final Double weight;
+    private final Integer reps;
+    private final LocalDateTime completedAt;
+
+    public SetCompletedEvent(Object source, Long userId, Long exerciseId, Double weight, Integer reps, LocalDateTime completedAt) {
+        super(source);
+        this.userId = userId;
+        this.exerciseId = exerciseId;
+        this.weight = weight;
+        this.reps = reps;
+        this.completedAt = completedAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getExerciseId() {
+        return exerciseId;
+    }
+
+    public Double getWeight() {
+        return weight;
+    }
+
+    public Integer getReps() {
+        return reps;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
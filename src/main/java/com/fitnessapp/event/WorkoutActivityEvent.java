@@ -0,0 +1,17 @@
+package com.fitnessapp.event;
+
+import com.fitnessapp.dto.WorkoutActivityDTO;
+import org.springframework.context.ApplicationEvent;
+
+public class WorkoutActivityEvent extends ApplicationEvent {
+    private final WorkoutActivityDTO activity;
+
+    public WorkoutActivityEvent(Object source, WorkoutActivityDTO activity) {
+        super(source);
+        this.activity = activity;
+    }
+
+    public WorkoutActivityDTO getActivity() {
+        return activity;
+    }
+}
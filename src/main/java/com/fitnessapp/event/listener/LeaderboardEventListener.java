@@ -0,0 +1,34 @@
+package com.fitnessapp.event.listener;
+
+import com.fitnessapp.event.SetCompletedEvent;
+import com.fitnessapp.event.WorkoutCompletedEvent;
+import com.fitnessapp.repository.UserStreakRepository;
+import com.fitnessapp.service.LeaderboardService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class LeaderboardEventListener {
+
+    private final LeaderboardService leaderboardService;
+    private final UserStreakRepository userStreakRepository;
+
+    public LeaderboardEventListener(LeaderboardService leaderboardService, UserStreakRepository userStreakRepository) {
+        this.leaderboardService = leaderboardService;
+        this.userStreakRepository = userStreakRepository;
+    }
+
+    // After commit, so rolled-back sets never reach the boards
+    @TransactionalEventListener
+    public void handleSetCompleted(SetCompletedEvent event) {
+        leaderboardService.recordCompletedSet(event.getUserId(), event.getExerciseId(),
+                event.getWeight(), event.getReps(), event.getCompletedAt());
+    }
+
+    @TransactionalEventListener
+    public void handleWorkoutCompleted(WorkoutCompletedEvent event) {
+        Long userId = event.getWorkout().getUser().getId();
+        userStreakRepository.findByUserId(userId)
+                .ifPresent(streak -> leaderboardService.recordLongestStreak(userId, streak.getLongestStreak()));
+    }
+}
@@ -0,0 +1,22 @@
+package com.fitnessapp.event.listener;
+
+import com.fitnessapp.event.WorkoutActivityEvent;
+import com.fitnessapp.service.WorkoutEventHub;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class WorkoutStreamEventListener {
+
+    private final WorkoutEventHub workoutEventHub;
+
+    public WorkoutStreamEventListener(WorkoutEventHub workoutEventHub) {
+        this.workoutEventHub = workoutEventHub;
+    }
+
+    // After commit, so subscribers never see a change that was rolled back
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleWorkoutActivity(WorkoutActivityEvent event) {
+        workoutEventHub.publish(event.getActivity());
+    }
+}
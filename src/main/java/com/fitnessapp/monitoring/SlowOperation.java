@@ -0,0 +1,35 @@
+package com.fitnessapp.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Aggregate for one slow transaction (by name) or slow statement (by SQL) as listed by the {@code slowoperations}
+ * actuator endpoint. {@code statements} belongs to the slowest occurrence; {@code plan} is the latest sampled EXPLAIN.
+ */
+public record SlowOperation(String type,
+                            String name,
+                            long count,
+                            long maxMillis,
+                            long totalMillis,
+                            Instant lastSeen,
+                            List<String> statements,
+                            String plan) {
+
+    public static final String TRANSACTION = "transaction";
+    public static final String QUERY = "query";
+
+    static SlowOperation first(String type, String name, long millis, List<String> statements) {
+        return new SlowOperation(type, name, 1, millis, millis, Instant.now(), statements, null);
+    }
+
+    SlowOperation record(long millis, List<String> slowestStatements) {
+        boolean slowest = millis > maxMillis;
+        return new SlowOperation(type, name, count + 1, slowest ? millis : maxMillis, totalMillis + millis,
+                Instant.now(), slowest ? slowestStatements : statements, plan);
+    }
+
+    SlowOperation withPlan(String explained) {
+        return new SlowOperation(type, name, count, maxMillis, totalMillis, lastSeen, statements, explained);
+    }
+}
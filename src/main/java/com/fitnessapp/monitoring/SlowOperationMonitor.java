@@ -0,0 +1,292 @@
+package com.fitnessapp.monitoring;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Finds slow statements and long transactions without logging every statement. Each statement (seen through the
+ * datasource-proxy installed by {@link com.fitnessapp.config.SlowOperationConfig}) is added to the transaction
+ * running on its thread; transactions are tracked through Spring's {@link TransactionExecutionListener}, which Boot
+ * registers on the transaction manager.
+ *
+ * A transaction over the threshold is logged with its statements and their timings, a statement over the threshold
+ * is logged on its own, and both are aggregated for the {@code slowoperations} actuator endpoint. A sample of slow
+ * statements is also EXPLAINed, on a separate connection from a single background thread, so a request never waits
+ * for a plan and never holds a second connection.
+ */
+@Component
+@ConditionalOnProperty(name = "app.slow-operations.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowOperationMonitor implements TransactionExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowOperationMonitor.class);
+
+    private static final int MAX_SQL_LENGTH = 500;
+
+    private final long queryThresholdMillis;
+    private final long transactionThresholdMillis;
+    private final int maxStatements;
+    private final int maxEntries;
+    private final double explainSampleRate;
+    private final ObjectProvider<DataSource> dataSource;
+    private final Cache<String, Boolean> recentlyExplained;
+    private final ExecutorService explainExecutor;
+    private final Map<String, SlowOperation> operations = new ConcurrentHashMap<>();
+    private final ThreadLocal<Deque<TransactionRecord>> transactions = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public SlowOperationMonitor(@Value("${app.slow-operations.query-threshold:200ms}") Duration queryThreshold,
+                                @Value("${app.slow-operations.transaction-threshold:1s}") Duration transactionThreshold,
+                                @Value("${app.slow-operations.max-statements:50}") int maxStatements,
+                                @Value("${app.slow-operations.max-entries:1000}") int maxEntries,
+                                @Value("${app.slow-operations.explain-sample-rate:0.1}") double explainSampleRate,
+                                @Value("${app.slow-operations.explain-interval:10m}") Duration explainInterval,
+                                ObjectProvider<DataSource> dataSource) {
+        this.queryThresholdMillis = queryThreshold.toMillis();
+        this.transactionThresholdMillis = transactionThreshold.toMillis();
+        this.maxStatements = maxStatements;
+        this.maxEntries = maxEntries;
+        this.explainSampleRate = explainSampleRate;
+        this.dataSource = dataSource;
+        this.recentlyExplained = Caffeine.newBuilder()
+                .expireAfterWrite(explainInterval)
+                .maximumSize(maxEntries)
+                .build();
+        // One plan at a time; while it runs, further slow statements are simply not explained
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(16),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "FitnessApp-Explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    public QueryExecutionListener queryListener() {
+        return new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                if (!queryInfoList.isEmpty()) {
+                    onStatement(execInfo, queryInfoList);
+                }
+            }
+        };
+    }
+
+    /**
+     * The slowest operations first, at most {@code limit} of them.
+     */
+    public List<SlowOperation> topOperations(int limit) {
+        return operations.values().stream()
+                .sorted(Comparator.comparingLong(SlowOperation::maxMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        operations.clear();
+        recentlyExplained.invalidateAll();
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null) {
+            transactions.get().push(new TransactionRecord(transaction, System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        complete(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        complete(transaction);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void onStatement(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String query = queryInfoList.get(0).getQuery();
+        String sql = truncate(query);
+        long millis = execInfo.getElapsedTime();
+        TransactionRecord current = transactions.get().peek();
+        if (current != null) {
+            current.add(millis, queryInfoList.size() > 1 ? sql + " [+" + (queryInfoList.size() - 1) + " more]" : sql);
+        }
+        if (millis < queryThresholdMillis || isExplain(sql)) {
+            return;
+        }
+        logger.warn("Slow statement took {} ms{}: {}", millis,
+                current != null ? " in transaction " + current.name() : "", sql);
+        record(SlowOperation.QUERY, sql, millis, List.of());
+        if (queryInfoList.size() == 1 && isExplainable(sql) && shouldExplain(sql)) {
+            List<ParameterSetOperation> parameters = queryInfoList.get(0).getParametersList().isEmpty()
+                    ? List.of() : List.copyOf(queryInfoList.get(0).getParametersList().get(0));
+            explainExecutor.execute(() -> explain(query, sql, parameters));
+        }
+    }
+
+    private void complete(TransactionExecution transaction) {
+        Deque<TransactionRecord> stack = transactions.get();
+        TransactionRecord record = null;
+        for (Iterator<TransactionRecord> it = stack.iterator(); it.hasNext(); ) {
+            TransactionRecord candidate = it.next();
+            if (candidate.transaction() == transaction) {
+                record = candidate;
+                it.remove();
+                break;
+            }
+        }
+        if (stack.isEmpty()) {
+            transactions.remove();
+        }
+        if (record == null) {
+            return;
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - record.startNanos());
+        if (millis < transactionThresholdMillis) {
+            return;
+        }
+        List<String> statements = record.statements();
+        logger.warn("Slow transaction {} took {} ms ({} statements, {} ms in SQL):{}", record.name(), millis,
+                record.statementCount(), record.statementMillis(),
+                statements.isEmpty() ? " no statements" : "\n    " + String.join("\n    ", statements));
+        record(SlowOperation.TRANSACTION, record.name(), millis, statements);
+    }
+
+    private void record(String type, String name, long millis, List<String> statements) {
+        String key = type + ":" + name;
+        if (operations.size() >= maxEntries && !operations.containsKey(key)) {
+            return;
+        }
+        operations.compute(key, (k, previous) -> previous == null
+                ? SlowOperation.first(type, name, millis, statements)
+                : previous.record(millis, statements));
+    }
+
+    private boolean shouldExplain(String sql) {
+        if (ThreadLocalRandom.current().nextDouble() >= explainSampleRate) {
+            return false;
+        }
+        return recentlyExplained.asMap().putIfAbsent(sql, Boolean.TRUE) == null;
+    }
+
+    // Plans with the statement's own parameters; EXPLAIN without ANALYZE does not run the statement
+    private void explain(String query, String sql, List<ParameterSetOperation> parameters) {
+        List<String> plan = new ArrayList<>();
+        try (Connection connection = dataSource.getObject().getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query)) {
+            for (ParameterSetOperation parameter : parameters) {
+                parameter.getMethod().invoke(statement, parameter.getArgs());
+            }
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    plan.add(rows.getString(1));
+                }
+            }
+        } catch (Exception e) {
+            logger.debug("Could not explain slow statement {}", sql, e);
+            return;
+        }
+        String explained = String.join("\n", plan);
+        logger.info("Plan for slow statement {}:\n{}", sql, explained);
+        operations.computeIfPresent(SlowOperation.QUERY + ":" + sql, (k, operation) -> operation.withPlan(explained));
+    }
+
+    private static boolean isExplainable(String sql) {
+        String verb = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return verb.startsWith("select") || verb.startsWith("with") || verb.startsWith("update")
+                || verb.startsWith("delete");
+    }
+
+    private static boolean isExplain(String sql) {
+        return sql.stripLeading().regionMatches(true, 0, "explain", 0, 7);
+    }
+
+    private static String truncate(String sql) {
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    private final class TransactionRecord {
+
+        private final TransactionExecution transaction;
+        private final long startNanos;
+        private final List<String> statements = new ArrayList<>();
+        private int statementCount;
+        private long statementMillis;
+
+        private TransactionRecord(TransactionExecution transaction, long startNanos) {
+            this.transaction = transaction;
+            this.startNanos = startNanos;
+        }
+
+        void add(long millis, String sql) {
+            statementCount++;
+            statementMillis += millis;
+            if (statements.size() < maxStatements) {
+                statements.add(millis + " ms  " + sql);
+            }
+        }
+
+        TransactionExecution transaction() {
+            return transaction;
+        }
+
+        long startNanos() {
+            return startNanos;
+        }
+
+        String name() {
+            String name = transaction.getTransactionName();
+            return name == null || name.isEmpty() ? "unnamed" : name;
+        }
+
+        int statementCount() {
+            return statementCount;
+        }
+
+        long statementMillis() {
+            return statementMillis;
+        }
+
+        List<String> statements() {
+            return statementCount > statements.size()
+                    ? append(statements, "... " + (statementCount - statements.size()) + " more")
+                    : List.copyOf(statements);
+        }
+
+        private static List<String> append(List<String> statements, String last) {
+            List<String> copy = new ArrayList<>(statements);
+            copy.add(last);
+            return List.copyOf(copy);
+        }
+    }
+}
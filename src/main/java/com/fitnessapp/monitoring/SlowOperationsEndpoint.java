@@ -0,0 +1,38 @@
+package com.fitnessapp.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@code GET /actuator/slowoperations?limit=N} lists the slowest transactions and statements seen since startup (or
+ * the last {@code DELETE}), slowest first.
+ */
+@Component
+@Endpoint(id = "slowoperations")
+@ConditionalOnBean(SlowOperationMonitor.class)
+public class SlowOperationsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowOperationMonitor monitor;
+
+    public SlowOperationsEndpoint(SlowOperationMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @ReadOperation
+    public List<SlowOperation> slowOperations(@Nullable Integer limit) {
+        return monitor.topOperations(limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        monitor.reset();
+    }
+}
@@ -4,6 +4,7 @@ import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.observation.annotation.Observed;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -13,6 +14,9 @@ import java.util.Date;
 @Service
 public class JwtService {
 
+    // Both run on every authenticated request (JwtAuthenticationFilter); the method tag tells them apart
+    public static final String VERIFICATION_METRIC = "fitnessapp.jwt.verification";
+
     @Value("${jwt.secret:mySecretKey123456789012345678901234567890}")
     private String secret;
 
@@ -32,11 +36,13 @@ public class JwtService {
                 .compact();
     }
 
+    @Observed(name = VERIFICATION_METRIC)
     public String extractUsername(String token) {
         Claims claims = extractAllClaims(token);
         return claims.getSubject();
     }
 
+    @Observed(name = VERIFICATION_METRIC)
     public boolean isTokenValid(String token, String username) {
         String extractedUsername = extractUsername(token);
         return extractedUsername.equals(username) && !isTokenExpired(token);
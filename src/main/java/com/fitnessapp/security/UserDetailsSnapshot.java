@@ -0,0 +1,68 @@
+package com.fitnessapp.security;
+
+import com.fitnessapp.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable copy of a user's security attributes, safe to share across requests from the userDetails cache.
+ * Deliberately not a CredentialsContainer: ProviderManager would otherwise erase the password of the cached
+ * instance after a successful login.
+ */
+public record UserDetailsSnapshot(String username, String password, List<GrantedAuthority> authorities,
+                                  boolean accountNonExpired, boolean accountNonLocked,
+                                  boolean credentialsNonExpired, boolean enabled) implements UserDetails {
+
+    public UserDetailsSnapshot {
+        authorities = List.copyOf(authorities);
+    }
+
+    public static UserDetailsSnapshot of(User user) {
+        return new UserDetailsSnapshot(user.getUsername(), user.getPassword(), List.copyOf(user.getAuthorities()),
+                user.isAccountNonExpired(), user.isAccountNonLocked(), user.isCredentialsNonExpired(), user.isEnabled());
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return accountNonExpired;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return accountNonLocked;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return credentialsNonExpired;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Keeps the password hash out of logs
+    @Override
+    public String toString() {
+        return "UserDetailsSnapshot[username=" + username + ", authorities=" + authorities + ", enabled=" + enabled + "]";
+    }
+}
@@ -0,0 +1,194 @@
+package com.fitnessapp.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Thread-safe sorted scoreboard (highest score first, ties by lowest member id).
+ * Backed by a size-augmented treap so updates, rank lookups and top-N are O(log n).
+ */
+public class RankedScoreboard {
+
+    private final Map<Long, Double> scores = new HashMap<>();
+    private Node root;
+
+    public synchronized void put(long member, double score) {
+        Double previous = scores.put(member, score);
+        if (previous != null) {
+            root = erase(root, previous, member);
+        }
+        root = insert(root, new Node(score, member));
+    }
+
+    public synchronized void putIfHigher(long member, double score) {
+        Double previous = scores.get(member);
+        if (previous == null || score > previous) {
+            put(member, score);
+        }
+    }
+
+    public synchronized void increment(long member, double delta) {
+        Double previous = scores.get(member);
+        put(member, previous == null ? delta : previous + delta);
+    }
+
+    /**
+     * Takes the member off the board; returns false if it was not on it.
+     */
+    public synchronized boolean remove(long member) {
+        Double previous = scores.remove(member);
+        if (previous == null) {
+            return false;
+        }
+        root = erase(root, previous, member);
+        return true;
+    }
+
+    public synchronized Double score(long member) {
+        return scores.get(member);
+    }
+
+    /**
+     * 1-based rank of the member, or 0 if the member is not on the board.
+     */
+    public synchronized int rank(long member) {
+        Double score = scores.get(member);
+        if (score == null) {
+            return 0;
+        }
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(score, member, node);
+            if (cmp == 0) {
+                return before + size(node.left) + 1;
+            } else if (cmp < 0) {
+                node = node.left;
+            } else {
+                before += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Highest-ranked entries as [member, score] pairs, best first.
+     */
+    public synchronized List<Map.Entry<Long, Double>> top(int limit) {
+        List<Map.Entry<Long, Double>> result = new ArrayList<>(Math.min(limit, scores.size()));
+        Deque<Node> stack = new ArrayDeque<>();
+        Node node = root;
+        while ((node != null || !stack.isEmpty()) && result.size() < limit) {
+            while (node != null) {
+                stack.push(node);
+                node = node.left;
+            }
+            node = stack.pop();
+            result.add(Map.entry(node.member, node.score));
+            node = node.right;
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return scores.size();
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            Node[] parts = split(node, added.score, added.member);
+            added.left = parts[0];
+            added.right = parts[1];
+            return update(added);
+        }
+        if (compare(added.score, added.member, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return update(node);
+    }
+
+    private static Node erase(Node node, double score, long member) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(score, member, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = erase(node.left, score, member);
+        } else {
+            node.right = erase(node.right, score, member);
+        }
+        return update(node);
+    }
+
+    // Splits into nodes ordered before the key and nodes at or after it
+    private static Node[] split(Node node, double score, long member) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(score, member, node) > 0) {
+            Node[] parts = split(node.right, score, member);
+            node.right = parts[0];
+            return new Node[]{update(node), parts[1]};
+        }
+        Node[] parts = split(node.left, score, member);
+        node.left = parts[1];
+        return new Node[]{parts[0], update(node)};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static int compare(double score, long member, Node node) {
+        int byScore = Double.compare(node.score, score);
+        return byScore != 0 ? byScore : Long.compare(member, node.member);
+    }
+
+    private static Node update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node {
+        private final double score;
+        private final long member;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(double score, long member) {
+            this.score = score;
+            this.member = member;
+        }
+    }
+}
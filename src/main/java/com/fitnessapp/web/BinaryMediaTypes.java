@@ -0,0 +1,75 @@
+package com.fitnessapp.web;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * The compact encodings offered next to JSON, and the ETag bookkeeping that comes with them: a cached JSON body and a
+ * cached CBOR body of the same version are different representations, so they must not share a validator.
+ */
+public final class BinaryMediaTypes {
+
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private BinaryMediaTypes() {
+    }
+
+    /**
+     * Suffixes {@code etag} with the binary encoding the request asks for, if any, mirroring how content negotiation
+     * picks the converter: highest quality first, an explicit type beating a wildcard of the same quality, and the
+     * earlier entry winning between explicit types. Wildcards resolve to JSON.
+     */
+    public static String variantETag(String etag, WebRequest request) {
+        String suffix = switch (preferred(request.getHeader(HttpHeaders.ACCEPT))) {
+            case "cbor" -> "-cbor";
+            case "smile" -> "-smile";
+            default -> "";
+        };
+        if (suffix.isEmpty() || etag == null || !etag.endsWith("\"")) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + suffix + "\"";
+    }
+
+    private static String preferred(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return "json";
+        }
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            // Content negotiation rejects it with 406 anyway
+            return "json";
+        }
+        String best = "json";
+        double bestQuality = 0;
+        boolean bestIsWildcard = false;
+        for (MediaType mediaType : mediaTypes) {
+            double quality = mediaType.getQualityValue();
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+                // A wildcard stands for JSON and only beats an explicit type on quality
+                if (quality > bestQuality) {
+                    best = "json";
+                    bestQuality = quality;
+                    bestIsWildcard = true;
+                }
+                continue;
+            }
+            String format = mediaType.equalsTypeAndSubtype(CBOR) ? "cbor"
+                    : mediaType.equalsTypeAndSubtype(SMILE) ? "smile"
+                    : MediaType.APPLICATION_JSON.isCompatibleWith(mediaType) ? "json" : null;
+            if (format != null && (quality > bestQuality || (quality == bestQuality && bestIsWildcard))) {
+                best = format;
+                bestQuality = quality;
+                bestIsWildcard = false;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,87 @@
+package com.fitnessapp.web;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.MappedSuperclass;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes JSON responses whose declared type can never contain a JPA entity with the Hibernate-free mapper.
+ *
+ * Sits in front of the default Jackson converter and declines everything else (entities, DTOs embedding entities,
+ * {@code Object}/{@code Map<String, Object>} bodies), which then go through the primary mapper as before. Never used
+ * for reading. The verdict per declared type is computed once from Jackson's own property introspection.
+ */
+public class DtoJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final Map<Type, Boolean> entityFree = new ConcurrentHashMap<>();
+
+    public DtoJsonHttpMessageConverter(ObjectMapper dtoObjectMapper) {
+        super(dtoObjectMapper);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return canWrite(clazz, clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        // Actuator hands over ResolvableType.NONE for operations without a declared return type
+        Type declared = type != null && ResolvableType.forType(type).resolve() != null ? type : clazz;
+        return isEntityFree(declared) && super.canWrite(clazz, mediaType);
+    }
+
+    boolean isEntityFree(Type type) {
+        return entityFree.computeIfAbsent(type, t -> isEntityFree(getObjectMapper().constructType(t), new HashSet<>()));
+    }
+
+    private boolean isEntityFree(JavaType type, Set<Class<?>> visited) {
+        Class<?> raw = type.getRawClass();
+        if (raw == Object.class || raw.isAnnotationPresent(Entity.class)
+                || raw.isAnnotationPresent(Embeddable.class) || raw.isAnnotationPresent(MappedSuperclass.class)) {
+            return false;
+        }
+        if (type.isContainerType() || type.isReferenceType()) {
+            return (type.getKeyType() == null || isEntityFree(type.getKeyType(), visited))
+                    && isEntityFree(type.getContentType(), visited);
+        }
+        if (raw.isPrimitive() || raw.isEnum() || raw.getName().startsWith("java.") || !visited.add(raw)) {
+            return true;
+        }
+        for (int i = 0; i < type.containedTypeCount(); i++) {
+            if (!isEntityFree(type.containedType(i), visited)) {
+                return false;
+            }
+        }
+        BeanDescription bean = getObjectMapper().getSerializationConfig().introspect(type);
+        for (BeanPropertyDefinition property : bean.findProperties()) {
+            if (property.couldSerialize() && !isEntityFree(property.getPrimaryType(), visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
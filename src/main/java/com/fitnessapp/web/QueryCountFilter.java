@@ -0,0 +1,106 @@
+package com.fitnessapp.web;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Counts the JDBC statements each request issues (through the datasource-proxy installed by
+ * {@link com.fitnessapp.config.QueryCountConfig}), records them per endpoint as {@value #METRIC_NAME} and reports them
+ * in the {@value #QUERY_COUNT_HEADER} response header.
+ *
+ * The body is buffered so statements run while Jackson walks lazy associations still make it into the header.
+ * Event streams are left unbuffered and only show up in the metric. Not registered in the production profile.
+ */
+@Component
+@Profile("!production")
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String METRIC_NAME = "http.server.requests.queries";
+
+    private static final ThreadLocal<int[]> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Adds every executed statement (a JDBC batch counts once per distinct SQL string) to the request running on the
+     * calling thread. Statements from scheduled jobs and async listeners run outside any request and are ignored.
+     */
+    public static QueryExecutionListener listener() {
+        return new QueryExecutionListener() {
+            @Override
+            public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            }
+
+            @Override
+            public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                int[] count = CURRENT_REQUEST.get();
+                if (count != null) {
+                    count[0] += queryInfoList.size();
+                }
+            }
+        };
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        int[] count = new int[1];
+        CURRENT_REQUEST.set(count);
+        ContentCachingResponseWrapper buffered = isEventStream(request) ? null : new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            CURRENT_REQUEST.remove();
+            record(request, response, count[0]);
+        }
+        if (buffered != null) {
+            if (!response.isCommitted()) {
+                response.setIntHeader(QUERY_COUNT_HEADER, count[0]);
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        DistributionSummary.builder(METRIC_NAME)
+                .description("JDBC statements executed per HTTP request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .tag("status", Integer.toString(response.getStatus()))
+                .register(meterRegistry)
+                .record(statements);
+    }
+
+    private static boolean isEventStream(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+}
@@ -0,0 +1,134 @@
+package com.fitnessapp.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The bundled React build, read into memory once at startup so serving a file is a map lookup.
+ *
+ * Pre-built {@code .br} / {@code .gz} siblings (written by the frontend's postbuild step) are picked up as encoded
+ * variants; text files without a {@code .gz} are gzipped here so there is always a compressed variant to send.
+ */
+@Component
+public class StaticAssetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaticAssetIndex.class);
+
+    public static final String INDEX_HTML = "index.html";
+
+    private static final Set<String> COMPRESSIBLE_EXTENSIONS =
+            Set.of("html", "js", "css", "json", "map", "svg", "txt", "xml", "ico", "webmanifest");
+    private static final int MIN_COMPRESS_BYTES = 1024;
+
+    private final Map<String, Asset> assets;
+
+    public StaticAssetIndex(@Value("${app.static-assets.location:classpath:/static/}") String location) throws IOException {
+        this.assets = Map.copyOf(load(location));
+        if (!assets.isEmpty()) {
+            long bytes = assets.values().stream().mapToLong(Asset::footprint).sum();
+            logger.info("Indexed {} static assets ({} KiB in memory) from {}", assets.size(), bytes / 1024, location);
+        }
+    }
+
+    public Asset find(String path) {
+        return assets.get(path);
+    }
+
+    public int size() {
+        return assets.size();
+    }
+
+    /**
+     * One file with its encoded variants. The strong ETag is derived from the uncompressed content and suffixed per
+     * encoding, since each encoding is a different representation.
+     */
+    public record Asset(String path, byte[] identity, byte[] gzip, byte[] brotli, String etag) {
+
+        public String filename() {
+            return path.substring(path.lastIndexOf('/') + 1);
+        }
+
+        public boolean hasVariants() {
+            return gzip != null || brotli != null;
+        }
+
+        long footprint() {
+            return identity.length + (gzip == null ? 0 : gzip.length) + (brotli == null ? 0 : brotli.length);
+        }
+    }
+
+    private static Map<String, Asset> load(String location) throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        Resource root = resolver.getResource(location);
+        if (!root.exists()) {
+            return Map.of();
+        }
+
+        String rootUrl = root.getURL().toString();
+        Map<String, byte[]> files = new HashMap<>();
+        for (Resource resource : resolver.getResources(location + "**")) {
+            String url = resource.getURL().toString();
+            if (!url.startsWith(rootUrl) || url.endsWith("/") || !resource.isReadable()) {
+                continue;
+            }
+            String path = UriUtils.decode(url.substring(rootUrl.length()), StandardCharsets.UTF_8);
+            files.put(path, resource.getContentAsByteArray());
+        }
+
+        Map<String, Asset> assets = new HashMap<>();
+        files.forEach((path, content) -> {
+            if (path.endsWith(".gz") || path.endsWith(".br")) {
+                return;
+            }
+            byte[] gzip = files.get(path + ".gz");
+            if (gzip == null && content.length >= MIN_COMPRESS_BYTES && COMPRESSIBLE_EXTENSIONS.contains(extension(path))) {
+                gzip = gzip(content);
+            }
+            if (gzip != null && gzip.length >= content.length) {
+                gzip = null;
+            }
+            assets.put(path, new Asset(path, content, gzip, files.get(path + ".br"), digest(content)));
+        });
+        return assets;
+    }
+
+    private static String extension(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot < 0 ? "" : path.substring(dot + 1).toLowerCase();
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(content.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to gzip static asset", e);
+        }
+        return output.toByteArray();
+    }
+
+    private static String digest(byte[] content) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.fitnessapp.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+
+/**
+ * Resolves static requests against the in-memory {@link StaticAssetIndex}, picking the best encoded variant the
+ * client accepts. Misses never fall through to the filesystem or classpath.
+ */
+public class StaticAssetResolver extends AbstractResourceResolver {
+
+    private final StaticAssetIndex index;
+    private final String pathPrefix;
+    private final boolean spaFallback;
+
+    /**
+     * @param pathPrefix  prepended to the handler-relative path to get the path inside the build directory
+     * @param spaFallback serve index.html for unknown non-API paths, so client-side routes survive a reload
+     */
+    public StaticAssetResolver(StaticAssetIndex index, String pathPrefix, boolean spaFallback) {
+        this.index = index;
+        this.pathPrefix = pathPrefix;
+        this.spaFallback = spaFallback;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        StaticAssetIndex.Asset asset = index.find(pathPrefix + requestPath);
+        if (asset == null && spaFallback && !requestPath.startsWith("api/")) {
+            asset = index.find(StaticAssetIndex.INDEX_HTML);
+        }
+        if (asset == null) {
+            return null;
+        }
+        return AssetResource.of(asset, request == null ? null : request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return index.find(pathPrefix + resourceUrlPath) != null ? resourceUrlPath : null;
+    }
+
+    // For ResourceHandlerRegistration.setEtagGenerator
+    public static String etagOf(Resource resource) {
+        return resource instanceof AssetResource assetResource ? assetResource.etag : null;
+    }
+
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(coding)) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    static final class AssetResource extends ByteArrayResource implements HttpResource {
+
+        private final String filename;
+        private final String encoding;
+        private final String etag;
+        private final boolean vary;
+
+        private AssetResource(byte[] content, String filename, String encoding, String etag, boolean vary) {
+            super(content);
+            this.filename = filename;
+            this.encoding = encoding;
+            this.etag = etag;
+            this.vary = vary;
+        }
+
+        static AssetResource of(StaticAssetIndex.Asset asset, String acceptEncoding) {
+            if (asset.brotli() != null && accepts(acceptEncoding, "br")) {
+                return new AssetResource(asset.brotli(), asset.filename(), "br", asset.etag() + "-br", true);
+            }
+            if (asset.gzip() != null && accepts(acceptEncoding, "gzip")) {
+                return new AssetResource(asset.gzip(), asset.filename(), "gzip", asset.etag() + "-gz", true);
+            }
+            return new AssetResource(asset.identity(), asset.filename(), null, asset.etag(), asset.hasVariants());
+        }
+
+        // Drives Content-Type detection in ResourceHttpRequestHandler
+        @Override
+        public String getFilename() {
+            return filename;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (encoding != null) {
+                headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+            }
+            if (vary) {
+                headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            return headers;
+        }
+
+        @Override
+        public String getDescription() {
+            return "Static asset [" + filename + (encoding == null ? "" : ", " + encoding) + "]";
+        }
+    }
+}
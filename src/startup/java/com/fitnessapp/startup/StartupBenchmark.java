@@ -0,0 +1,233 @@
+package com.fitnessapp.startup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long a new instance takes to serve traffic: from launching the JVM until the readiness probe
+ * ({@code /actuator/health/readiness}) reports UP, and until the first {@code GET /api/exercises} after that has
+ * answered. Each mode adds one startup optimisation to the previous one:
+ *
+ * <ol>
+ *     <li>default: the packaged app as it starts today, schema updated by Hibernate;</li>
+ *     <li>fast-startup profile: schema validated instead of updated;</li>
+ *     <li>AOT: the bean definitions generated by {@code process-aot} ({@code -Dspring.aot.enabled=true});</li>
+ *     <li>CDS: a class data sharing archive recorded by a training run.</li>
+ * </ol>
+ *
+ * The app runs from the extracted jar (CDS cannot map classes out of nested jars) against an H2 file database in
+ * PostgreSQL mode, taken from this benchmark's own classpath. A warm-up run creates the schema and applies the data
+ * seeds, so every measured run starts on an existing database like a scaled-out instance would. Run through the
+ * {@code startup} Maven profile; the report is written to {@code report.txt} in the work directory.
+ */
+public class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    record Settings(Path jar, Path workDir, int runs) {
+
+        static Settings fromSystemProperties() {
+            return new Settings(
+                    Path.of(System.getProperty("startup.jar")),
+                    Path.of(System.getProperty("startup.work-dir", "target/startup")),
+                    Integer.getInteger("startup.runs", 5));
+        }
+    }
+
+    record Mode(String name, List<String> jvmArgs, String profiles) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        Path workDir = settings.workDir().toAbsolutePath();
+        deleteRecursively(workDir);
+        Files.createDirectories(workDir.resolve("logs"));
+
+        Path application = extract(settings.jar(), workDir.resolve("application"));
+        String classpath = application + File.pathSeparator + h2Jar();
+        Path archive = workDir.resolve("application.jsa");
+
+        List<Mode> modes = List.of(
+                new Mode("default", List.of(), "production"),
+                new Mode("+ fast-startup profile", List.of(), "production,fast-startup"),
+                new Mode("+ AOT", List.of("-Dspring.aot.enabled=true"), "production,fast-startup"),
+                new Mode("+ CDS", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + archive, "-Xlog:cds=off"),
+                        "production,fast-startup"));
+
+        System.out.println("Warm-up run: creating the schema and applying data seeds");
+        timeToFirstRequest(workDir, classpath, modes.get(0), "warmup");
+
+        System.out.println("Training run: recording the CDS archive");
+        Mode training = new Mode("training",
+                List.of("-Dspring.aot.enabled=true", "-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh"),
+                "production,fast-startup");
+        run(workDir, classpath, training, "training", freePort(), freePort()).waitFor();
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("Training run did not write " + archive + ", see logs/training.log");
+        }
+
+        List<long[][]> results = new ArrayList<>();
+        for (Mode mode : modes) {
+            long[] ready = new long[settings.runs()];
+            long[] firstRequest = new long[settings.runs()];
+            for (int i = 0; i < settings.runs(); i++) {
+                long[] millis = timeToFirstRequest(workDir, classpath, mode, slug(mode.name()) + "-" + i);
+                ready[i] = millis[0];
+                firstRequest[i] = millis[1];
+            }
+            Arrays.sort(ready);
+            Arrays.sort(firstRequest);
+            results.add(new long[][] {ready, firstRequest});
+            System.out.printf("%-24s first request median %6d ms%n", mode.name(), median(firstRequest));
+        }
+
+        try (PrintStream file = new PrintStream(Files.newOutputStream(workDir.resolve("report.txt")))) {
+            for (PrintStream out : List.of(System.out, file)) {
+                out.printf("%nStartup, %d runs per mode (%s)%n", settings.runs(), Runtime.version());
+                out.printf("%-24s %9s %15s %8s %8s%n", "Mode", "Ready ms", "1st request ms", "Min", "Max");
+                for (int m = 0; m < modes.size(); m++) {
+                    long[] ready = results.get(m)[0];
+                    long[] firstRequest = results.get(m)[1];
+                    out.printf("%-24s %9d %15d %8d %8d%n", modes.get(m).name(), median(ready), median(firstRequest),
+                            firstRequest[0], firstRequest[firstRequest.length - 1]);
+                }
+                out.println("(medians; min and max are for the first request)");
+            }
+        }
+        System.out.println("Report: " + workDir.resolve("report.txt"));
+    }
+
+    // Milliseconds from launch until ready, and until the first request after that was answered
+    private static long[] timeToFirstRequest(Path workDir, String classpath, Mode mode, String runName) throws Exception {
+        int port = freePort();
+        int managementPort = freePort();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        // Actuator, and with it the readiness probe, listens on the management port
+        URI readiness = URI.create("http://localhost:" + managementPort + "/actuator/health/readiness");
+        URI exercises = URI.create("http://localhost:" + port + "/api/exercises");
+
+        long start = System.nanoTime();
+        Process process = run(workDir, classpath, mode, runName, port, managementPort);
+        try {
+            while (System.nanoTime() - start < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(runName + " exited with " + process.exitValue()
+                            + ", see logs/" + runName + ".log");
+                }
+                try {
+                    if (get(client, readiness) == 200) {
+                        long ready = System.nanoTime();
+                        if (get(client, exercises) != 200) {
+                            throw new IllegalStateException(runName + ": GET /api/exercises failed, see logs/" + runName + ".log");
+                        }
+                        return new long[] {
+                                TimeUnit.NANOSECONDS.toMillis(ready - start),
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)};
+                    }
+                } catch (IOException e) {
+                    // Not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(runName + " was not ready within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int get(HttpClient client, URI uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static Process run(Path workDir, String classpath, Mode mode, String runName, int port, int managementPort)
+            throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(javaExecutable());
+        command.addAll(mode.jvmArgs());
+        command.addAll(List.of("-cp", classpath, "com.fitnessapp.FitnessAppApplication",
+                "--server.port=" + port,
+                "--management.server.port=" + managementPort,
+                "--spring.profiles.active=" + mode.profiles(),
+                "--spring.datasource.url=jdbc:h2:file:" + workDir.resolve("db/fitnessdb")
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--jwt.secret=startup-benchmark-secret-key-that-is-long-enough-for-hmac-sha256",
+                "--EMAIL_FROM=startup@example.com",
+                "--LOG_LEVEL=WARN",
+                "--logging.level.root=WARN"));
+        Path log = workDir.resolve("logs").resolve(runName + ".log");
+        return new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    // Unpacks the Boot jar into an application jar plus lib/, referenced from its manifest
+    private static Path extract(Path jar, Path destination) throws Exception {
+        Process process = new ProcessBuilder(javaExecutable(), "-Djarmode=tools", "-jar", jar.toAbsolutePath().toString(),
+                "extract", "--destination", destination.toString())
+                .inheritIO()
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Extracting " + jar + " failed");
+        }
+        return destination.resolve(jar.getFileName());
+    }
+
+    private static String h2Jar() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> Path.of(entry).getFileName().toString().startsWith("h2-"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("H2 is not on the benchmark classpath"));
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] sorted) {
+        return sorted[sorted.length / 2];
+    }
+
+    private static String slug(String modeName) {
+        return modeName.replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "").toLowerCase();
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (var paths = Files.walk(dir)) {
+            for (Path path : paths.sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.fitnessapp.controller;
+
+import com.fitnessapp.repository.DataSeedRepository;
+import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.service.DataSeedingService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DataSeedingIntegrationTest {
+
+    @Autowired
+    private DataSeedingService dataSeedingService;
+
+    @Autowired
+    private DataSeedRepository dataSeedRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void startup_AppliesEverySeedOnce() {
+        assertEquals(Set.of("1", "2", "3"), dataSeedRepository.findAppliedVersions());
+        assertTrue(exerciseRepository.count() >= 49);
+    }
+
+    @Test
+    void laterBoot_OnlyReadsTheSeedHistory() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        dataSeedingService.run();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
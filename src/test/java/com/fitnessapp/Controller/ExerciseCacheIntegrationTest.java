@@ -0,0 +1,145 @@
+package com.fitnessapp.controller;
+
+import com.fitnessapp.entity.Exercise;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.Workout;
+import com.fitnessapp.entity.WorkoutExercise;
+import com.fitnessapp.enums.ExerciseCategory;
+import com.fitnessapp.enums.ExerciseDifficulty;
+import com.fitnessapp.enums.ExerciseEquipment;
+import com.fitnessapp.enums.MuscleGroup;
+import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.service.ExerciseService;
+import com.fitnessapp.service.WorkoutService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Hibernate statistics tell whether an exercise came from the database or from the second-level cache. Each test
+ * warms the cache with a first request and only measures the second.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExerciseCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private ExerciseService exerciseService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private String username;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        username = "cache_" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("not-used");
+        user.setFirstName("Second");
+        user.setLastName("Level");
+        user.setRole(User.Role.ADMIN);
+        userRepository.save(user);
+    }
+
+    @Test
+    void workoutExercises_RenderWithoutLoadingExercises() throws Exception {
+        Workout workout = new Workout();
+        workout.setName("Cached catalog");
+        workout = workoutService.createWorkout(username, workout);
+        List<Exercise> catalog = exerciseRepository.findAll();
+        for (int i = 0; i < 3; i++) {
+            WorkoutExercise planned = new WorkoutExercise();
+            planned.setOrderIndex(i);
+            planned.setPlannedSets(3);
+            workoutService.addExerciseToWorkout(username, workout.getId(), catalog.get(i).getId(), planned);
+        }
+        mockMvc.perform(get("/api/workouts/{id}/exercises", workout.getId()).with(user(username)))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/workouts/{id}/exercises", workout.getId()).with(user(username)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].exercise.primaryMuscles").isArray());
+
+        assertEquals(0, statistics.getEntityStatistics(Exercise.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getCollectionStatistics(Exercise.class.getName() + ".primaryMuscles").getLoadCount());
+        assertEquals(0, statistics.getCollectionStatistics(Exercise.class.getName() + ".secondaryMuscles").getLoadCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 9, "second-level cache hits: "
+                + statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void exerciseById_ServedFromQueryCache() throws Exception {
+        Long id = exerciseRepository.findAll().get(0).getId();
+        mockMvc.perform(get("/api/exercises/{id}", id).with(user(username))).andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/exercises/{id}", id).with(user(username))).andExpect(status().isOk());
+
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(0, statistics.getEntityStatistics(Exercise.class.getName()).getLoadCount());
+    }
+
+    @Test
+    void updatedExercise_IsNotServedStale() throws Exception {
+        Exercise exercise = exerciseRepository.save(exercise("Cached press", MuscleGroup.SHOULDERS));
+        mockMvc.perform(get("/api/exercises/{id}", exercise.getId()).with(user(username)))
+                .andExpect(jsonPath("$.name").value("Cached press"));
+
+        exerciseService.updateExercise(username, exercise.getId(), exercise("Renamed press", MuscleGroup.TRICEPS));
+
+        mockMvc.perform(get("/api/exercises/{id}", exercise.getId()).with(user(username)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Renamed press"))
+                .andExpect(jsonPath("$.secondaryMuscles[0]").value("TRICEPS"));
+    }
+
+    private static Exercise exercise(String name, MuscleGroup secondary) {
+        Exercise exercise = new Exercise();
+        exercise.setName(name);
+        exercise.setCategory(ExerciseCategory.STRENGTH);
+        exercise.setEquipment(ExerciseEquipment.BARBELL);
+        exercise.setDifficulty(ExerciseDifficulty.INTERMEDIATE);
+        exercise.setPrimaryMuscles(new ArrayList<>(List.of(MuscleGroup.CHEST)));
+        exercise.setSecondaryMuscles(new ArrayList<>(List.of(secondary)));
+        return exercise;
+    }
+}
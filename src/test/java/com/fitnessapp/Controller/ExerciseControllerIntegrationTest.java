@@ -0,0 +1,90 @@
+package com.fitnessapp.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fitnessapp.service.ResourceVersionService;
+import com.fitnessapp.web.BinaryMediaTypes;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExerciseControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    @Test
+    void getAllExercises_MatchingETag_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/exercises"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("public")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/exercises").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getAllExercises_AfterCatalogChange_ReturnsFreshBody() throws Exception {
+        String etag = mockMvc.perform(get("/api/exercises"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        resourceVersionService.catalogChanged();
+
+        mockMvc.perform(get("/api/exercises").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").isArray());
+    }
+
+    @Test
+    void getAllExercises_Cbor_HasOwnETagAndVariesByAccept() throws Exception {
+        String jsonETag = mockMvc.perform(get("/api/exercises"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult cbor = mockMvc.perform(get("/api/exercises").accept(BinaryMediaTypes.CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(BinaryMediaTypes.CBOR))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn();
+        String cborETag = cbor.getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotEquals(jsonETag, cborETag);
+        JsonNode page = new CBORMapper().readTree(cbor.getResponse().getContentAsByteArray());
+        assertTrue(page.get("content").isArray());
+
+        mockMvc.perform(get("/api/exercises").accept(BinaryMediaTypes.CBOR).header(HttpHeaders.IF_NONE_MATCH, cborETag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/exercises").header(HttpHeaders.IF_NONE_MATCH, cborETag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getCategories_MatchingETag_ReturnsNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/exercises/categories"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/exercises/categories").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+    }
+}
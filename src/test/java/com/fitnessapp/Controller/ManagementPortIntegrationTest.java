@@ -0,0 +1,39 @@
+package com.fitnessapp.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Actuator on its own port, as in production: the public port must not serve the unauthenticated scrape endpoint.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class ManagementPortIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void prometheus_IsServedOnlyOnTheManagementPort() {
+        ResponseEntity<String> management = restTemplate.getForEntity(
+                "http://localhost:" + managementPort + "/actuator/prometheus", String.class);
+        assertEquals(HttpStatus.OK, management.getStatusCode());
+        assertTrue(management.getBody().contains("jvm_memory_used_bytes"));
+
+        ResponseEntity<String> application = restTemplate.getForEntity("/actuator/prometheus", String.class);
+        assertEquals(HttpStatus.NOT_FOUND, application.getStatusCode());
+    }
+}
@@ -0,0 +1,85 @@
+package com.fitnessapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+class PrometheusEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void scrape_ExposesApplicationMeters(CapturedOutput output) throws Exception {
+        Map<String, String> credentials = Map.of("username", "scraped", "password", "Scrape!Pass1");
+        mockMvc.perform(post("/api/auth/register").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "username", "scraped",
+                                "email", "scraped@example.com",
+                                "password", "Scrape!Pass1",
+                                "firstName", "Scrape",
+                                "lastName", "Target"))))
+                .andExpect(status().isCreated());
+        String token = objectMapper.readTree(mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(credentials)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).path("token").asText();
+
+        String workout = mockMvc.perform(post("/api/workouts").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("name", "Scraped"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        long workoutId = objectMapper.readTree(workout).path("id").asLong();
+        mockMvc.perform(post("/api/workouts/{id}/start", workoutId).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("fitnessapp_password_hashing_seconds_bucket{application=\"FitnessApp\",operation=\"encode\""),
+                        containsString("fitnessapp_password_hashing_seconds_count{application=\"FitnessApp\",operation=\"matches\""),
+                        containsString("fitnessapp_jwt_verification_seconds_bucket{"),
+                        containsString("transition=\"workout_started\""),
+                        containsString("cache_gets_total{"),
+                        containsString("cache=\"userDetails\""),
+                        // Created on first use (startWorkout evicts it), bound with the same tags as the startup caches
+                        containsString("cache=\"userWorkouts\",cache_manager=\"cacheManager\""),
+                        containsString("cache=\"trainerDashboard\",cache_manager=\"cacheManager\""),
+                        containsString("executor_queued_tasks{"),
+                        containsString("hikaricp_connections_acquire_seconds_bucket{"),
+                        containsString("hikaricp_connections_usage_seconds_bucket{"),
+                        containsString("hibernate_second_level_cache_requests_total{"))));
+
+        // Prometheus logs only the first meter rejected for mismatched tag keys; later ones go to debug
+        assertFalse(output.getAll().contains("registration has failed"));
+    }
+}
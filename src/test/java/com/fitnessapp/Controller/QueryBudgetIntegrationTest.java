@@ -0,0 +1,412 @@
+package com.fitnessapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnessapp.dto.request.auth.ChangePasswordRequest;
+import com.fitnessapp.entity.*;
+import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.service.GoalService;
+import com.fitnessapp.service.UserProgressService;
+import com.fitnessapp.service.WorkoutService;
+import com.fitnessapp.web.QueryCountFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Upper bounds on the JDBC statements behind every workout, user and goal endpoint, read from the
+ * {@link QueryCountFilter#QUERY_COUNT_HEADER} header. A budget that starts failing usually means a lazy association
+ * is now loaded per row (N+1); fix the fetch rather than raising the number.
+ *
+ * Not transactional on purpose: every request commits on its own, so inserts and updates are flushed and counted.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class QueryBudgetIntegrationTest {
+
+    private static final String PASSWORD = "Budget!Pass1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private GoalService goalService;
+
+    @Autowired
+    private UserProgressService userProgressService;
+
+    private String username;
+
+    @BeforeEach
+    void setUp() {
+        username = "budget_" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword(passwordEncoder.encode(PASSWORD));
+        user.setFirstName("Query");
+        user.setLastName("Budget");
+        userRepository.save(user);
+    }
+
+    // ---- WorkoutController ----
+
+    @Test
+    void createWorkout() throws Exception {
+        assertBudget(post("/api/workouts").contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("name", "Push day"))), 2);
+    }
+
+    @Test
+    void getUserWorkouts() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            workoutWithExercises(3, 2);
+        }
+        assertBudget(get("/api/workouts"), 2);
+    }
+
+    @Test
+    void getWorkout() throws Exception {
+        Workout workout = workoutWithExercises(3, 2);
+        assertBudget(get("/api/workouts/{id}", workout.getId()), 3);
+    }
+
+    @Test
+    void getWorkoutExercises() throws Exception {
+        Workout workout = workoutWithExercises(5, 3);
+        assertBudget(get("/api/workouts/{id}/exercises", workout.getId()), 4);
+    }
+
+    @Test
+    void startWorkout() throws Exception {
+        Workout workout = workoutWithExercises(3, 0);
+        assertBudget(post("/api/workouts/{id}/start", workout.getId()), 7);
+    }
+
+    @Test
+    void completeWorkout() throws Exception {
+        Workout workout = workoutWithExercises(3, 2);
+        workoutService.startWorkout(username, workout.getId());
+        // The user's first completion: the streak row is built in its own transaction, which cannot see this
+        // completion, so the day is then merged in (a select and an update on top of the usual statements)
+        assertBudget(post("/api/workouts/{id}/complete", workout.getId()), 14);
+    }
+
+    @Test
+    void addExerciseToWorkout() throws Exception {
+        Workout workout = workoutWithExercises(3, 0);
+        assertBudget(post("/api/workouts/{workoutId}/exercises/{exerciseId}", workout.getId(), exerciseId(0))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("orderIndex", 3, "plannedSets", 3, "plannedReps", 8))), 5);
+    }
+
+    @Test
+    void updateWorkoutExercise() throws Exception {
+        Workout workout = workoutWithExercises(3, 2);
+        WorkoutExercise exercise = firstExercise(workout);
+        assertBudget(put("/api/workouts/{workoutId}/exercises/{workoutExerciseId}", workout.getId(), exercise.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("orderIndex", 0, "plannedSets", 4, "plannedReps", 6))), 7);
+    }
+
+    @Test
+    void startExercise() throws Exception {
+        Workout workout = workoutWithExercises(3, 0);
+        workoutService.startWorkout(username, workout.getId());
+        WorkoutExercise exercise = firstExercise(workout);
+        assertBudget(post("/api/workouts/{workoutId}/exercises/{workoutExerciseId}/start",
+                workout.getId(), exercise.getId()), 6);
+    }
+
+    @Test
+    void logSet() throws Exception {
+        Workout workout = workoutWithExercises(3, 2);
+        WorkoutExercise exercise = firstExercise(workout);
+        assertBudget(post("/api/workouts/exercises/{workoutExerciseId}/sets", exercise.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("setNumber", 3, "actualReps", 8, "actualWeight", 60))), 5);
+    }
+
+    @Test
+    void completeSet() throws Exception {
+        Workout workout = workoutWithExercises(3, 2);
+        ExerciseSet set = workoutService.getExerciseSets(username, firstExercise(workout).getId()).get(0);
+        assertBudget(post("/api/workouts/sets/{setId}/complete", set.getId()), 10);
+    }
+
+    @Test
+    void getExerciseSets() throws Exception {
+        Workout workout = workoutWithExercises(3, 5);
+        assertBudget(get("/api/workouts/exercises/{workoutExerciseId}/sets", firstExercise(workout).getId()), 5);
+    }
+
+    @Test
+    void deleteWorkout() throws Exception {
+        // Cascade removal deletes children row by row: one statement per exercise and set on top of the lookups
+        Workout workout = workoutWithExercises(3, 2);
+        assertBudget(delete("/api/workouts/{id}", workout.getId()), 17);
+    }
+
+    @Test
+    void completeExercise() throws Exception {
+        Workout workout = workoutWithExercises(3, 2);
+        workoutService.startWorkout(username, workout.getId());
+        WorkoutExercise exercise = firstExercise(workout);
+        workoutService.startExercise(username, workout.getId(), exercise.getId());
+        assertBudget(post("/api/workouts/{workoutId}/exercises/{workoutExerciseId}/complete",
+                workout.getId(), exercise.getId()), 6);
+    }
+
+    @Test
+    void fixWorkoutStatus() throws Exception {
+        Workout workout = workoutWithExercises(3, 2);
+        assertBudget(post("/api/workouts/{id}/fix-status", workout.getId()), 6);
+    }
+
+    @Test
+    void deleteWorkoutExercise() throws Exception {
+        Workout workout = workoutWithExercises(3, 2);
+        WorkoutExercise exercise = firstExercise(workout);
+        assertBudget(delete("/api/workouts/{workoutId}/exercises/{workoutExerciseId}",
+                workout.getId(), exercise.getId()), 8);
+    }
+
+    // ---- UserController ----
+
+    @Test
+    void getCurrentUserProfile() throws Exception {
+        assertBudget(get("/api/users/profile"), 1);
+    }
+
+    @Test
+    void updateCurrentUserProfile() throws Exception {
+        assertBudget(put("/api/users/profile").contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("firstName", "Renamed", "lastName", "Budget", "email", username + "@example.com"))), 2);
+    }
+
+    @Test
+    void createProgressEntry() throws Exception {
+        assertBudget(post("/api/users/progress").contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("measurementDate", LocalDate.now().toString(), "weightKg", 80))), 2);
+    }
+
+    @Test
+    void getUserProgress() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            progressEntry(i);
+        }
+        assertBudget(get("/api/users/progress"), 2);
+    }
+
+    @Test
+    void getLatestProgress() throws Exception {
+        progressEntry(0);
+        progressEntry(1);
+        assertBudget(get("/api/users/progress/latest"), 2);
+    }
+
+    @Test
+    void updateProgressEntry() throws Exception {
+        UserProgress entry = progressEntry(0);
+        assertBudget(put("/api/users/progress/{id}", entry.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("measurementDate", LocalDate.now().toString(), "weightKg", 79))), 3);
+    }
+
+    @Test
+    void deleteProgressEntry() throws Exception {
+        UserProgress entry = progressEntry(0);
+        assertBudget(delete("/api/users/progress/{id}", entry.getId()), 4);
+    }
+
+    @Test
+    void getPersonalRecords() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            completedWorkout(3, 2);
+        }
+        assertBudget(get("/api/users/personal-records"), 2);
+    }
+
+    @Test
+    void getConsistency() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            completedWorkout(1, 1);
+        }
+        assertBudget(get("/api/users/consistency"), 4);
+    }
+
+    @Test
+    void changePassword() throws Exception {
+        assertBudget(put("/api/users/change-password").contentType(MediaType.APPLICATION_JSON)
+                .content(json(new ChangePasswordRequest(PASSWORD, "Changed!Pass2"))), 2);
+    }
+
+    @Test
+    void deleteAccount() throws Exception {
+        // A bare account: the goals and progress tables have no cascade from users yet
+        assertBudget(delete("/api/users/account"), 2);
+    }
+
+    @Test
+    void exportUserData() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            workoutWithExercises(3, 2);
+            goal("Goal " + i);
+            progressEntry(i);
+        }
+        assertBudget(get("/api/users/export-data"), 5);
+    }
+
+    // ---- GoalController ----
+
+    @Test
+    void createGoal() throws Exception {
+        assertBudget(post("/api/goals").contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "Bench 100", "type", "STRENGTH", "targetValue", 100))), 2);
+    }
+
+    @Test
+    void getUserGoals() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            goal("Goal " + i);
+        }
+        assertBudget(get("/api/goals"), 2);
+    }
+
+    @Test
+    void getActiveGoals() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            goal("Goal " + i);
+        }
+        assertBudget(get("/api/goals/active"), 2);
+    }
+
+    @Test
+    void getGoalById() throws Exception {
+        Goal goal = goal("Single");
+        assertBudget(get("/api/goals/{id}", goal.getId()), 2);
+    }
+
+    @Test
+    void updateGoal() throws Exception {
+        Goal goal = goal("Before");
+        assertBudget(put("/api/goals/{id}", goal.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content(json(Map.of("title", "After", "type", "STRENGTH", "targetValue", 120, "currentValue", 90))), 3);
+    }
+
+    @Test
+    void deleteGoal() throws Exception {
+        Goal goal = goal("Doomed");
+        assertBudget(delete("/api/goals/{id}", goal.getId()), 4);
+    }
+
+    @Test
+    void getActiveGoalsCount() throws Exception {
+        goal("Counted");
+        assertBudget(get("/api/goals/stats/active"), 2);
+    }
+
+    @Test
+    void getCompletedGoalsCount() throws Exception {
+        goal("Counted");
+        assertBudget(get("/api/goals/stats/completed"), 2);
+    }
+
+    private void assertBudget(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        MvcResult result = mockMvc.perform(request.with(user(username)))
+                .andExpect(status().is2xxSuccessful())
+                .andReturn();
+        String header = result.getResponse().getHeader(QueryCountFilter.QUERY_COUNT_HEADER);
+        assertNotNull(header, "missing " + QueryCountFilter.QUERY_COUNT_HEADER + " header");
+        int statements = Integer.parseInt(header);
+        assertTrue(statements <= budget, result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                + " ran " + statements + " statements, budget is " + budget);
+    }
+
+    private Workout workoutWithExercises(int exercises, int setsPerExercise) {
+        Workout planned = new Workout();
+        planned.setName("Budget workout");
+        Workout workout = workoutService.createWorkout(username, planned);
+        for (int e = 0; e < exercises; e++) {
+            WorkoutExercise exercise = new WorkoutExercise();
+            exercise.setOrderIndex(e);
+            exercise.setPlannedSets(Math.max(setsPerExercise, 1) + 1);
+            exercise.setPlannedReps(8);
+            WorkoutExercise added = workoutService.addExerciseToWorkout(username, workout.getId(), exerciseId(e), exercise);
+            for (int s = 0; s < setsPerExercise; s++) {
+                ExerciseSet set = new ExerciseSet();
+                set.setSetNumber(s + 1);
+                set.setActualReps(8);
+                set.setActualWeight(50.0 + 5 * s);
+                workoutService.logSet(username, added.getId(), set);
+            }
+        }
+        return workout;
+    }
+
+    private void completedWorkout(int exercises, int setsPerExercise) {
+        Workout workout = workoutWithExercises(exercises, setsPerExercise);
+        workoutService.startWorkout(username, workout.getId());
+        workoutService.completeWorkout(username, workout.getId());
+    }
+
+    private WorkoutExercise firstExercise(Workout workout) {
+        return workoutService.getWorkoutExercises(username, workout.getId()).get(0);
+    }
+
+    private Long exerciseId(int index) {
+        return exerciseRepository.findAll().get(index).getId();
+    }
+
+    private Goal goal(String title) {
+        Goal goal = new Goal();
+        goal.setTitle(title);
+        goal.setType(Goal.GoalType.STRENGTH);
+        goal.setTargetValue(100.0);
+        return goalService.createGoal(username, goal);
+    }
+
+    private UserProgress progressEntry(int daysAgo) {
+        UserProgress entry = new UserProgress();
+        entry.setMeasurementDate(LocalDate.now().minusDays(daysAgo));
+        entry.setWeightKg(80.0 - daysAgo);
+        return userProgressService.createProgressEntry(username, entry);
+    }
+
+    private String json(Object body) throws Exception {
+        return objectMapper.writeValueAsString(body);
+    }
+}
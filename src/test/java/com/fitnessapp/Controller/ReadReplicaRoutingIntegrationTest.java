@@ -0,0 +1,168 @@
+package com.fitnessapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnessapp.datasource.ReplicaLagMonitor;
+import com.fitnessapp.entity.Goal;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.Workout;
+import com.fitnessapp.repository.GoalRepository;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.WorkoutRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two H2 instances stand in for a primary and its replica. Replication is a snapshot of the primary copied over with
+ * SCRIPT/RUNSCRIPT, so anything written afterwards is only visible on the primary; that is how each test tells where a
+ * read went. The replica's lag is read from a table the test controls.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary_rr;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.url=" + ReadReplicaRoutingIntegrationTest.REPLICA_URL,
+        "app.datasource.replica.lag-query=SELECT seconds FROM replica_lag",
+        "app.datasource.replica.lag-check-interval=1h"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replica_rr;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private GoalRepository goalRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private JdbcTemplate primary;
+
+    @TempDir
+    private Path snapshotDir;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("replica_" + UUID.randomUUID().toString().substring(0, 8));
+        user.setEmail(user.getUsername() + "@example.com");
+        user.setPassword("not-used");
+        user.setFirstName("Read");
+        user.setLastName("Replica");
+        user = userRepository.save(user);
+
+        replicate();
+        setReplicaLag(0);
+    }
+
+    @Test
+    void readOnlyTransaction_ReadsFromReplica() throws Exception {
+        goalRepository.save(goal("Written after the snapshot"));
+
+        mockMvc.perform(get("/api/goals").with(user(user.getUsername())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", not(hasItem("Written after the snapshot"))));
+    }
+
+    @Test
+    void ownWrite_KeepsReadsOnPrimary() throws Exception {
+        mockMvc.perform(post("/api/goals").with(user(user.getUsername()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "title", "My own goal", "type", "STRENGTH", "targetValue", 100))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/goals").with(user(user.getUsername())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", hasItem("My own goal")));
+    }
+
+    @Test
+    void readWriteTransactionWithoutWrites_KeepsReadsOnReplica() throws Exception {
+        Workout workout = new Workout();
+        workout.setUser(user);
+        workout.setName("Nothing to flush");
+        workout.setStatus(Workout.Status.PLANNED);
+        workout = workoutRepository.save(workout);
+        replicate();
+        goalRepository.save(goal("Written after the snapshot"));
+
+        // Runs read-write in case a live session needs flushing; there is none, so nothing is written
+        mockMvc.perform(get("/api/workouts/{id}/exercises", workout.getId()).with(user(user.getUsername())))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/goals").with(user(user.getUsername())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", not(hasItem("Written after the snapshot"))));
+    }
+
+    @Test
+    void laggingReplica_ReadsFromPrimary() throws Exception {
+        goalRepository.save(goal("Written after the snapshot"));
+        setReplicaLag(60);
+        assertFalse(replicaLagMonitor.isUsable());
+
+        mockMvc.perform(get("/api/goals").with(user(user.getUsername())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].title", hasItem("Written after the snapshot")));
+    }
+
+    private void replicate() {
+        String snapshot = snapshotDir.resolve("snapshot.sql").toString();
+        primary.execute("SCRIPT DROP TO '" + snapshot + "'");
+        replica.execute("RUNSCRIPT FROM '" + snapshot + "'");
+    }
+
+    private void setReplicaLag(double seconds) {
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (seconds DOUBLE PRECISION)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag VALUES (?)", seconds);
+        replicaLagMonitor.check();
+    }
+
+    private Goal goal(String title) {
+        Goal goal = new Goal();
+        goal.setUser(user);
+        goal.setTitle(title);
+        goal.setType(Goal.GoalType.STRENGTH);
+        goal.setTargetValue(100.0);
+        return goal;
+    }
+}
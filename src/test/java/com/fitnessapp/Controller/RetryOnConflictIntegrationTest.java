@@ -0,0 +1,146 @@
+package com.fitnessapp.controller;
+
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.Workout;
+import com.fitnessapp.entity.WorkoutExercise;
+import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.WorkoutExerciseRepository;
+import com.fitnessapp.service.WorkoutService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Another device commits a change to the same row while the request is between its read and its write, so the
+ * request's optimistic-lock check fails at commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RetryOnConflictIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    private String username;
+    private Workout workout;
+    private WorkoutExercise workoutExercise;
+
+    @BeforeEach
+    void setUp() {
+        username = "retry_" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+
+        Workout planned = new Workout();
+        planned.setName("Conflicting edits");
+        workout = workoutService.createWorkout(username, planned);
+        WorkoutExercise exercise = new WorkoutExercise();
+        exercise.setOrderIndex(0);
+        exercise.setPlannedSets(3);
+        workoutExercise = workoutService.addExerciseToWorkout(username, workout.getId(),
+                exerciseRepository.findAll().get(0).getId(), exercise);
+        clearInvocations(workoutExerciseRepository);
+    }
+
+    @Test
+    void conflictOnFirstAttempt_IsRetriedAndSucceeds() throws Exception {
+        doAnswer(invocation -> {
+            concurrentEdit();
+            return realSave(invocation);
+        }).doAnswer(this::realSave).when(workoutExerciseRepository).save(any(WorkoutExercise.class));
+
+        mockMvc.perform(update(5))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.plannedSets").value(5));
+
+        verify(workoutExerciseRepository, times(2)).save(any(WorkoutExercise.class));
+        assertEquals(5, plannedSets());
+    }
+
+    @Test
+    void conflictOnEveryAttempt_Returns409() throws Exception {
+        doAnswer(invocation -> {
+            concurrentEdit();
+            return realSave(invocation);
+        }).when(workoutExerciseRepository).save(any(WorkoutExercise.class));
+
+        mockMvc.perform(update(6))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode").value("CONFLICT"));
+
+        // @RetryOnConflict defaults to three attempts
+        verify(workoutExerciseRepository, times(3)).save(any(WorkoutExercise.class));
+        assertEquals(4, plannedSets());
+    }
+
+    private RequestBuilder update(int plannedSets) {
+        return put("/api/workouts/{workoutId}/exercises/{id}", workout.getId(), workoutExercise.getId())
+                .with(user(username))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderIndex\":0,\"plannedSets\":" + plannedSets + "}");
+    }
+
+    // Commits independently of the request's transaction, like a write from another device
+    private void concurrentEdit() {
+        TransactionTemplate other = new TransactionTemplate(transactionManager);
+        other.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        other.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE workout_exercises SET planned_sets = 4, version = version + 1 WHERE id = ?",
+                workoutExercise.getId()));
+    }
+
+    // The repository is a JDK proxy with no real method to call; the spy's default answer delegates to it
+    private Object realSave(InvocationOnMock invocation) throws Throwable {
+        return mockingDetails(workoutExerciseRepository).getMockCreationSettings().getDefaultAnswer().answer(invocation);
+    }
+
+    private int plannedSets() {
+        return jdbcTemplate.queryForObject("SELECT planned_sets FROM workout_exercises WHERE id = ?",
+                Integer.class, workoutExercise.getId());
+    }
+}
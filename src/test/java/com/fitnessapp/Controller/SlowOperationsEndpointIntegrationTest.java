@@ -0,0 +1,98 @@
+package com.fitnessapp.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Zero thresholds make every statement and transaction "slow", and every slow statement is explained.
+ */
+@SpringBootTest(properties = {
+        "app.slow-operations.query-threshold=0ms",
+        "app.slow-operations.transaction-threshold=0ms",
+        "app.slow-operations.explain-sample-rate=1.0"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SlowOperationsEndpointIntegrationTest {
+
+    private static final String GET_USER_GOALS = "com.fitnessapp.service.GoalService.getUserGoals";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void slowOperations_ListsTransactionsWithStatementsAndExplainedQueries() throws Exception {
+        User user = new User();
+        user.setUsername("slowops");
+        user.setEmail("slowops@example.com");
+        user.setPassword("not-used");
+        user.setFirstName("Slow");
+        user.setLastName("Operations");
+        userRepository.save(user);
+
+        mockMvc.perform(get("/api/goals").with(user("slowops"))).andExpect(status().isOk());
+
+        JsonNode transaction = null;
+        JsonNode explained = null;
+        for (int attempt = 0; attempt < 50 && (transaction == null || explained == null); attempt++) {
+            Thread.sleep(100);
+            JsonNode operations = slowOperations();
+            for (JsonNode operation : operations) {
+                if (operation.path("type").asText().equals("transaction")
+                        && operation.path("name").asText().equals(GET_USER_GOALS)) {
+                    transaction = operation;
+                }
+                if (operation.path("type").asText().equals("query") && !operation.path("plan").isNull()) {
+                    explained = operation;
+                }
+            }
+        }
+
+        assertNotNull(transaction, "getUserGoals transaction");
+        assertTrue(transaction.path("statements").toString().contains("from goals"),
+                transaction.path("statements").toString());
+        assertNotNull(explained, "explained statement");
+        assertTrue(explained.path("plan").asText().length() > 0);
+
+        mockMvc.perform(delete("/actuator/slowoperations").with(user("admin").roles("ADMIN")))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void slowOperations_RequiresAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/slowoperations").with(user("slowops-user")))
+                .andExpect(status().isForbidden());
+    }
+
+    private JsonNode slowOperations() throws Exception {
+        JsonNode operations = objectMapper.readTree(mockMvc.perform(get("/actuator/slowoperations")
+                        .param("limit", "500")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+        assertEquals(true, operations.isArray());
+        return operations;
+    }
+}
@@ -0,0 +1,98 @@
+package com.fitnessapp.controller;
+
+import com.fitnessapp.dto.ConsistencyDTO;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.Workout;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.WorkoutRepository;
+import com.fitnessapp.service.StreakService;
+import com.fitnessapp.service.WorkoutService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+
+/**
+ * A user without a streak row completes their first workout while another request reads their consistency: both
+ * find no row and build one from history at the same time.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StreakFirstAccessIntegrationTest {
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private StreakService streakService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoSpyBean
+    private WorkoutRepository workoutRepository;
+
+    private String username;
+    private Workout workout;
+
+    @BeforeEach
+    void setUp() {
+        username = "streak_" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("not-used");
+        userRepository.save(user);
+
+        Workout planned = new Workout();
+        planned.setName("First ever");
+        workout = workoutService.createWorkout(username, planned);
+        workoutService.startWorkout(username, workout.getId());
+    }
+
+    @Test
+    void firstCompletionRacingAConsistencyRead_BothSucceedWithOneRow() throws Exception {
+        // Hold both history scans until each request has seen that there is no row yet
+        CyclicBarrier bothScanning = new CyclicBarrier(2);
+        AtomicInteger scans = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (scans.incrementAndGet() <= 2) {
+                bothScanning.await(10, TimeUnit.SECONDS);
+            }
+            return mockingDetails(workoutRepository).getMockCreationSettings().getDefaultAnswer().answer(invocation);
+        }).when(workoutRepository).findCompletionTimesByUser(anyLong());
+
+        CompletableFuture<Workout> completion =
+                CompletableFuture.supplyAsync(() -> workoutService.completeWorkout(username, workout.getId()));
+        CompletableFuture<ConsistencyDTO> read =
+                CompletableFuture.supplyAsync(() -> streakService.getConsistency(username));
+
+        assertEquals(Workout.Status.COMPLETED, completion.get(30, TimeUnit.SECONDS).getStatus());
+        read.get(30, TimeUnit.SECONDS);
+        assertEquals(2, scans.get());
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_streaks s JOIN users u ON u.id = s.user_id WHERE u.username = ?",
+                Integer.class, username));
+        ConsistencyDTO consistency = streakService.getConsistency(username);
+        assertEquals(1, consistency.getTotalActiveDays());
+        assertEquals(1, consistency.getCurrentStreak());
+    }
+}
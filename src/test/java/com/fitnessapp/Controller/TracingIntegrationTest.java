@@ -0,0 +1,149 @@
+package com.fitnessapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Exports spans over OTLP/HTTP to an in-process stand-in for the collector that just keeps the request bodies. The
+ * protobuf payload carries span names as plain strings, which is all the assertions need. Micrometer lower-hyphenates
+ * span names, so {@code UserRepository.save} is exported as {@code user-repository.save}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class TracingIntegrationTest {
+
+    private static final List<byte[]> exports = new CopyOnWriteArrayList<>();
+    private static final HttpServer collector = startCollector();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private ObservationRegistry observationRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
+    @Autowired
+    @Qualifier("taskExecutor")
+    private Executor taskExecutor;
+
+    @DynamicPropertySource
+    static void tracingProperties(DynamicPropertyRegistry registry) {
+        registry.add("management.tracing.sampling.probability", () -> "1.0");
+        registry.add("management.otlp.tracing.endpoint",
+                () -> "http://localhost:" + collector.getAddress().getPort() + "/v1/traces");
+    }
+
+    @AfterAll
+    static void stopCollector() {
+        collector.stop(0);
+    }
+
+    @Test
+    void request_ExportsSpansForRepositoriesCommitEventsListenersAndJwt() throws Exception {
+        String token = objectMapper.readTree(mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of(
+                                "username", "traced",
+                                "email", "traced@example.com",
+                                "password", "Trace!Pass1",
+                                "firstName", "Trace",
+                                "lastName", "Target"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).path("token").asText();
+        mockMvc.perform(get("/api/workouts").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // The welcome listener runs on the async executor and may finish after the response
+        String exported = "";
+        for (int attempt = 0; attempt < 50 && !exported.contains("user-event-listener.handle-user-registered"); attempt++) {
+            Thread.sleep(100);
+            tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+            exported = exportedText();
+        }
+
+        assertTrue(exported.contains("user-repository.save"), "repository span");
+        assertTrue(exported.contains("fitnessapp.transaction.commit"), "commit span");
+        assertTrue(exported.contains("user-registered-event publish"), "event publication span");
+        assertTrue(exported.contains("user-event-listener.handle-user-registered"), "async listener span");
+        assertTrue(exported.contains("jwt-service#extract-username"), "JWT verification span");
+    }
+
+    @Test
+    void asyncExecutor_PropagatesTraceContext() throws Exception {
+        String[] traceIds = Observation.createNotStarted("parent", observationRegistry).observeChecked(() -> new String[] {
+                tracer.currentSpan().context().traceId(),
+                CompletableFuture
+                        .supplyAsync(() -> tracer.currentSpan() == null ? null : tracer.currentSpan().context().traceId(),
+                                taskExecutor)
+                        .get(10, TimeUnit.SECONDS)});
+
+        assertEquals(traceIds[0], traceIds[1]);
+    }
+
+    private static String exportedText() {
+        StringBuilder text = new StringBuilder();
+        for (byte[] export : exports) {
+            text.append(new String(export, StandardCharsets.ISO_8859_1));
+        }
+        return text.toString();
+    }
+
+    private static HttpServer startCollector() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/v1/traces", exchange -> {
+                exports.add(exchange.getRequestBody().readAllBytes());
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
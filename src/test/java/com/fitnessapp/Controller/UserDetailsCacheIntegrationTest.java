@@ -0,0 +1,91 @@
+package com.fitnessapp.controller;
+
+import com.fitnessapp.entity.User;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class UserDetailsCacheIntegrationTest {
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private String username;
+
+    @BeforeEach
+    void setUp() {
+        username = "cached_" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword(passwordEncoder.encode("Cache!Pass1"));
+        userRepository.save(user);
+    }
+
+    @Test
+    void loadUserByUsername_CachesASnapshotRatherThanTheEntity() {
+        UserDetails loaded = userDetailsService.loadUserByUsername(username);
+
+        Object cached = userDetailsCache().get(username, Object.class);
+        assertSame(loaded, cached);
+        assertFalse(cached instanceof User);
+        assertTrue(loaded.getAuthorities().stream().anyMatch(authority -> authority.getAuthority().equals("ROLE_USER")));
+    }
+
+    @Test
+    void login_DoesNotEraseTheCachedPassword() {
+        for (int attempt = 0; attempt < 2; attempt++) {
+            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, "Cache!Pass1"));
+        }
+
+        assertNotNull(userDetailsCache().get(username, UserDetails.class).getPassword());
+    }
+
+    @Test
+    void updateUserProfile_EvictsTheCachedUserDetails() {
+        userDetailsService.loadUserByUsername(username);
+
+        User profile = new User();
+        profile.setUsername(username + "_renamed");
+        profile.setEmail(username + "@example.org");
+        userService.updateUserProfile(username, profile);
+
+        assertNull(userDetailsCache().get(username));
+    }
+
+    private Cache userDetailsCache() {
+        return cacheManager.getCache("userDetails");
+    }
+}
@@ -0,0 +1,135 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.LeaderboardEntryDTO;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.UserStreak;
+import com.fitnessapp.entity.Workout;
+import com.fitnessapp.event.SetCompletedEvent;
+import com.fitnessapp.event.WorkoutCompletedEvent;
+import com.fitnessapp.event.listener.LeaderboardEventListener;
+import com.fitnessapp.repository.ExerciseSetRepository;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.UserStreakRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    @Mock
+    private ExerciseSetRepository exerciseSetRepository;
+
+    @Mock
+    private UserStreakRepository userStreakRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private final InMemoryLeaderboardStore leaderboardStore = new InMemoryLeaderboardStore();
+
+    private LeaderboardService leaderboardService;
+
+    private LeaderboardEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = new LeaderboardService(leaderboardStore, exerciseSetRepository, userStreakRepository, userRepository);
+        listener = new LeaderboardEventListener(leaderboardService, userStreakRepository);
+    }
+
+    @Test
+    void setCompleted_UpdatesOneRepMaxAndWeeklyVolume() {
+        LocalDateTime now = LocalDateTime.now();
+        listener.handleSetCompleted(new SetCompletedEvent(this, 1L, 10L, 100.0, 5, now));
+        listener.handleSetCompleted(new SetCompletedEvent(this, 1L, 10L, 80.0, 10, now));
+        listener.handleSetCompleted(new SetCompletedEvent(this, 2L, 10L, 90.0, 3, now));
+
+        List<LeaderboardEntryDTO> oneRepMax = leaderboardStore.top("e1rm:10", 10);
+        assertEquals(List.of(1L, 2L), oneRepMax.stream().map(LeaderboardEntryDTO::getUserId).toList());
+        // Best Epley estimate is kept: 100 x 5 beats 80 x 10
+        assertEquals(100 * (1 + 5 / 30.0), oneRepMax.get(0).getScore(), 1e-9);
+
+        LeaderboardEntryDTO volume = leaderboardStore.top(weeklyVolumeBoard(), 1).get(0);
+        assertEquals(1L, volume.getUserId());
+        assertEquals(100.0 * 5 + 80.0 * 10, volume.getScore());
+    }
+
+    @Test
+    void setCompleted_WithoutWeightOrReps_IsIgnored() {
+        listener.handleSetCompleted(new SetCompletedEvent(this, 1L, 10L, null, 5, LocalDateTime.now()));
+        listener.handleSetCompleted(new SetCompletedEvent(this, 1L, 10L, 60.0, 0, LocalDateTime.now()));
+
+        assertTrue(leaderboardStore.boards("").isEmpty());
+    }
+
+    @Test
+    void workoutCompleted_PublishesLongestStreak() {
+        User user = new User();
+        user.setId(3L);
+        user.setUsername("streaker");
+        Workout workout = new Workout();
+        workout.setUser(user);
+        UserStreak streak = new UserStreak();
+        streak.setLongestStreak(12);
+        when(userStreakRepository.findByUserId(3L)).thenReturn(Optional.of(streak));
+        when(userRepository.findByUsername("streaker")).thenReturn(Optional.of(user));
+
+        listener.handleWorkoutCompleted(new WorkoutCompletedEvent(this, workout));
+
+        LeaderboardEntryDTO rank = leaderboardService.getStreakRank("streaker").orElseThrow();
+        assertEquals(1, rank.getRank());
+        assertEquals(12.0, rank.getScore());
+        assertEquals("streaker", rank.getUsername());
+    }
+
+    @Test
+    void rebuildLeaderboards_ReplacesDriftedScores() {
+        leaderboardStore.setScore("e1rm:10", 1L, 999.0);
+        leaderboardStore.setScore("e1rm:10", 2L, 50.0);
+        when(exerciseSetRepository.findBestEstimatedOneRepMaxes())
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 10L, 120.0}));
+        when(exerciseSetRepository.sumVolumeByUserBetween(any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 2500.0}));
+        when(userStreakRepository.findAllLongestStreaks())
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 4}));
+
+        leaderboardService.rebuildLeaderboards();
+
+        List<LeaderboardEntryDTO> oneRepMax = leaderboardStore.top("e1rm:10", 10);
+        assertEquals(1, oneRepMax.size());
+        assertEquals(120.0, oneRepMax.get(0).getScore());
+        assertEquals(2500.0, leaderboardStore.top(weeklyVolumeBoard(), 1).get(0).getScore());
+        assertEquals(4.0, leaderboardStore.top("streak:longest", 1).get(0).getScore());
+    }
+
+    @Test
+    void rebuildLeaderboards_DropsBoardsOfExercisesWithoutSets() {
+        leaderboardStore.setScore("e1rm:10", 1L, 100.0);
+        leaderboardStore.setScore("e1rm:11", 1L, 80.0);
+        when(exerciseSetRepository.findBestEstimatedOneRepMaxes())
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 10L, 100.0}));
+
+        leaderboardService.rebuildLeaderboards();
+
+        assertEquals(Set.of("e1rm:10"), leaderboardStore.boards("e1rm:"));
+        assertTrue(leaderboardStore.top("e1rm:11", 10).isEmpty());
+    }
+
+    private static String weeklyVolumeBoard() {
+        return "volume:" + LocalDate.now().with(DayOfWeek.MONDAY);
+    }
+}
@@ -0,0 +1,126 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.entity.*;
+import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "app.live-sessions.enabled=true",
+        "app.live-sessions.flush-interval-ms=3600000",
+        "app.live-sessions.journal-dir=${java.io.tmpdir}/fitnessapp-live-journal-test"
+})
+@ActiveProfiles("test")
+class LiveSessionIntegrationTest {
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private LiveSessionStore liveSessionStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String username;
+    private Workout workout;
+    private WorkoutExercise workoutExercise;
+
+    @BeforeEach
+    void setUp() {
+        username = "live-" + UUID.randomUUID().toString().substring(0, 8);
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("encoded");
+        userRepository.save(user);
+
+        Workout planned = new Workout();
+        planned.setName("Live Session");
+        workout = workoutService.createWorkout(username, planned);
+
+        WorkoutExercise exercise = new WorkoutExercise();
+        exercise.setOrderIndex(0);
+        exercise.setPlannedSets(2);
+        exercise.setPlannedReps(5);
+        Exercise catalogExercise = exerciseRepository.findAll().get(0);
+        workoutExercise = workoutService.addExerciseToWorkout(username, workout.getId(), catalogExercise.getId(), exercise);
+    }
+
+    @Test
+    void completeSet_WritesBehindAndFlushesOnCompleteWorkout() {
+        workoutService.startWorkout(username, workout.getId());
+        assertTrue(liveSessionStore.find(workout.getId()).isPresent());
+
+        workoutService.startExercise(username, workout.getId(), workoutExercise.getId());
+        ExerciseSet first = workoutService.logSet(username, workoutExercise.getId(), set(1));
+        ExerciseSet second = workoutService.logSet(username, workoutExercise.getId(), set(2));
+
+        ExerciseSet completed = workoutService.completeSet(username, first.getId());
+        assertEquals(ExerciseSet.Status.COMPLETED, completed.getStatus());
+        assertEquals("PENDING", setStatus(first.getId()), "completion is buffered until the next flush");
+
+        liveSessionStore.flush(workout.getId());
+        assertEquals("COMPLETED", setStatus(first.getId()));
+        assertEquals("IN_PROGRESS", exerciseStatus());
+
+        // Second set reaches plannedSets and auto-completes the exercise in memory
+        workoutService.completeSet(username, second.getId());
+        assertEquals(WorkoutExercise.Status.COMPLETED,
+                workoutService.getExerciseSets(username, workoutExercise.getId()).get(1).getWorkoutExercise().getStatus());
+
+        workoutService.completeWorkout(username, workout.getId());
+        assertTrue(liveSessionStore.find(workout.getId()).isEmpty());
+        assertEquals("COMPLETED", setStatus(second.getId()));
+        assertEquals("COMPLETED", exerciseStatus());
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT completed_sets FROM workout_exercises WHERE id = ?",
+                Integer.class, workoutExercise.getId()));
+    }
+
+    @Test
+    void completeSet_OtherUser_IsRejected() {
+        workoutService.startWorkout(username, workout.getId());
+        ExerciseSet logged = workoutService.logSet(username, workoutExercise.getId(), set(1));
+
+        User other = new User();
+        other.setUsername(username + "-other");
+        other.setEmail(username + "-other@example.com");
+        other.setPassword("encoded");
+        userRepository.save(other);
+
+        assertThrows(IllegalArgumentException.class, () -> workoutService.completeSet(other.getUsername(), logged.getId()));
+        workoutService.completeWorkout(username, workout.getId());
+    }
+
+    private String setStatus(Long setId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM exercise_sets WHERE id = ?", String.class, setId);
+    }
+
+    private String exerciseStatus() {
+        return jdbcTemplate.queryForObject("SELECT status FROM workout_exercises WHERE id = ?", String.class,
+                workoutExercise.getId());
+    }
+
+    private static ExerciseSet set(int number) {
+        ExerciseSet set = new ExerciseSet();
+        set.setSetNumber(number);
+        set.setActualReps(5);
+        set.setActualWeight(60.0);
+        return set;
+    }
+}
@@ -0,0 +1,81 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.entity.ExerciseSet;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveSessionJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void discard_DeletesOnlyTheFlushsOwnRotation() {
+        LiveSessionJournal journal = journal();
+        journal.appendSet(1L, set(10L, ExerciseSet.Status.PENDING));
+        Path first = journal.rotate(1L);
+        journal.appendSet(1L, set(10L, ExerciseSet.Status.COMPLETED));
+        Path second = journal.rotate(1L);
+
+        // The later flush commits first; the earlier one is still writing
+        journal.discard(second);
+
+        assertTrue(Files.exists(first));
+        assertFalse(Files.exists(second));
+        assertEquals(ExerciseSet.Status.PENDING, journal.readAll().sets().get(10L).getStatus());
+    }
+
+    @Test
+    void rotate_NothingJournaled_ReturnsNull() {
+        assertNull(journal().rotate(1L));
+    }
+
+    @Test
+    void delete_LeavesRotationsInFlight() {
+        LiveSessionJournal journal = journal();
+        journal.appendSet(1L, set(10L, ExerciseSet.Status.COMPLETED));
+        Path rotated = journal.rotate(1L);
+        journal.appendSet(1L, set(11L, ExerciseSet.Status.COMPLETED));
+
+        journal.delete(1L);
+
+        assertTrue(Files.exists(rotated));
+        assertEquals(1, journal.readAll().files().size());
+    }
+
+    @Test
+    void readAll_ReplaysRotationsInOrderAcrossRestarts() {
+        LiveSessionJournal journal = journal();
+        for (int i = 0; i < 10; i++) {
+            journal.appendSet(1L, set(10L, ExerciseSet.Status.PENDING));
+            journal.rotate(1L);
+        }
+        journal.closeAll();
+
+        LiveSessionJournal restarted = journal();
+        restarted.appendSet(1L, set(10L, ExerciseSet.Status.COMPLETED));
+        restarted.rotate(1L);
+
+        LiveSessionJournal.Recovered recovered = restarted.readAll();
+        assertEquals(11, recovered.files().size());
+        assertEquals(ExerciseSet.Status.COMPLETED, recovered.sets().get(10L).getStatus());
+    }
+
+    private LiveSessionJournal journal() {
+        return new LiveSessionJournal(directory.toString(), false);
+    }
+
+    private static ExerciseSet set(Long id, ExerciseSet.Status status) {
+        ExerciseSet set = new ExerciseSet();
+        set.setId(id);
+        set.setStatus(status);
+        set.setCompletedAt(status == ExerciseSet.Status.COMPLETED ? LocalDateTime.of(2025, 3, 1, 9, 0) : null);
+        return set;
+    }
+}
@@ -0,0 +1,66 @@
+package com.fitnessapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisIdempotencyStoreTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration IN_PROGRESS_TTL = Duration.ofMinutes(5);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        store = new RedisIdempotencyStore(redisTemplate, TTL, IN_PROGRESS_TTL);
+    }
+
+    @Test
+    void claim_HoldsTheKeyOnlyForTheInProgressLease() {
+        when(valueOperations.setIfAbsent(eq("idempotency:key-1"), anyString(), eq(IN_PROGRESS_TTL))).thenReturn(true);
+
+        assertEquals(Optional.empty(), store.claim("key-1", "fp"));
+
+        verify(valueOperations, never()).setIfAbsent(anyString(), anyString(), eq(TTL));
+    }
+
+    @Test
+    void complete_KeepsTheResponseForTheFullTtl() {
+        store.complete("key-1", new IdempotentResponse("fp", 201, "application/json", "{}".getBytes()));
+
+        verify(valueOperations).set(eq("idempotency:key-1"), anyString(), eq(TTL));
+    }
+
+    @Test
+    void claim_AlreadyCompleted_ReturnsTheStoredResponse() {
+        when(valueOperations.setIfAbsent(eq("idempotency:key-1"), anyString(), eq(IN_PROGRESS_TTL))).thenReturn(false);
+        when(valueOperations.get("idempotency:key-1")).thenReturn("201\napplication/json\nfp\ne30=");
+
+        IdempotentResponse existing = store.claim("key-1", "fp").orElseThrow();
+
+        assertFalse(existing.isInProgress());
+        assertEquals(201, existing.status());
+        assertEquals("{}", new String(existing.body()));
+    }
+}
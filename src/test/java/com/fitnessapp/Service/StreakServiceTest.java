@@ -0,0 +1,117 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.UserStreak;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.UserStreakRepository;
+import com.fitnessapp.repository.WorkoutRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StreakServiceTest {
+
+    @Mock
+    private UserStreakRepository userStreakRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WorkoutRepository workoutRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StreakService streakService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        streakService = new StreakService(userStreakRepository, userRepository, workoutRepository, transactionManager);
+
+        user = new User();
+        user.setId(1L);
+        user.setUsername("testuser");
+    }
+
+    @Test
+    void recordWorkoutCompleted_ConsecutiveDays_ExtendsStreak() {
+        UserStreak streak = new UserStreak();
+        when(userStreakRepository.findByUserId(1L)).thenReturn(Optional.of(streak));
+        when(userStreakRepository.save(any(UserStreak.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        LocalDate start = LocalDate.of(2025, 3, 1);
+        streakService.recordWorkoutCompleted(user, start.atTime(8, 0));
+        streakService.recordWorkoutCompleted(user, start.plusDays(1).atTime(8, 0));
+        UserStreak result = streakService.recordWorkoutCompleted(user, start.plusDays(2).atTime(8, 0));
+
+        assertEquals(3, result.getCurrentStreak());
+        assertEquals(3, result.getLongestStreak());
+        assertEquals(3, result.getTotalActiveDays());
+        assertEquals(start.plusDays(2), result.getLastActiveDate());
+    }
+
+    @Test
+    void recordWorkoutCompleted_SameDayTwice_IsIdempotent() {
+        UserStreak streak = new UserStreak();
+        when(userStreakRepository.findByUserId(1L)).thenReturn(Optional.of(streak));
+        when(userStreakRepository.save(any(UserStreak.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        LocalDateTime morning = LocalDate.of(2025, 3, 1).atTime(8, 0);
+        streakService.recordWorkoutCompleted(user, morning);
+        UserStreak result = streakService.recordWorkoutCompleted(user, morning.plusHours(10));
+
+        assertEquals(1, result.getCurrentStreak());
+        assertEquals(1, result.getTotalActiveDays());
+        verify(userStreakRepository, times(1)).save(any(UserStreak.class));
+    }
+
+    @Test
+    void recordWorkoutCompleted_AfterGap_ResetsCurrentButKeepsLongest() {
+        UserStreak streak = new UserStreak();
+        when(userStreakRepository.findByUserId(1L)).thenReturn(Optional.of(streak));
+        when(userStreakRepository.save(any(UserStreak.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        LocalDate start = LocalDate.of(2025, 3, 1);
+        streakService.recordWorkoutCompleted(user, start.atStartOfDay());
+        streakService.recordWorkoutCompleted(user, start.plusDays(1).atStartOfDay());
+        UserStreak result = streakService.recordWorkoutCompleted(user, start.plusDays(5).atStartOfDay());
+
+        assertEquals(1, result.getCurrentStreak());
+        assertEquals(2, result.getLongestStreak());
+        assertEquals(List.of(start, start.plusDays(1), start.plusDays(5)), result.activeDaysAsOf(start.plusDays(5)));
+    }
+
+    @Test
+    void recordWorkoutCompleted_NoState_RebuildsFromHistory() {
+        LocalDate start = LocalDate.of(2025, 3, 1);
+        when(userStreakRepository.findByUserId(1L)).thenReturn(Optional.empty());
+        when(userStreakRepository.saveAndFlush(any(UserStreak.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(workoutRepository.findCompletionTimesByUser(1L)).thenReturn(List.of(
+                start.atTime(7, 0),
+                start.plusDays(1).atTime(7, 0),
+                start.plusDays(2).atTime(7, 0)
+        ));
+
+        UserStreak result = streakService.recordWorkoutCompleted(user, start.plusDays(2).atTime(7, 0));
+
+        assertEquals(3, result.getCurrentStreak());
+        assertEquals(3, result.getTotalActiveDays());
+        assertEquals(0, result.currentStreakAsOf(start.plusDays(4)));
+    }
+}
@@ -0,0 +1,168 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.SyncChangesDTO;
+import com.fitnessapp.dto.SyncOperationResultDTO;
+import com.fitnessapp.dto.request.sync.SyncOperationRequest;
+import com.fitnessapp.dto.request.sync.SyncUploadRequest;
+import com.fitnessapp.entity.*;
+import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.repository.ExerciseSetRepository;
+import com.fitnessapp.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SyncServiceIntegrationTest {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private GoalService goalService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private ExerciseSetRepository exerciseSetRepository;
+
+    private Workout workout;
+    private WorkoutExercise workoutExercise;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("syncer");
+        user.setEmail("syncer@example.com");
+        user.setPassword("encoded");
+        userRepository.save(user);
+
+        Workout planned = new Workout();
+        planned.setName("Offline");
+        workout = workoutService.createWorkout("syncer", planned);
+
+        WorkoutExercise exercise = new WorkoutExercise();
+        exercise.setOrderIndex(0);
+        exercise.setPlannedSets(3);
+        workoutExercise = workoutService.addExerciseToWorkout("syncer", workout.getId(),
+                exerciseRepository.findAll().get(0).getId(), exercise);
+    }
+
+    @Test
+    void getChanges_NoToken_ReturnsEverythingForUser() {
+        SyncChangesDTO changes = syncService.getChanges("syncer", null);
+
+        assertEquals(List.of(workout.getId()), changes.getWorkouts().stream().map(Workout::getId).toList());
+        assertEquals(1, changes.getWorkoutExercises().size());
+        assertEquals(workout.getId(), changes.getWorkoutExercises().get(0).getWorkoutId());
+        assertFalse(changes.isHasMore());
+        assertFalse(changes.isFullResync());
+        assertNotNull(changes.getToken());
+    }
+
+    @Test
+    void getChanges_AfterDelete_ReturnsTombstone() {
+        String token = syncService.getChanges("syncer", null).getToken();
+
+        Goal goal = new Goal();
+        goal.setTitle("Run 5k");
+        goal.setType(Goal.GoalType.ENDURANCE);
+        Goal created = goalService.createGoal("syncer", goal);
+        goalService.deleteGoal("syncer", created.getId());
+
+        SyncChangesDTO changes = syncService.getChanges("syncer", token);
+
+        assertTrue(changes.getGoals().isEmpty());
+        assertEquals(1, changes.getDeleted().size());
+        assertEquals(SyncTombstone.EntityType.GOAL, changes.getDeleted().get(0).getEntityType());
+        assertEquals(created.getId(), changes.getDeleted().get(0).getEntityId());
+    }
+
+    @Test
+    void getChanges_TokenOlderThanRetention_RequestsFullResync() {
+        String ancient = SyncService.encodeToken(LocalDateTime.now().minusYears(1));
+
+        SyncChangesDTO changes = syncService.getChanges("syncer", ancient);
+
+        assertTrue(changes.isFullResync());
+        assertEquals(1, changes.getWorkouts().size());
+    }
+
+    @Test
+    void getChanges_MalformedToken_IsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> syncService.getChanges("syncer", "not-a-token"));
+    }
+
+    @Test
+    void applyChanges_ResolvesSetReferencesWithinUpload() {
+        List<SyncOperationResultDTO> results = syncService.applyChanges("syncer", upload(
+                operation(SyncOperationRequest.Type.START_WORKOUT),
+                operation(SyncOperationRequest.Type.START_EXERCISE),
+                logSet("set-1"),
+                completeSet("set-1")));
+
+        assertEquals(4, results.size());
+        Long setId = results.get(2).getEntityId();
+        assertEquals("set-1", results.get(2).getClientRef());
+        assertEquals(setId, results.get(3).getEntityId());
+        assertEquals(ExerciseSet.Status.COMPLETED, exerciseSetRepository.findById(setId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void applyChanges_FailingOperation_ReportsIndex() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () ->
+                syncService.applyChanges("syncer", upload(
+                        operation(SyncOperationRequest.Type.START_WORKOUT),
+                        completeSet("unknown"))));
+
+        assertTrue(error.getMessage().startsWith("Operation 1 (COMPLETE_SET)"));
+    }
+
+    private SyncOperationRequest operation(SyncOperationRequest.Type type) {
+        SyncOperationRequest operation = new SyncOperationRequest();
+        operation.setType(type);
+        operation.setWorkoutId(workout.getId());
+        operation.setWorkoutExerciseId(workoutExercise.getId());
+        return operation;
+    }
+
+    private SyncOperationRequest logSet(String clientRef) {
+        ExerciseSet set = new ExerciseSet();
+        set.setSetNumber(1);
+        set.setActualReps(5);
+        set.setActualWeight(60.0);
+
+        SyncOperationRequest operation = operation(SyncOperationRequest.Type.LOG_SET);
+        operation.setClientRef(clientRef);
+        operation.setSet(set);
+        return operation;
+    }
+
+    private static SyncOperationRequest completeSet(String setRef) {
+        SyncOperationRequest operation = new SyncOperationRequest();
+        operation.setType(SyncOperationRequest.Type.COMPLETE_SET);
+        operation.setSetRef(setRef);
+        return operation;
+    }
+
+    private static SyncUploadRequest upload(SyncOperationRequest... operations) {
+        return new SyncUploadRequest(List.of(operations));
+    }
+}
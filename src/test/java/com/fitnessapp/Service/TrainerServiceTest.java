@@ -0,0 +1,159 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.ClientDTO;
+import com.fitnessapp.dto.ClientSummaryDTO;
+import com.fitnessapp.dto.TrainerDashboardDTO;
+import com.fitnessapp.entity.Goal;
+import com.fitnessapp.entity.TrainerClient;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.UserProgress;
+import com.fitnessapp.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerServiceTest {
+
+    @Mock
+    private TrainerClientRepository trainerClientRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WorkoutRepository workoutRepository;
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    @Mock
+    private UserProgressRepository userProgressRepository;
+
+    private TrainerService trainerService;
+
+    private User trainer;
+
+    @BeforeEach
+    void setUp() {
+        trainerService = new TrainerService(trainerClientRepository, userRepository, workoutRepository,
+                goalRepository, userProgressRepository);
+
+        trainer = user(1L, "coach");
+        trainer.setRole(User.Role.TRAINER);
+        when(userRepository.findByUsername("coach")).thenReturn(Optional.of(trainer));
+    }
+
+    @Test
+    void getDashboard_AggregatesAllClientsWithBatchedQueries() {
+        User alice = user(2L, "alice");
+        User bob = user(3L, "bob");
+        when(trainerClientRepository.findClientsByTrainerId(1L)).thenReturn(List.of(alice, bob));
+
+        LocalDateTime lastWorkout = LocalDateTime.now().minusDays(1);
+        when(workoutRepository.findLastCompletedByUsers(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 10L, "Push Day", lastWorkout, 45}));
+        when(workoutRepository.countCompletedByUsersBetween(anyCollection(), any(), any()))
+                .thenReturn(List.<Object[]>of(new Object[]{2L, 3L}));
+
+        Goal goal = new Goal();
+        goal.setId(30L);
+        goal.setUser(bob);
+        goal.setTitle("Run 5k");
+        when(goalRepository.findActiveGoalsByUsers(anyCollection())).thenReturn(List.of(goal));
+
+        UserProgress older = progress(20L, alice, 80.0);
+        UserProgress newer = progress(21L, alice, 79.5);
+        when(userProgressRepository.findLatestByUsers(anyCollection())).thenReturn(List.of(older, newer));
+
+        TrainerDashboardDTO dashboard = trainerService.getDashboard("coach");
+
+        assertEquals(2, dashboard.getClientCount());
+        assertEquals(1, dashboard.getActiveThisWeek());
+
+        ClientSummaryDTO aliceSummary = dashboard.getClients().get(0);
+        assertEquals("Push Day", aliceSummary.getLastWorkoutName());
+        assertEquals(3L, aliceSummary.getSessionsThisWeek());
+        assertEquals(79.5, aliceSummary.getLatestProgress().getWeightKg());
+        assertTrue(aliceSummary.getActiveGoals().isEmpty());
+
+        ClientSummaryDTO bobSummary = dashboard.getClients().get(1);
+        assertNull(bobSummary.getLastWorkoutId());
+        assertEquals(0L, bobSummary.getSessionsThisWeek());
+        assertEquals(1, bobSummary.getActiveGoals().size());
+        assertEquals(30L, bobSummary.getActiveGoals().get(0).getId());
+        assertEquals("Run 5k", bobSummary.getActiveGoals().get(0).getTitle());
+
+        verify(workoutRepository, times(1)).findLastCompletedByUsers(anyCollection());
+        verify(goalRepository, times(1)).findActiveGoalsByUsers(anyCollection());
+        verify(userProgressRepository, times(1)).findLatestByUsers(anyCollection());
+    }
+
+    @Test
+    void getClients_ReturnsOnlyTheRoster() {
+        User alice = user(2L, "alice");
+        alice.setEmail("alice@example.com");
+        TrainerClient entry = new TrainerClient();
+        entry.setTrainer(trainer);
+        entry.setClient(alice);
+        Pageable pageable = PageRequest.of(0, 20);
+        when(trainerClientRepository.findRosterByTrainerId(1L, pageable))
+                .thenReturn(new PageImpl<>(List.of(entry), pageable, 1));
+
+        Page<ClientDTO> clients = trainerService.getClients("coach", pageable);
+
+        assertEquals(1, clients.getTotalElements());
+        ClientDTO client = clients.getContent().get(0);
+        assertEquals(2L, client.getId());
+        assertEquals("alice@example.com", client.getEmail());
+        assertEquals(entry.getCreatedAt(), client.getAddedAt());
+        verify(userRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getClient_NotInRoster_ThrowsException() {
+        when(trainerClientRepository.findRosterEntry(1L, 5L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> trainerService.getClient("coach", 5L));
+    }
+
+    @Test
+    void getClientProgress_ClientNotInRoster_ThrowsException() {
+        when(trainerClientRepository.existsByTrainerIdAndClientId(1L, 5L)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> trainerService.getClientProgress("coach", 5L, null));
+        verifyNoInteractions(userProgressRepository);
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+
+    private static UserProgress progress(Long id, User user, Double weightKg) {
+        UserProgress progress = new UserProgress();
+        progress.setId(id);
+        progress.setUser(user);
+        progress.setMeasurementDate(LocalDate.now());
+        progress.setWeightKg(weightKg);
+        return progress;
+    }
+}
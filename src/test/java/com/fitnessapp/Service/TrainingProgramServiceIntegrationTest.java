@@ -0,0 +1,127 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.request.program.CreateTrainingProgramRequest;
+import com.fitnessapp.dto.request.program.ProgramSessionRequest;
+import com.fitnessapp.dto.request.template.CreateWorkoutTemplateRequest;
+import com.fitnessapp.dto.request.template.TemplateExerciseRequest;
+import com.fitnessapp.entity.*;
+import com.fitnessapp.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class TrainingProgramServiceIntegrationTest {
+
+    @Autowired
+    private TrainingProgramService trainingProgramService;
+
+    @Autowired
+    private ProgramSchedulingService programSchedulingService;
+
+    @Autowired
+    private WorkoutTemplateService workoutTemplateService;
+
+    @Autowired
+    private TrainerService trainerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User client;
+    private TrainingProgram program;
+
+    @BeforeEach
+    void setUp() {
+        saveUser("coach", User.Role.TRAINER);
+        client = saveUser("alice", User.Role.USER);
+        trainerService.addClient("coach", client.getId());
+
+        Exercise exercise = exerciseRepository.findAll().get(0);
+        WorkoutTemplate template = workoutTemplateService.createTemplate("coach", new CreateWorkoutTemplateRequest(
+                "Squat Day", null, List.of(new TemplateExerciseRequest(exercise.getId(), 5, 5, 100.0, null, null, 180, null))));
+
+        LocalDate today = LocalDate.now();
+        program = trainingProgramService.createProgram("coach", new CreateTrainingProgramRequest(
+                "Linear Progression", null, 4, 5.0, null, 1,
+                List.of(new ProgramSessionRequest(null, today.getDayOfWeek(), template.getId()),
+                        new ProgramSessionRequest(null, today.plusDays(1).getDayOfWeek(), template.getId()))));
+    }
+
+    @Test
+    void enroll_MaterialisesOnlyTheRollingWindowWithProgression() {
+        LocalDate today = LocalDate.now();
+        // Started a week ago, so today is in program week 2 and the program ends in 20 days
+        trainingProgramService.enroll("coach", program.getId(), null, today.minusWeeks(1));
+
+        List<Workout> workouts = plannedWorkouts();
+        assertEquals(4, workouts.size());
+        assertEquals(today.atStartOfDay(), workouts.get(0).getScheduledDate());
+
+        WorkoutExercise weekTwo = workoutExerciseRepository.findByWorkoutOrderByOrderIndexAsc(workouts.get(0)).get(0);
+        assertEquals(105.0, weekTwo.getPlannedWeight());
+        assertEquals(6, weekTwo.getPlannedReps());
+
+        // Re-running for the same day adds nothing; a week later only the remaining program days are added
+        programSchedulingService.materializeDueEnrollments();
+        entityManager.clear();
+        assertEquals(4, plannedWorkouts().size());
+
+        programSchedulingService.materialize(entityManager
+                .createQuery("SELECT e FROM ProgramEnrollment e", ProgramEnrollment.class).getResultList(), today.plusWeeks(1));
+        entityManager.clear();
+        assertEquals(6, plannedWorkouts().size());
+    }
+
+    @Test
+    void cancelEnrollment_RemovesFuturePlannedWorkouts() {
+        ProgramEnrollment enrollment = trainingProgramService.enroll("coach", program.getId(), null, LocalDate.now()).get(0);
+
+        trainingProgramService.cancelEnrollment("coach", enrollment.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertTrue(plannedWorkouts().isEmpty());
+    }
+
+    private List<Workout> plannedWorkouts() {
+        return workoutRepository.findByUserOrderByCreatedAtDesc(client, Pageable.unpaged()).getContent().stream()
+                .filter(workout -> workout.getStatus() == Workout.Status.PLANNED)
+                .sorted(Comparator.comparing(Workout::getScheduledDate))
+                .toList();
+    }
+
+    private User saveUser(String username, User.Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("encoded");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,153 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.WorkoutActivityDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class WorkoutEventHubTest {
+
+    private WorkoutEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new WorkoutEventHub(3, Duration.ofMinutes(30), Duration.ofSeconds(3), Duration.ofMinutes(30), 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void replay_FromLastEventId_ReturnsOnlyMissedEvents() {
+        hub.publish(activity(WorkoutActivityDTO.Type.WORKOUT_STARTED));
+        String seen = hub.lastEventId(1L);
+        hub.publish(activity(WorkoutActivityDTO.Type.EXERCISE_STARTED));
+        hub.publish(activity(WorkoutActivityDTO.Type.SET_LOGGED));
+
+        List<WorkoutActivityDTO> missed = hub.replay(1L, seen);
+
+        assertEquals(List.of(WorkoutActivityDTO.Type.EXERCISE_STARTED, WorkoutActivityDTO.Type.SET_LOGGED),
+                missed.stream().map(WorkoutActivityDTO::getType).toList());
+        assertTrue(hub.replay(1L, hub.lastEventId(1L)).isEmpty());
+        assertTrue(hub.replay(1L, null).isEmpty());
+    }
+
+    @Test
+    void replay_IdOlderThanBuffer_RequiresResync() {
+        hub.publish(activity(WorkoutActivityDTO.Type.WORKOUT_STARTED));
+        String seen = hub.lastEventId(1L);
+        for (int i = 0; i < 4; i++) {
+            hub.publish(activity(WorkoutActivityDTO.Type.SET_COMPLETED));
+        }
+
+        assertNull(hub.replay(1L, seen));
+    }
+
+    @Test
+    void replay_IdFromAnotherEpochOrMalformed_RequiresResync() {
+        hub.publish(activity(WorkoutActivityDTO.Type.WORKOUT_STARTED));
+
+        assertNull(hub.replay(1L, "previous-1"));
+        assertNull(hub.replay(1L, "garbage"));
+    }
+
+    @Test
+    void subscribe_StreamsPublishedEventsAndResumesFromLastEventId() throws Exception {
+        StreamController controller = new StreamController(hub);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        MvcResult live = mockMvc.perform(get("/workouts/1/events")).andExpect(request().asyncStarted()).andReturn();
+        hub.publish(activity(WorkoutActivityDTO.Type.WORKOUT_STARTED));
+        String received = awaitContent(live, data("WORKOUT_STARTED"));
+        assertTrue(received.contains("event:WORKOUT_STARTED"));
+        String seen = hub.lastEventId(1L);
+        assertTrue(received.contains("id:" + seen));
+
+        // Published while the second client is disconnected
+        hub.publish(activity(WorkoutActivityDTO.Type.EXERCISE_STARTED));
+        hub.publish(activity(WorkoutActivityDTO.Type.SET_LOGGED));
+
+        MvcResult resumed = mockMvc.perform(get("/workouts/1/events").header("Last-Event-ID", seen))
+                .andExpect(request().asyncStarted()).andReturn();
+        String replayed = awaitContent(resumed, data("SET_LOGGED"));
+        assertFalse(replayed.contains(data("WORKOUT_STARTED")));
+        int exerciseStarted = replayed.indexOf(data("EXERCISE_STARTED"));
+        assertTrue(exerciseStarted >= 0 && exerciseStarted < replayed.indexOf(data("SET_LOGGED")), replayed);
+        awaitContent(live, data("SET_LOGGED"));
+        assertEquals(2, hub.getSubscriberCount());
+
+        // A send to a closed emitter drops only that subscriber
+        controller.lastEmitter.complete();
+        hub.publish(activity(WorkoutActivityDTO.Type.SET_COMPLETED));
+        awaitContent(live, data("SET_COMPLETED"));
+        for (int attempt = 0; attempt < 50 && hub.getSubscriberCount() > 1; attempt++) {
+            Thread.sleep(100);
+        }
+        assertEquals(1, hub.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_UnknownLastEventId_SendsResync() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(hub)).build();
+
+        MvcResult result = mockMvc.perform(get("/workouts/1/events").header("Last-Event-ID", "previous-7"))
+                .andExpect(request().asyncStarted()).andReturn();
+
+        awaitContent(result, "event:" + WorkoutEventHub.RESYNC_EVENT);
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        String content = "";
+        for (int attempt = 0; attempt < 50 && !content.contains(expected); attempt++) {
+            Thread.sleep(100);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), "expected " + expected + " in:\n" + content);
+        return content;
+    }
+
+    // Event payloads arrive after their id and name lines, so wait for the data itself
+    private static String data(String type) {
+        return "\"type\":\"" + type + "\",\"workoutId\":1";
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final WorkoutEventHub hub;
+        private volatile SseEmitter lastEmitter;
+
+        StreamController(WorkoutEventHub hub) {
+            this.hub = hub;
+        }
+
+        @GetMapping(value = "/workouts/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        SseEmitter events(@PathVariable Long id,
+                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+            lastEmitter = hub.subscribe(id, lastEventId);
+            return lastEmitter;
+        }
+    }
+
+    private static WorkoutActivityDTO activity(WorkoutActivityDTO.Type type) {
+        return new WorkoutActivityDTO(type, 1L);
+    }
+}
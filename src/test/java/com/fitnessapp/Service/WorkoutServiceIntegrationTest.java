@@ -0,0 +1,167 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.entity.*;
+import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.WorkoutExerciseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class WorkoutServiceIntegrationTest {
+
+    @Autowired
+    private WorkoutService workoutService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Workout workout;
+    private WorkoutExercise workoutExercise;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("counter");
+        user.setEmail("counter@example.com");
+        user.setPassword("encoded");
+        userRepository.save(user);
+
+        Workout planned = new Workout();
+        planned.setName("Counter");
+        workout = workoutService.createWorkout("counter", planned);
+
+        WorkoutExercise exercise = new WorkoutExercise();
+        exercise.setOrderIndex(0);
+        exercise.setPlannedSets(2);
+        exercise.setPlannedReps(5);
+        workoutExercise = workoutService.addExerciseToWorkout("counter", workout.getId(),
+                exerciseRepository.findAll().get(0).getId(), exercise);
+    }
+
+    @Test
+    void completeSet_CountsCompletionsAndAutoCompletesAtPlannedSets() {
+        workoutService.startExercise("counter", workout.getId(), workoutExercise.getId());
+        ExerciseSet first = workoutService.logSet("counter", workoutExercise.getId(), set(1));
+        ExerciseSet second = workoutService.logSet("counter", workoutExercise.getId(), set(2));
+
+        workoutService.completeSet("counter", first.getId());
+        // Completing the same set again must not count twice
+        workoutService.completeSet("counter", first.getId());
+        assertEquals(1, completedSets());
+        assertEquals("IN_PROGRESS", exerciseStatus());
+
+        workoutService.completeSet("counter", second.getId());
+        assertEquals(2, completedSets());
+        assertEquals("COMPLETED", exerciseStatus());
+    }
+
+    @Test
+    void fixWorkoutStatusInconsistency_RecountsDriftedCounter() {
+        workoutService.startExercise("counter", workout.getId(), workoutExercise.getId());
+        ExerciseSet first = workoutService.logSet("counter", workoutExercise.getId(), set(1));
+        workoutService.completeSet("counter", first.getId());
+        jdbcTemplate.update("UPDATE workout_exercises SET completed_sets = 7 WHERE id = ?", workoutExercise.getId());
+
+        workoutService.fixWorkoutStatusInconsistency("counter", workout.getId());
+
+        assertEquals(1, completedSets());
+    }
+
+    @Test
+    void completeWorkout_SecondCompletion_IsRejected() {
+        workoutService.startWorkout("counter", workout.getId());
+        Workout completed = workoutService.completeWorkout("counter", workout.getId());
+
+        assertEquals(Workout.Status.COMPLETED, completed.getStatus());
+        assertEquals("COMPLETED", exerciseStatus());
+        assertThrows(IllegalStateException.class, () -> workoutService.completeWorkout("counter", workout.getId()));
+    }
+
+    @Test
+    void transitions_RepeatedRequests_AreCountedOnce() {
+        double setsCompleted = transitions("set_completed");
+        double exercisesStarted = transitions("exercise_started");
+        double exercisesCompleted = transitions("exercise_completed");
+
+        workoutService.startExercise("counter", workout.getId(), workoutExercise.getId());
+        workoutService.startExercise("counter", workout.getId(), workoutExercise.getId());
+        ExerciseSet first = workoutService.logSet("counter", workoutExercise.getId(), set(1));
+        workoutService.completeSet("counter", first.getId());
+        workoutService.completeSet("counter", first.getId());
+        workoutService.completeExercise("counter", workout.getId(), workoutExercise.getId());
+        workoutService.completeExercise("counter", workout.getId(), workoutExercise.getId());
+
+        assertEquals(1, transitions("set_completed") - setsCompleted);
+        assertEquals(1, transitions("exercise_started") - exercisesStarted);
+        assertEquals(1, transitions("exercise_completed") - exercisesCompleted);
+    }
+
+    @Test
+    void save_StaleVersion_FailsOptimisticLock() {
+        entityManager.flush();
+        entityManager.clear();
+        WorkoutExercise stale = workoutExerciseRepository.findById(workoutExercise.getId()).orElseThrow();
+        entityManager.detach(stale);
+
+        // Another device moves the exercise on, which bumps the version
+        workoutService.startExercise("counter", workout.getId(), workoutExercise.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        stale.setNotes("edited on a stale copy");
+        assertThrows(OptimisticLockingFailureException.class, () -> {
+            workoutExerciseRepository.save(stale);
+            entityManager.flush();
+        });
+    }
+
+    private double transitions(String transition) {
+        return meterRegistry.counter(WorkoutService.TRANSITIONS_METRIC, "transition", transition).count();
+    }
+
+    private int completedSets() {
+        return jdbcTemplate.queryForObject("SELECT completed_sets FROM workout_exercises WHERE id = ?", Integer.class,
+                workoutExercise.getId());
+    }
+
+    private String exerciseStatus() {
+        return jdbcTemplate.queryForObject("SELECT status FROM workout_exercises WHERE id = ?", String.class,
+                workoutExercise.getId());
+    }
+
+    private static ExerciseSet set(int number) {
+        ExerciseSet set = new ExerciseSet();
+        set.setSetNumber(number);
+        set.setActualReps(5);
+        set.setActualWeight(60.0);
+        return set;
+    }
+}
@@ -0,0 +1,109 @@
+package com.fitnessapp.service;
+
+import com.fitnessapp.dto.TemplateAssignmentDTO;
+import com.fitnessapp.dto.request.template.CreateWorkoutTemplateRequest;
+import com.fitnessapp.dto.request.template.TemplateExerciseRequest;
+import com.fitnessapp.entity.Exercise;
+import com.fitnessapp.entity.User;
+import com.fitnessapp.entity.Workout;
+import com.fitnessapp.entity.WorkoutExercise;
+import com.fitnessapp.entity.WorkoutTemplate;
+import com.fitnessapp.repository.ExerciseRepository;
+import com.fitnessapp.repository.UserRepository;
+import com.fitnessapp.repository.WorkoutExerciseRepository;
+import com.fitnessapp.repository.WorkoutRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class WorkoutTemplateServiceIntegrationTest {
+
+    @Autowired
+    private WorkoutTemplateService workoutTemplateService;
+
+    @Autowired
+    private TrainerService trainerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutExerciseRepository workoutExerciseRepository;
+
+    private User alice;
+    private User bob;
+
+    @BeforeEach
+    void setUp() {
+        User trainer = saveUser("coach", User.Role.TRAINER);
+        alice = saveUser("alice", User.Role.USER);
+        bob = saveUser("bob", User.Role.USER);
+        trainerService.addClient(trainer.getUsername(), alice.getId());
+        trainerService.addClient(trainer.getUsername(), bob.getId());
+    }
+
+    @Test
+    void assignTemplate_WholeRoster_ClonesWorkoutsAndExercises() {
+        List<Exercise> exercises = exerciseRepository.findAll().subList(0, 2);
+        CreateWorkoutTemplateRequest request = new CreateWorkoutTemplateRequest("Full Body", "Week 1", List.of(
+                new TemplateExerciseRequest(exercises.get(0).getId(), 3, 10, 50.0, null, null, 90, null),
+                new TemplateExerciseRequest(exercises.get(1).getId(), 4, 8, 20.0, null, null, 60, null)));
+        WorkoutTemplate template = workoutTemplateService.createTemplate("coach", request);
+
+        LocalDateTime scheduledDate = LocalDateTime.now().plusDays(1).withNano(0);
+        TemplateAssignmentDTO assignment = workoutTemplateService.assignTemplate("coach", template.getId(), null, scheduledDate);
+
+        assertEquals(2, assignment.getWorkoutsCreated());
+        assertEquals(4, assignment.getExercisesCreated());
+
+        Workout workout = workoutRepository.findByUserOrderByCreatedAtDesc(alice, Pageable.unpaged()).getContent().get(0);
+        assertEquals("Full Body", workout.getName());
+        assertEquals(Workout.Status.PLANNED, workout.getStatus());
+        assertEquals(scheduledDate, workout.getScheduledDate());
+        assertEquals(assignment.getAssignmentId(), workout.getAssignmentId());
+
+        List<WorkoutExercise> cloned = workoutExerciseRepository.findByWorkoutOrderByOrderIndexAsc(workout);
+        assertEquals(2, cloned.size());
+        assertEquals(exercises.get(1).getId(), cloned.get(1).getExercise().getId());
+        assertEquals(8, cloned.get(1).getPlannedReps());
+        assertEquals(WorkoutExercise.Status.PENDING, cloned.get(1).getStatus());
+    }
+
+    @Test
+    void assignTemplate_ClientOutsideRoster_ThrowsException() {
+        Exercise exercise = exerciseRepository.findAll().get(0);
+        WorkoutTemplate template = workoutTemplateService.createTemplate("coach", new CreateWorkoutTemplateRequest(
+                "Solo", null, List.of(new TemplateExerciseRequest(exercise.getId(), 3, 10, null, null, null, null, null))));
+        User stranger = saveUser("stranger", User.Role.USER);
+
+        assertThrows(IllegalArgumentException.class, () -> workoutTemplateService.assignTemplate(
+                "coach", template.getId(), List.of(alice.getId(), stranger.getId()), null));
+    }
+
+    private User saveUser(String username, User.Role role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("encoded");
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,149 @@
+package com.fitnessapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RankedScoreboardTest {
+
+    private final RankedScoreboard board = new RankedScoreboard();
+
+    @Test
+    void put_RanksHighestScoreFirst() {
+        board.put(1, 50);
+        board.put(2, 80);
+        board.put(3, 65);
+
+        assertEquals(List.of(Map.entry(2L, 80.0), Map.entry(3L, 65.0), Map.entry(1L, 50.0)), board.top(10));
+        assertEquals(1, board.rank(2));
+        assertEquals(2, board.rank(3));
+        assertEquals(3, board.rank(1));
+        assertEquals(3, board.size());
+    }
+
+    @Test
+    void equalScores_RankByLowestMemberId() {
+        board.put(7, 100);
+        board.put(3, 100);
+        board.put(5, 100);
+        board.put(9, 120);
+
+        assertEquals(List.of(9L, 3L, 5L, 7L), board.top(10).stream().map(Map.Entry::getKey).toList());
+        assertEquals(2, board.rank(3));
+        assertEquals(4, board.rank(7));
+    }
+
+    @Test
+    void top_StopsAtLimit() {
+        for (long member = 1; member <= 20; member++) {
+            board.put(member, member);
+        }
+
+        assertEquals(List.of(20L, 19L, 18L), board.top(3).stream().map(Map.Entry::getKey).toList());
+        assertTrue(new RankedScoreboard().top(5).isEmpty());
+    }
+
+    @Test
+    void put_ExistingMember_MovesItWithoutDuplicating() {
+        board.put(1, 10);
+        board.put(2, 20);
+        board.put(3, 30);
+
+        board.put(1, 40);
+
+        assertEquals(3, board.size());
+        assertEquals(1, board.rank(1));
+        assertEquals(40.0, board.score(1));
+        assertEquals(List.of(1L, 3L, 2L), board.top(10).stream().map(Map.Entry::getKey).toList());
+
+        board.put(1, 5);
+
+        assertEquals(3, board.rank(1));
+        assertEquals(3, board.top(10).size());
+    }
+
+    @Test
+    void putIfHigher_KeepsTheBestScore() {
+        board.putIfHigher(1, 100);
+        board.putIfHigher(1, 90);
+        assertEquals(100.0, board.score(1));
+
+        board.putIfHigher(1, 110);
+        assertEquals(110.0, board.score(1));
+        assertEquals(1, board.size());
+    }
+
+    @Test
+    void increment_AddsToTheScoreOrStartsFromZero() {
+        board.increment(1, 500);
+        board.increment(2, 300);
+        board.increment(2, 400);
+
+        assertEquals(500.0, board.score(1));
+        assertEquals(700.0, board.score(2));
+        assertEquals(1, board.rank(2));
+    }
+
+    @Test
+    void remove_TakesMemberOffTheBoard() {
+        board.put(1, 10);
+        board.put(2, 20);
+        board.put(3, 30);
+
+        assertTrue(board.remove(2));
+        assertFalse(board.remove(2));
+
+        assertEquals(0, board.rank(2));
+        assertNull(board.score(2));
+        assertEquals(2, board.size());
+        assertEquals(List.of(3L, 1L), board.top(10).stream().map(Map.Entry::getKey).toList());
+        assertEquals(2, board.rank(1));
+    }
+
+    @Test
+    void rank_UnknownMember_IsZero() {
+        board.put(1, 10);
+
+        assertEquals(0, board.rank(99));
+    }
+
+    @Test
+    void randomUpdates_MatchASortedCopy() {
+        Random random = new Random(42);
+        Map<Long, Double> expected = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long member = random.nextInt(300);
+            double score = random.nextInt(50);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    board.put(member, score);
+                    expected.put(member, score);
+                }
+                case 1 -> {
+                    board.putIfHigher(member, score);
+                    expected.merge(member, score, Math::max);
+                }
+                case 2 -> {
+                    board.increment(member, score);
+                    expected.merge(member, score, Double::sum);
+                }
+                default -> assertEquals(expected.remove(member) != null, board.remove(member));
+            }
+        }
+
+        List<Map.Entry<Long, Double>> sorted = expected.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+        assertEquals(sorted, board.top(expected.size() + 1));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i + 1, board.rank(sorted.get(i).getKey()));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.fitnessapp.web;
+
+import com.fitnessapp.config.JacksonConfig;
+import com.fitnessapp.dto.ExerciseDTO;
+import com.fitnessapp.dto.SyncChangesDTO;
+import com.fitnessapp.dto.WorkoutExerciseDTO;
+import com.fitnessapp.entity.Workout;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.http.MediaType;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DtoJsonHttpMessageConverterTest {
+
+    private final DtoJsonHttpMessageConverter converter =
+            new DtoJsonHttpMessageConverter(new JacksonConfig().dtoObjectMapper());
+
+    @Test
+    void canWrite_EntityFreeDtos() {
+        assertTrue(canWrite(new ParameterizedTypeReference<List<WorkoutExerciseDTO>>() {}.getType(), ArrayList.class));
+        assertTrue(canWrite(new ParameterizedTypeReference<Page<ExerciseDTO>>() {}.getType(), PageImpl.class));
+        assertTrue(canWrite(ExerciseDTO.class, ExerciseDTO.class));
+    }
+
+    @Test
+    void canWrite_DeclinesAnythingThatMayHoldAnEntity() {
+        assertFalse(canWrite(Workout.class, Workout.class));
+        assertFalse(canWrite(new ParameterizedTypeReference<Page<Workout>>() {}.getType(), PageImpl.class));
+        assertFalse(canWrite(SyncChangesDTO.class, SyncChangesDTO.class));
+        assertFalse(canWrite(new ParameterizedTypeReference<Map<String, Object>>() {}.getType(), HashMap.class));
+    }
+
+    @Test
+    void canWrite_WithoutDeclaredType_JudgesTheValueClass() {
+        // Actuator passes ResolvableType.NONE for operations that return nothing
+        assertTrue(canWrite(ResolvableType.NONE.getType(), ExerciseDTO.class));
+        assertFalse(canWrite(ResolvableType.NONE.getType(), Workout.class));
+    }
+
+    @Test
+    void canRead_AlwaysDeclines() {
+        assertFalse(converter.canRead(ExerciseDTO.class, MediaType.APPLICATION_JSON));
+    }
+
+    private boolean canWrite(Type declaredType, Class<?> valueClass) {
+        return converter.canWrite(declaredType, valueClass, MediaType.APPLICATION_JSON);
+    }
+}
@@ -0,0 +1,92 @@
+package com.fitnessapp.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitnessapp.service.InMemoryIdempotencyStore;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyKeyFilterTest {
+
+    private IdempotencyKeyFilter filter;
+    private AtomicInteger executions;
+    private int responseStatus;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyKeyFilter(new InMemoryIdempotencyStore(Duration.ofHours(1), 100), new ObjectMapper().findAndRegisterModules());
+        executions = new AtomicInteger();
+        responseStatus = 201;
+    }
+
+    @Test
+    void retryWithSameKey_IsReplayedWithoutExecuting() throws Exception {
+        MockHttpServletResponse first = perform("key-1", "{\"setNumber\":1}");
+        MockHttpServletResponse retry = perform("key-1", "{\"setNumber\":1}");
+
+        assertEquals(1, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("true", retry.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void sameKeyDifferentBody_IsRejected() throws Exception {
+        perform("key-1", "{\"setNumber\":1}");
+        MockHttpServletResponse reused = perform("key-1", "{\"setNumber\":2}");
+
+        assertEquals(1, executions.get());
+        assertEquals(422, reused.getStatus());
+    }
+
+    @Test
+    void serverError_IsNotRemembered() throws Exception {
+        responseStatus = 500;
+        perform("key-1", "{}");
+        responseStatus = 201;
+        MockHttpServletResponse retry = perform("key-1", "{}");
+
+        assertEquals(2, executions.get());
+        assertEquals(201, retry.getStatus());
+    }
+
+    @Test
+    void requestWithoutKey_AlwaysExecutes() throws Exception {
+        perform(null, "{}");
+        perform(null, "{}");
+
+        assertEquals(2, executions.get());
+    }
+
+    private MockHttpServletResponse perform(String key, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/workouts/exercises/7/sets");
+        request.setContent(body.getBytes());
+        if (key != null) {
+            request.addHeader(IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                int execution = executions.incrementAndGet();
+                resp.setStatus(responseStatus);
+                resp.setContentType("application/json");
+                resp.getWriter().write("{\"execution\":" + execution + ",\"echo\":" + new String(req.getInputStream().readAllBytes()) + "}");
+            }
+        };
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+        return response;
+    }
+}
@@ -0,0 +1,73 @@
+package com.fitnessapp.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.resource.HttpResource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticAssetResolverTest {
+
+    private static final String SCRIPT = "static/js/main.1a2b3c4d.js";
+
+    private StaticAssetIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new StaticAssetIndex("classpath:/static-assets-test/");
+    }
+
+    @Test
+    void index_LoadsFilesAndAttachesEncodedVariants() {
+        StaticAssetIndex.Asset script = index.find(SCRIPT);
+
+        assertEquals(2, index.size());
+        assertNotNull(script.brotli());
+        assertNotNull(script.gzip());
+        assertTrue(script.gzip().length < script.identity().length);
+        assertNull(index.find(SCRIPT + ".br"));
+    }
+
+    @Test
+    void resolve_PrefersBrotliThenGzip() {
+        assertEquals("br", encodingOf(resolve("/static/", "js/main.1a2b3c4d.js", "gzip, deflate, br")));
+        assertEquals("gzip", encodingOf(resolve("/static/", "js/main.1a2b3c4d.js", "gzip, br;q=0")));
+        assertNull(encodingOf(resolve("/static/", "js/main.1a2b3c4d.js", null)));
+    }
+
+    @Test
+    void resolve_EtagDiffersPerEncoding() {
+        String identity = StaticAssetResolver.etagOf(resolve("/static/", "js/main.1a2b3c4d.js", null));
+        String brotli = StaticAssetResolver.etagOf(resolve("/static/", "js/main.1a2b3c4d.js", "br"));
+
+        assertNotNull(identity);
+        assertNotEquals(identity, brotli);
+    }
+
+    @Test
+    void resolve_UnknownRoute_FallsBackToIndexOnlyOutsideApiAndStatic() {
+        assertEquals("index.html", resolve("", "workouts/12", null).getFilename());
+        assertNull(resolve("", "api/unknown", null));
+        assertNull(resolve("/static/", "js/missing.js", null));
+    }
+
+    private Resource resolve(String handler, String path, String acceptEncoding) {
+        boolean root = handler.isEmpty();
+        StaticAssetResolver resolver = new StaticAssetResolver(index, root ? "" : "static/", root);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", handler + path);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return resolver.resolveResource(request, path, List.of(), null);
+    }
+
+    private static String encodingOf(Resource resource) {
+        return ((HttpResource) resource).getResponseHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    }
+}
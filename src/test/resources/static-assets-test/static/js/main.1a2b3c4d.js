@@ -0,0 +1,200 @@
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");
+console.log("fitness");